@@ -2,6 +2,9 @@ package com.navercorp.arcus.spring;
 
 import com.navercorp.arcus.spring.cache.ArcusCacheConfiguration;
 import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+import com.navercorp.arcus.spring.cache.tracing.ArcusCacheTracer;
+
+import java.util.concurrent.Executor;
 
 import net.spy.memcached.transcoders.Transcoder;
 
@@ -30,6 +33,43 @@ public class ArcusCacheConfigurationFactoryBean implements FactoryBean<ArcusCach
   private boolean forceFrontCaching;
   private boolean wantToGetException = DEFAULT_WANT_TO_GET_EXCEPTION;
   private boolean allowNullValues = DEFAULT_ALLOW_NULL_VALUES;
+  @Nullable
+  private Executor asyncExecutor;
+  private boolean singleFlightLoading;
+  private long singleFlightMaxWaitMilliSeconds;
+  private int loadingLeaseSeconds;
+  private long loadingLeaseMaxWaitMilliSeconds;
+  private int staleWhileRevalidateSeconds;
+  private double earlyRecomputationBeta;
+  private int expireJitterSeconds;
+  private int expireJitterPercent;
+  private int frontExpireJitterSeconds;
+  private int frontExpireJitterPercent;
+  @Nullable
+  private Integer nullValueExpireSeconds;
+  @Nullable
+  private Integer nullValueFrontExpireSeconds;
+  private boolean compactNullValue;
+  private long generationCheckIntervalMilliSeconds;
+  private long frontCacheInvalidationPollIntervalMilliSeconds;
+  private boolean frontExpireByRemainingTime;
+  @Nullable
+  private ArcusCacheTracer tracer;
+  private int circuitBreakerFailureRateThreshold;
+  private int circuitBreakerWindowSize;
+  private long circuitBreakerOpenMilliSeconds;
+  private double adaptiveTimeoutPercentile;
+  private double adaptiveTimeoutMultiplier;
+  private long adaptiveTimeoutMinMilliSeconds;
+  private long adaptiveTimeoutMaxMilliSeconds;
+  private long lookupBatchingWindowMicroSeconds;
+  private int lookupBatchingMaxKeys;
+  private int writeBehindCapacity;
+  private int writeBehindBatchSize;
+  private long writeBehindFlushIntervalMilliSeconds;
+  private int staleSetLeaseSeconds;
+  private int computeMaxRetries = 10;
+  private long computeBackoffMilliSeconds = 1L;
 
   @Override
   public ArcusCacheConfiguration getObject() {
@@ -40,12 +80,22 @@ public class ArcusCacheConfigurationFactoryBean implements FactoryBean<ArcusCach
     if (prefix != null) {
       arcusCacheConfiguration.withPrefix(prefix);
     }
+    if (expireJitterSeconds > 0) {
+      arcusCacheConfiguration.withExpireJitterSeconds(expireJitterSeconds);
+    } else {
+      arcusCacheConfiguration.withExpireJitterPercent(expireJitterPercent);
+    }
     if (operationTranscoder != null) {
       arcusCacheConfiguration.withOperationTranscoder(operationTranscoder);
     }
     if (arcusFrontCache != null) {
       arcusCacheConfiguration.withArcusFrontCache(arcusFrontCache)
               .withFrontExpireSeconds(frontExpireSeconds);
+      if (frontExpireJitterSeconds > 0) {
+        arcusCacheConfiguration.withFrontExpireJitterSeconds(frontExpireJitterSeconds);
+      } else {
+        arcusCacheConfiguration.withFrontExpireJitterPercent(frontExpireJitterPercent);
+      }
       if (forceFrontCaching) {
         arcusCacheConfiguration.enableForcingFrontCache();
       }
@@ -56,6 +106,61 @@ public class ArcusCacheConfigurationFactoryBean implements FactoryBean<ArcusCach
     if (!allowNullValues) {
       arcusCacheConfiguration.disableCachingNullValues();
     }
+    if (nullValueExpireSeconds != null) {
+      arcusCacheConfiguration.withNullValueExpireSeconds(nullValueExpireSeconds);
+    }
+    if (nullValueFrontExpireSeconds != null) {
+      arcusCacheConfiguration.withNullValueFrontExpireSeconds(nullValueFrontExpireSeconds);
+    }
+    if (compactNullValue) {
+      arcusCacheConfiguration.enableCompactNullValue();
+    }
+    if (generationCheckIntervalMilliSeconds > 0) {
+      arcusCacheConfiguration.enableGenerationClear(generationCheckIntervalMilliSeconds);
+    }
+    if (frontCacheInvalidationPollIntervalMilliSeconds > 0) {
+      arcusCacheConfiguration.enableFrontCacheInvalidation(frontCacheInvalidationPollIntervalMilliSeconds);
+    }
+    if (frontExpireByRemainingTime) {
+      arcusCacheConfiguration.enableFrontExpireByRemainingTime();
+    }
+    if (tracer != null) {
+      arcusCacheConfiguration.withTracer(tracer);
+    }
+    if (circuitBreakerOpenMilliSeconds > 0) {
+      arcusCacheConfiguration.enableCircuitBreaker(circuitBreakerFailureRateThreshold, circuitBreakerWindowSize,
+              circuitBreakerOpenMilliSeconds);
+    }
+    if (adaptiveTimeoutMaxMilliSeconds > 0) {
+      arcusCacheConfiguration.enableAdaptiveTimeout(adaptiveTimeoutPercentile, adaptiveTimeoutMultiplier,
+              adaptiveTimeoutMinMilliSeconds, adaptiveTimeoutMaxMilliSeconds);
+    }
+    if (lookupBatchingWindowMicroSeconds > 0) {
+      arcusCacheConfiguration.enableLookupBatching(lookupBatchingWindowMicroSeconds, lookupBatchingMaxKeys);
+    }
+    if (writeBehindCapacity > 0) {
+      arcusCacheConfiguration.enableWriteBehind(writeBehindCapacity, writeBehindBatchSize,
+              writeBehindFlushIntervalMilliSeconds);
+    }
+    if (staleSetLeaseSeconds > 0) {
+      arcusCacheConfiguration.enableStaleSetLease(staleSetLeaseSeconds);
+    }
+    arcusCacheConfiguration.withComputeRetries(computeMaxRetries, computeBackoffMilliSeconds);
+    if (asyncExecutor != null) {
+      arcusCacheConfiguration.withAsyncExecutor(asyncExecutor);
+    }
+    if (singleFlightLoading && singleFlightMaxWaitMilliSeconds > 0) {
+      arcusCacheConfiguration.enableSingleFlightLoading(singleFlightMaxWaitMilliSeconds);
+    } else if (singleFlightLoading) {
+      arcusCacheConfiguration.enableSingleFlightLoading();
+    }
+    if (loadingLeaseSeconds > 0) {
+      arcusCacheConfiguration.enableLoadingLease(loadingLeaseSeconds, loadingLeaseMaxWaitMilliSeconds);
+    }
+    arcusCacheConfiguration.withStaleWhileRevalidateSeconds(staleWhileRevalidateSeconds);
+    if (earlyRecomputationBeta > 0) {
+      arcusCacheConfiguration.enableEarlyRecomputation(earlyRecomputationBeta);
+    }
 
     return arcusCacheConfiguration;
   }
@@ -104,4 +209,136 @@ public class ArcusCacheConfigurationFactoryBean implements FactoryBean<ArcusCach
   public void setAllowNullValues(boolean allowNullValues) {
     this.allowNullValues = allowNullValues;
   }
+
+  public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+    this.asyncExecutor = asyncExecutor;
+  }
+
+  public void setSingleFlightLoading(boolean singleFlightLoading) {
+    this.singleFlightLoading = singleFlightLoading;
+  }
+
+  public void setSingleFlightMaxWaitMilliSeconds(long singleFlightMaxWaitMilliSeconds) {
+    this.singleFlightMaxWaitMilliSeconds = singleFlightMaxWaitMilliSeconds;
+  }
+
+  public void setLoadingLeaseSeconds(int loadingLeaseSeconds) {
+    this.loadingLeaseSeconds = loadingLeaseSeconds;
+  }
+
+  public void setLoadingLeaseMaxWaitMilliSeconds(long loadingLeaseMaxWaitMilliSeconds) {
+    this.loadingLeaseMaxWaitMilliSeconds = loadingLeaseMaxWaitMilliSeconds;
+  }
+
+  public void setStaleWhileRevalidateSeconds(int staleWhileRevalidateSeconds) {
+    this.staleWhileRevalidateSeconds = staleWhileRevalidateSeconds;
+  }
+
+  public void setEarlyRecomputationBeta(double earlyRecomputationBeta) {
+    this.earlyRecomputationBeta = earlyRecomputationBeta;
+  }
+
+  public void setExpireJitterSeconds(int expireJitterSeconds) {
+    this.expireJitterSeconds = expireJitterSeconds;
+  }
+
+  public void setExpireJitterPercent(int expireJitterPercent) {
+    this.expireJitterPercent = expireJitterPercent;
+  }
+
+  public void setFrontExpireJitterSeconds(int frontExpireJitterSeconds) {
+    this.frontExpireJitterSeconds = frontExpireJitterSeconds;
+  }
+
+  public void setFrontExpireJitterPercent(int frontExpireJitterPercent) {
+    this.frontExpireJitterPercent = frontExpireJitterPercent;
+  }
+
+  public void setNullValueExpireSeconds(@Nullable Integer nullValueExpireSeconds) {
+    this.nullValueExpireSeconds = nullValueExpireSeconds;
+  }
+
+  public void setNullValueFrontExpireSeconds(@Nullable Integer nullValueFrontExpireSeconds) {
+    this.nullValueFrontExpireSeconds = nullValueFrontExpireSeconds;
+  }
+
+  public void setCompactNullValue(boolean compactNullValue) {
+    this.compactNullValue = compactNullValue;
+  }
+
+  public void setGenerationCheckIntervalMilliSeconds(long generationCheckIntervalMilliSeconds) {
+    this.generationCheckIntervalMilliSeconds = generationCheckIntervalMilliSeconds;
+  }
+
+  public void setFrontCacheInvalidationPollIntervalMilliSeconds(long frontCacheInvalidationPollIntervalMilliSeconds) {
+    this.frontCacheInvalidationPollIntervalMilliSeconds = frontCacheInvalidationPollIntervalMilliSeconds;
+  }
+
+  public void setFrontExpireByRemainingTime(boolean frontExpireByRemainingTime) {
+    this.frontExpireByRemainingTime = frontExpireByRemainingTime;
+  }
+
+  public void setTracer(@Nullable ArcusCacheTracer tracer) {
+    this.tracer = tracer;
+  }
+
+  public void setCircuitBreakerFailureRateThreshold(int circuitBreakerFailureRateThreshold) {
+    this.circuitBreakerFailureRateThreshold = circuitBreakerFailureRateThreshold;
+  }
+
+  public void setCircuitBreakerWindowSize(int circuitBreakerWindowSize) {
+    this.circuitBreakerWindowSize = circuitBreakerWindowSize;
+  }
+
+  public void setCircuitBreakerOpenMilliSeconds(long circuitBreakerOpenMilliSeconds) {
+    this.circuitBreakerOpenMilliSeconds = circuitBreakerOpenMilliSeconds;
+  }
+
+  public void setAdaptiveTimeoutPercentile(double adaptiveTimeoutPercentile) {
+    this.adaptiveTimeoutPercentile = adaptiveTimeoutPercentile;
+  }
+
+  public void setAdaptiveTimeoutMultiplier(double adaptiveTimeoutMultiplier) {
+    this.adaptiveTimeoutMultiplier = adaptiveTimeoutMultiplier;
+  }
+
+  public void setAdaptiveTimeoutMinMilliSeconds(long adaptiveTimeoutMinMilliSeconds) {
+    this.adaptiveTimeoutMinMilliSeconds = adaptiveTimeoutMinMilliSeconds;
+  }
+
+  public void setAdaptiveTimeoutMaxMilliSeconds(long adaptiveTimeoutMaxMilliSeconds) {
+    this.adaptiveTimeoutMaxMilliSeconds = adaptiveTimeoutMaxMilliSeconds;
+  }
+
+  public void setLookupBatchingWindowMicroSeconds(long lookupBatchingWindowMicroSeconds) {
+    this.lookupBatchingWindowMicroSeconds = lookupBatchingWindowMicroSeconds;
+  }
+
+  public void setLookupBatchingMaxKeys(int lookupBatchingMaxKeys) {
+    this.lookupBatchingMaxKeys = lookupBatchingMaxKeys;
+  }
+
+  public void setWriteBehindCapacity(int writeBehindCapacity) {
+    this.writeBehindCapacity = writeBehindCapacity;
+  }
+
+  public void setWriteBehindBatchSize(int writeBehindBatchSize) {
+    this.writeBehindBatchSize = writeBehindBatchSize;
+  }
+
+  public void setWriteBehindFlushIntervalMilliSeconds(long writeBehindFlushIntervalMilliSeconds) {
+    this.writeBehindFlushIntervalMilliSeconds = writeBehindFlushIntervalMilliSeconds;
+  }
+
+  public void setStaleSetLeaseSeconds(int staleSetLeaseSeconds) {
+    this.staleSetLeaseSeconds = staleSetLeaseSeconds;
+  }
+
+  public void setComputeMaxRetries(int computeMaxRetries) {
+    this.computeMaxRetries = computeMaxRetries;
+  }
+
+  public void setComputeBackoffMilliSeconds(long computeBackoffMilliSeconds) {
+    this.computeBackoffMilliSeconds = computeBackoffMilliSeconds;
+  }
 }
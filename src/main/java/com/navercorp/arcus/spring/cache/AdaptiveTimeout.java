@@ -0,0 +1,146 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 관측한 ARCUS 응답 시간으로 요청 종류별 timeout을 계산합니다.
+ * <p>
+ * 요청 종류마다 응답 시간을 지수 간격의 bucket으로 집계하며, 최근 두 구간(WINDOW_MILLISECONDS씩)의 집계로
+ * 지정한 백분위 값을 구한 뒤 multiplier를 곱하고 최솟값과 최댓값 사이로 제한한 값을 timeout으로 사용합니다.
+ * timeout이 발생한 요청은 그때의 timeout 값으로 집계하므로, 응답 시간이 길어지면 timeout도 최댓값까지 늘어납니다.
+ * 집계된 요청이 MIN_SAMPLES개보다 적으면 timeoutMilliSeconds 설정을 사용합니다.
+ * </p>
+ */
+final class AdaptiveTimeout {
+
+  static final long WINDOW_MILLISECONDS = 10_000L;
+  static final int MIN_SAMPLES = 100;
+
+  private static final long REFRESH_NANOSECONDS = TimeUnit.SECONDS.toNanos(1L);
+  private static final long BUCKET_BASE_NANOSECONDS = TimeUnit.MICROSECONDS.toNanos(100L);
+  private static final double BUCKET_FACTOR = 1.2;
+  private static final double LOG_BUCKET_FACTOR = Math.log(BUCKET_FACTOR);
+  private static final int BUCKET_COUNT = 80;
+
+  enum Type {
+    GET, GET_BULK, STORE, DELETE
+  }
+
+  private final ArcusCacheConfiguration configuration;
+  private final Map<Type, Histogram> histograms = new EnumMap<>(Type.class);
+
+  AdaptiveTimeout(ArcusCacheConfiguration configuration) {
+    this.configuration = configuration;
+    for (Type type : Type.values()) {
+      histograms.put(type, new Histogram());
+    }
+  }
+
+  long getTimeoutMilliSeconds(Type type) {
+    return histograms.get(type).getTimeoutMilliSeconds();
+  }
+
+  void record(Type type, long nanos) {
+    histograms.get(type).record(nanos);
+  }
+
+  private static int toBucket(long nanos) {
+    if (nanos <= BUCKET_BASE_NANOSECONDS) {
+      return 0;
+    }
+    int bucket = (int) Math.ceil(Math.log((double) nanos / BUCKET_BASE_NANOSECONDS) / LOG_BUCKET_FACTOR);
+    return Math.min(bucket, BUCKET_COUNT - 1);
+  }
+
+  private static double toUpperBoundMilliSeconds(int bucket) {
+    return BUCKET_BASE_NANOSECONDS * Math.pow(BUCKET_FACTOR, bucket) / TimeUnit.MILLISECONDS.toNanos(1L);
+  }
+
+  private final class Histogram {
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKET_COUNT);
+    private volatile AtomicLongArray previous = new AtomicLongArray(BUCKET_COUNT);
+    private volatile long windowStartedAt = System.nanoTime();
+    private volatile long timeoutMilliSeconds = -1L;
+    private volatile long computedAt;
+
+    private void record(long nanos) {
+      rotateIfNeeded(System.nanoTime());
+      current.incrementAndGet(toBucket(nanos));
+    }
+
+    private long getTimeoutMilliSeconds() {
+      long now = System.nanoTime();
+      long timeout = timeoutMilliSeconds;
+      if (timeout < 0 || now - computedAt >= REFRESH_NANOSECONDS) {
+        rotateIfNeeded(now);
+        timeout = compute();
+        timeoutMilliSeconds = timeout;
+        computedAt = now;
+      }
+      return timeout;
+    }
+
+    private void rotateIfNeeded(long now) {
+      if (now - windowStartedAt < TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLISECONDS)) {
+        return;
+      }
+      synchronized (this) {
+        long elapsed = now - windowStartedAt;
+        if (elapsed < TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLISECONDS)) {
+          return;
+        }
+        // Both windows are stale if nothing has been recorded for two windows.
+        previous = elapsed < TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLISECONDS * 2) ?
+            current : new AtomicLongArray(BUCKET_COUNT);
+        current = new AtomicLongArray(BUCKET_COUNT);
+        windowStartedAt = now;
+      }
+    }
+
+    private long compute() {
+      AtomicLongArray recent = current;
+      AtomicLongArray old = previous;
+      long[] counts = new long[BUCKET_COUNT];
+      long total = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        counts[i] = recent.get(i) + old.get(i);
+        total += counts[i];
+      }
+
+      long timeout;
+      if (total < MIN_SAMPLES) {
+        timeout = configuration.getTimeoutMilliSeconds();
+      } else {
+        long rank = (long) Math.ceil(total * configuration.getAdaptiveTimeoutPercentile() / 100.0);
+        int bucket = 0;
+        long seen = 0;
+        while (bucket < BUCKET_COUNT - 1 && (seen += counts[bucket]) < rank) {
+          bucket++;
+        }
+        timeout = (long) Math.ceil(toUpperBoundMilliSeconds(bucket) * configuration.getAdaptiveTimeoutMultiplier());
+      }
+      return Math.max(configuration.getAdaptiveTimeoutMinMilliSeconds(),
+          Math.min(configuration.getAdaptiveTimeoutMaxMilliSeconds(), timeout));
+    }
+  }
+
+}
@@ -19,16 +19,49 @@
 package com.navercorp.arcus.spring.cache;
 
 import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+import com.navercorp.arcus.spring.cache.tracing.ArcusCacheSpan;
+import com.navercorp.arcus.spring.cache.tracing.ArcusCacheTracer;
 import com.navercorp.arcus.spring.concurrent.DefaultKeyLockProvider;
 import com.navercorp.arcus.spring.concurrent.KeyLockProvider;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import org.springframework.lang.Nullable;
 import org.springframework.lang.NonNull;
 
 import net.spy.memcached.ArcusClientPool;
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.CASValue;
+import net.spy.memcached.collection.CollectionAttributes;
+import net.spy.memcached.internal.BulkFuture;
+import net.spy.memcached.internal.CollectionFuture;
 import net.spy.memcached.internal.GetFuture;
 import net.spy.memcached.internal.OperationFuture;
 import net.spy.memcached.ops.OperationStatus;
@@ -37,7 +70,10 @@ import net.spy.memcached.transcoders.Transcoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.util.Assert;
 import org.springframework.util.DigestUtils;
 
@@ -47,7 +83,32 @@ import org.springframework.util.DigestUtils;
  * Arcus 캐시 키의 기본 구조는 prefix:subkey 입니다. prefix는 사용자가 그룹으로 생성하고자 하는 subkey들의 집합이며
  * ArcusCache에서는 서비스 또는 빌드 단계 등의 구분을 위해 serviceId + <prefix | name> 문자열을 캐시 키의 prefix로 정의합니다.
  */
-public class ArcusCache extends AbstractValueAdaptingCache {
+public class ArcusCache extends AbstractValueAdaptingCache implements DisposableBean {
+
+  private static final String LOADING_LEASE_PREFIX_SUFFIX = "_lease";
+  private static final String LOADING_LEASE_VALUE = "LEASE";
+  private static final long LOADING_LEASE_POLL_INTERVAL_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(50L);
+  private static final String GENERATION_KEY_SUFFIX = "_generation:counter";
+  private static final String GENERATION_PREFIX_SEPARATOR = "_g";
+  private static final long GENERATION_RETRY_INTERVAL_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(100L);
+  private static final long GENERATION_NEVER_CHECKED = Long.MIN_VALUE;
+  private static final int SET_LEASE_PUT_IF_ABSENT_RETRIES = 3;
+  private static final String SPAN_GET = "arcus.cache.get";
+  private static final String SPAN_PUT = "arcus.cache.put";
+  private static final String SPAN_PUT_IF_ABSENT = "arcus.cache.putIfAbsent";
+  private static final String SPAN_EVICT = "arcus.cache.evict";
+  private static final String SPAN_CLEAR = "arcus.cache.clear";
+  private static final String SPAN_COMPUTE = "arcus.cache.compute";
+  private static final String SPAN_LOAD = "arcus.cache.load";
+  private static final String SPAN_WAIT = "arcus.cache.wait";
+  private static final String HIT_FRONT = "front";
+  private static final String HIT_REMOTE = "remote";
+  private static final String HIT_MISS = "miss";
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_FAILURE = "failure";
+  private static final String OUTCOME_TIMEOUT = "timeout";
+  private static final int ASYNC_EXECUTOR_THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+  private static final int ASYNC_EXECUTOR_QUEUE_CAPACITY = 10000;
 
   private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -56,6 +117,28 @@ public class ArcusCache extends AbstractValueAdaptingCache {
   private ArcusClientPool arcusClient;
   private final ArcusCacheConfiguration configuration;
   private KeyLockProvider keyLockProvider = new DefaultKeyLockProvider();
+  private final ConcurrentMap<String, CompletableFuture<Object>> loadingFutures = new ConcurrentHashMap<>();
+  private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+  @Nullable
+  private volatile NullValueTranscoder nullValueTranscoder;
+  @Nullable
+  private volatile SetLeaseTranscoder setLeaseTranscoder;
+  private final ArcusCacheStatistics statistics = new ArcusCacheStatistics();
+  private final AtomicLong generation = new AtomicLong(-1L);
+  private final AtomicLong generationCheckedAt = new AtomicLong(GENERATION_NEVER_CHECKED);
+  private final AtomicBoolean generationRefreshing = new AtomicBoolean();
+  @Nullable
+  private volatile FrontCacheInvalidationLog invalidationLog;
+  @Nullable
+  private volatile ArcusCircuitBreaker circuitBreaker;
+  @Nullable
+  private volatile AdaptiveTimeout adaptiveTimeout;
+  @Nullable
+  private volatile LookupBatcher lookupBatcher;
+  @Nullable
+  private volatile WriteBehindQueue writeBehindQueue;
+  @Nullable
+  private volatile ExecutorService defaultAsyncExecutor;
 
   /**
    * This constructor doesn't guarantee to make safe and complete instance.
@@ -115,35 +198,191 @@ public class ArcusCache extends AbstractValueAdaptingCache {
     return this.configuration;
   }
 
+  public ArcusCacheStatistics getStatistics() {
+    return this.statistics;
+  }
+
   @Nullable
   @Override
   protected Object lookup(Object key) {
+    return lookup(key, true);
+  }
+
+  /*
+   * A lookup repeated within a get(key, valueLoader) call does not record a miss again,
+   * so each call records at most one miss.
+   */
+  @Nullable
+  private ValueWrapper lookupAgain(Object key) {
+    return toValueWrapper(lookup(key, false));
+  }
+
+  @Nullable
+  private Object lookup(Object key, boolean recordMiss) {
+    long start = System.nanoTime();
     String arcusKey = createArcusKey(key);
+    ArcusCacheSpan span = startSpan(SPAN_GET, arcusKey);
     try {
-      return getValue(arcusKey);
+      Object value = getValue(arcusKey, span);
+      if (value == null && recordMiss) {
+        statistics.recordMisses(1);
+      }
+      span.setAttribute(ArcusCacheSpan.OUTCOME, OUTCOME_SUCCESS);
+      return value;
     } catch (Exception e) {
+      recordFailure(e);
+      failSpan(span, e);
       if (e instanceof InterruptedException || configuration.isWantToGetException()) {
         throw toRuntimeException(e);
       }
       logger.info("failed to lookup. error: {}, key: {}", e.getMessage(), arcusKey);
       return null;
+    } finally {
+      span.end();
+      statistics.recordLatency(ArcusCacheStatistics.Operation.GET, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  protected Object toStoreValue(@Nullable Object userValue) {
+    return toStoreValue(userValue, 0L);
+  }
+
+  private Object toStoreValue(@Nullable Object userValue, long loadMillis) {
+    Object storeValue = super.toStoreValue(userValue);
+    if (storeValue != NullValue.INSTANCE && configuration.getExpireSeconds() > 0 &&
+        (configuration.getStaleWhileRevalidateSeconds() > 0 || configuration.getEarlyRecomputationBeta() > 0)) {
+      long freshUntil = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(configuration.getExpireSeconds());
+      return new ArcusCacheEntry(storeValue, freshUntil, loadMillis);
+    }
+    return storeValue;
+  }
+
+  @Nullable
+  @Override
+  protected Object fromStoreValue(@Nullable Object storeValue) {
+    if (storeValue instanceof ArcusCacheEntry) {
+      return super.fromStoreValue(((ArcusCacheEntry) storeValue).getValue());
     }
+    return super.fromStoreValue(storeValue);
+  }
+
+  /**
+   * 여러 키에 대한 캐시 아이템을 한 번에 조회합니다.
+   * <p> Front Cache에 존재하는 아이템은 Front Cache에서 가져오고, 나머지 아이템은 한 번의 asyncGetBulk 연산으로 조회합니다. </p>
+   * <p> ARCUS에서 조회한 아이템은 Front Cache에 저장됩니다. </p>
+   *
+   * @param keys keys
+   * @return 캐시 아이템이 존재하는 키와 ValueWrapper의 Map. 캐시 아이템이 존재하지 않는 키는 포함되지 않는다.
+   */
+  public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+    Assert.notNull(keys, "keys must not be null.");
+
+    Map<Object, String> arcusKeys = new LinkedHashMap<>();
+    for (Object key : keys) {
+      arcusKeys.put(key, createArcusKey(key));
+    }
+
+    long start = System.nanoTime();
+    Map<String, Object> values = new HashMap<>();
+    try {
+      getValues(new LinkedHashSet<>(arcusKeys.values()), values);
+    } catch (Exception e) {
+      recordFailure(e);
+      if (e instanceof InterruptedException || configuration.isWantToGetException()) {
+        throw toRuntimeException(e);
+      }
+      logger.info("failed to getAll. error: {}, keys: {}", e.getMessage(), arcusKeys.values());
+    } finally {
+      statistics.recordLatency(ArcusCacheStatistics.Operation.GET_ALL, System.nanoTime() - start);
+    }
+
+    Map<Object, ValueWrapper> result = new LinkedHashMap<>();
+    for (Map.Entry<Object, String> entry : arcusKeys.entrySet()) {
+      Object value = values.get(entry.getValue());
+      if (value != null) {
+        result.put(entry.getKey(), toValueWrapper(value));
+      }
+    }
+    return result;
   }
 
   @Nullable
   @Override
   @SuppressWarnings("unchecked")
   public <T> T get(Object key, Callable<T> valueLoader) {
-    ValueWrapper result = super.get(key);
-    return result != null ? (T) result.get() : getSynchronized(key, valueLoader);
+    Object storeValue = lookup(key);
+    if (storeValue != null) {
+      if (needsRefresh(storeValue)) {
+        refreshValue(key, valueLoader);
+      }
+      return (T) fromStoreValue(storeValue);
+    }
+    return configuration.isSingleFlightLoading() ?
+        getSingleFlight(key, valueLoader) : getSynchronized(key, valueLoader);
+  }
+
+  /*
+   * Only the first caller of a key loads the value.
+   * The first caller looks up the cache again, since a load of another caller may have finished after its lookup.
+   * Concurrent callers of the same key wait for the value loaded by the first caller,
+   * instead of looking up the cache again, and load the value by themselves after the max wait time if any.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private <T> T getSingleFlight(Object key, Callable<T> valueLoader) {
+    String arcusKey = createArcusKey(key);
+    CompletableFuture<Object> loading = new CompletableFuture<>();
+    CompletableFuture<Object> inFlight = loadingFutures.putIfAbsent(arcusKey, loading);
+    if (inFlight == null) {
+      try {
+        ValueWrapper result = lookupAgain(key);
+        T value = result != null ? (T) result.get() : loadValue(key, valueLoader);
+        loading.complete(value);
+        return value;
+      } catch (Throwable e) {
+        loading.completeExceptionally(e);
+        throw e;
+      } finally {
+        loadingFutures.remove(arcusKey, loading);
+      }
+    }
+
+    logger.debug("waiting for the value loaded by another thread. key: {}", arcusKey);
+    long maxWait = configuration.getSingleFlightMaxWaitMilliSeconds();
+    ArcusCacheSpan span = startSpan(SPAN_WAIT, arcusKey);
+    try {
+      return (T) (maxWait > 0 ? inFlight.get(maxWait, TimeUnit.MILLISECONDS) : inFlight.get());
+    } catch (TimeoutException e) {
+      logger.info("loading the value after waiting for another thread. key: {}", arcusKey);
+      return loadValue(key, valueLoader);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ValueRetrievalException(key, valueLoader, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new ValueRetrievalException(key, valueLoader, e.getCause());
+    } finally {
+      span.end();
+    }
   }
 
   @Nullable
   @SuppressWarnings("unchecked")
   private <T> T getSynchronized(Object key, Callable<T> valueLoader) {
     try {
-      acquireWriteLockOnKey(key);
-      ValueWrapper result = super.get(key);
+      ArcusCacheSpan span = startSpan(SPAN_WAIT, null);
+      try {
+        acquireWriteLockOnKey(key);
+      } finally {
+        span.end();
+      }
+      ValueWrapper result = lookupAgain(key);
       return result != null ? (T) result.get() : loadValue(key, valueLoader);
     } finally {
       releaseWriteLockOnKey(key);
@@ -151,377 +390,2177 @@ public class ArcusCache extends AbstractValueAdaptingCache {
   }
 
   private <T> T loadValue(Object key, Callable<T> valueLoader) {
-    T value;
-    try {
-      value = valueLoader.call();
-    } catch (Exception e) {
-      throw new ValueRetrievalException(key, valueLoader, e);
+    if (configuration.isLoadingLease()) {
+      return loadValueWithLease(key, valueLoader);
+    }
+    return loadAndPutValue(key, valueLoader);
+  }
+
+  /*
+   * Only the holder of the loading lease in ARCUS loads the value across JVMs.
+   * Others poll the cache until the value appears,
+   * and load the value by themselves if it does not appear within the max wait time.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private <T> T loadValueWithLease(Object key, Callable<T> valueLoader) {
+    String leaseKey = createLeaseKey(createArcusKey(key));
+    if (acquireLease(leaseKey)) {
+      try {
+        return loadAndPutValue(key, valueLoader);
+      } finally {
+        releaseLease(leaseKey);
+      }
     }
 
-    put(key, value);
+    logger.debug("waiting for the value loaded by the lease holder. lease key: {}", leaseKey);
+    long deadline = System.nanoTime() +
+        TimeUnit.MILLISECONDS.toNanos(configuration.getLoadingLeaseMaxWaitMilliSeconds());
+    long remaining;
+    ArcusCacheSpan span = startSpan(SPAN_WAIT, leaseKey);
+    try {
+      while ((remaining = deadline - System.nanoTime()) > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(Math.min(remaining, LOADING_LEASE_POLL_INTERVAL_NANOSECONDS));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        ValueWrapper result = lookupAgain(key);
+        if (result != null) {
+          return (T) result.get();
+        }
+      }
+    } finally {
+      span.end();
+    }
 
-    return value;
+    logger.info("loading the value without the lease after waiting. lease key: {}", leaseKey);
+    return loadAndPutValue(key, valueLoader);
   }
 
-  @Override
-  public void put(final Object key, final Object value) {
-    if (value == null && !isAllowNullValues()) {
-      throw new IllegalArgumentException(String.format("Cache '%s' does not allow 'null' values. " +
-              "Avoid storing null via '@Cacheable(unless=\"#result == null\")' or configure ArcusCache " +
-              "to allow 'null' via ArcusCacheConfiguration.", name));
+  /*
+   * Without the permission of the circuit breaker, the value is loaded without the lease
+   * as if acquiring the lease has failed, so no caller waits for Arcus.
+   */
+  private boolean acquireLease(String leaseKey) {
+    if (!tryAcquirePermission()) {
+      return true;
     }
-
-    String arcusKey = createArcusKey(key);
     try {
-      putValue(arcusKey, toStoreValue(value));
+      OperationFuture<Boolean> future =
+          arcusClient.add(leaseKey, configuration.getLoadingLeaseSeconds(), LOADING_LEASE_VALUE);
+      boolean acquired = await(future, AdaptiveTimeout.Type.STORE);
+      recordSuccess();
+      return acquired;
     } catch (Exception e) {
+      recordFailure(e);
       if (e instanceof InterruptedException || configuration.isWantToGetException()) {
         throw toRuntimeException(e);
       }
-      logger.info("failed to put. error: {}, key: {}", e.getMessage(), arcusKey);
+      logger.info("failed to acquire a loading lease. error: {}, key: {}", e.getMessage(), leaseKey);
+      return true;
     }
   }
 
-  /**
-   * @param key key
-   * @param value value
-   * @return 지정된 키에 대한 캐시 아이템이 존재하지 않았으며 지정된 값을 캐시에 저장하였다면 null을 리턴,
-   * 캐시 아이템이 이미 존재하였다면 지정된 키에 대한 값을 불러와 리턴한다. 값을 불러올 때 비원자적으로
-   * 수행되기 때문에 중간에 다른 캐시 연산 수행으로 인하여 새로운 값이 리턴 될 수 있으며 혹은 캐시 만료로 인해
-   * ValueWrapper의 내부 value가 null이 되어 리턴될 수 있다.
+  private void releaseLease(String leaseKey) {
+    if (!tryAcquirePermission()) {
+      return;
+    }
+    try {
+      await(arcusClient.delete(leaseKey), AdaptiveTimeout.Type.DELETE);
+      recordSuccess();
+    } catch (Exception e) {
+      recordFailure(e);
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      logger.info("failed to release a loading lease. error: {}, key: {}", e.getMessage(), leaseKey);
+    }
+  }
+
+  /*
+   * A stale entry always needs to be refreshed.
+   * With the early recomputation, a fresh entry is refreshed early with a probability
+   * that rises as its expiry approaches and as its last loading time gets longer (XFetch).
+   */
+  private boolean needsRefresh(Object storeValue) {
+    if (!(storeValue instanceof ArcusCacheEntry)) {
+      return false;
+    }
+
+    ArcusCacheEntry entry = (ArcusCacheEntry) storeValue;
+    long now = System.currentTimeMillis();
+    if (entry.getFreshUntil() <= now) {
+      return true;
+    }
+
+    double beta = configuration.getEarlyRecomputationBeta();
+    if (beta <= 0 || entry.getLoadMillis() <= 0) {
+      return false;
+    }
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    return now - entry.getLoadMillis() * beta * Math.log(random) >= entry.getFreshUntil();
+  }
+
+  private int getArcusExpireSeconds(Object value) {
+    int expireSeconds;
+    if (value == NullValue.INSTANCE) {
+      Integer nullValueExpireSeconds = configuration.getNullValueExpireSeconds();
+      expireSeconds = nullValueExpireSeconds != null ? nullValueExpireSeconds : configuration.getExpireSeconds();
+    } else {
+      expireSeconds = configuration.getExpireSeconds();
+      if (expireSeconds > 0) {
+        expireSeconds += configuration.getStaleWhileRevalidateSeconds();
+      }
+    }
+    return applyJitter(expireSeconds,
+        configuration.getExpireJitterSeconds(), configuration.getExpireJitterPercent());
+  }
+
+  private int getFrontCacheExpireSeconds(Object value) {
+    Integer nullValueFrontExpireSeconds = configuration.getNullValueFrontExpireSeconds();
+    int expireSeconds = value == NullValue.INSTANCE && nullValueFrontExpireSeconds != null ?
+        nullValueFrontExpireSeconds : configuration.getFrontExpireSeconds();
+    return applyJitter(expireSeconds,
+        configuration.getFrontExpireJitterSeconds(), configuration.getFrontExpireJitterPercent());
+  }
+
+  /*
+   * With the compact null value, NullValue is stored as an item with special flags and no data
+   * instead of the serialized object, so every operation has to use the same transcoder.
+   * The lease item of the stale-set lease is stored in the same way.
    */
   @Nullable
-  @Override
-  public ValueWrapper putIfAbsent(Object key, Object value) {
-    if (value == null && !isAllowNullValues()) {
-      logger.info(String.format("Cache '%s' does not allow 'null' values. " +
-              "Avoid storing null via '@Cacheable(unless=\"#result == null\")' or configure ArcusCache " +
-              "to allow 'null' via ArcusCacheConfiguration.", name));
-      return super.get(key);
+  private Transcoder<Object> getTranscoder() {
+    Transcoder<Object> operationTranscoder = configuration.getOperationTranscoder();
+    if (!configuration.isCompactNullValue() && !configuration.isStaleSetLease()) {
+      return operationTranscoder;
     }
 
-    String arcusKey = createArcusKey(key);
-    try {
-      return putIfAbsentValue(arcusKey, toStoreValue(value));
-    } catch (Exception e) {
-      if (e instanceof InterruptedException || configuration.isWantToGetException()) {
-        throw toRuntimeException(e);
+    Transcoder<Object> delegate = operationTranscoder != null ? operationTranscoder : arcusClient.getTranscoder();
+    if (configuration.isCompactNullValue()) {
+      NullValueTranscoder transcoder = this.nullValueTranscoder;
+      if (transcoder == null || transcoder.getDelegate() != delegate) {
+        transcoder = new NullValueTranscoder(delegate);
+        this.nullValueTranscoder = transcoder;
       }
-      logger.info("failed to putIfAbsent. error: {}, key: {}", e.getMessage(), arcusKey);
-      return super.get(key);
+      delegate = transcoder;
+    }
+    if (configuration.isStaleSetLease()) {
+      SetLeaseTranscoder transcoder = this.setLeaseTranscoder;
+      if (transcoder == null || transcoder.getDelegate() != delegate) {
+        transcoder = new SetLeaseTranscoder(delegate);
+        this.setLeaseTranscoder = transcoder;
+      }
+      delegate = transcoder;
     }
+    return delegate;
   }
 
-  @Override
-  public void evict(final Object key) {
+  /*
+   * Subtract a random jitter from the expire time for each item,
+   * so that items stored together do not expire together.
+   */
+  private static int applyJitter(int expireSeconds, int jitterSeconds, int jitterPercent) {
+    if (expireSeconds <= 0) {
+      return expireSeconds;
+    }
+    int jitter = jitterSeconds > 0 ? jitterSeconds : (int) ((long) expireSeconds * jitterPercent / 100);
+    if (jitter <= 0) {
+      return expireSeconds;
+    }
+    return Math.max(1, expireSeconds - ThreadLocalRandom.current().nextInt(jitter + 1));
+  }
+
+  /*
+   * Put the lease marker in the prefix part of the cache key,
+   * so that no key created by createArcusKey collides with a lease key.
+   */
+  private String createLeaseKey(String arcusKey) {
+    int separator = arcusKey.indexOf(':');
+    String leasePrefix = arcusKey.substring(0, separator) + LOADING_LEASE_PREFIX_SUFFIX + ":";
+    String subkey = arcusKey.substring(separator + 1);
+    if (leasePrefix.length() + subkey.length() > 250) {
+      return leasePrefix + DigestUtils.md5DigestAsHex(subkey.getBytes());
+    }
+    return leasePrefix + subkey;
+  }
+
+  /*
+   * Reload the value in the asyncExecutor only once at a time for each key in a JVM.
+   * If the loading lease is enabled, only the holder of the lease reloads the value across JVMs.
+   */
+  private void refreshValue(Object key, Callable<?> valueLoader) {
     String arcusKey = createArcusKey(key);
-    logger.debug("evicting a key: {}", arcusKey);
+    if (!refreshingKeys.add(arcusKey)) {
+      return;
+    }
 
-    boolean success = false;
+    logger.debug("refreshing a stale value of key: {}", arcusKey);
+    try {
+      executeAsync(() -> {
+        try {
+          if (!configuration.isLoadingLease()) {
+            loadAndPutValue(key, valueLoader, true);
+            return;
+          }
+          String leaseKey = createLeaseKey(arcusKey);
+          if (acquireLease(leaseKey)) {
+            try {
+              loadAndPutValue(key, valueLoader, true);
+            } finally {
+              releaseLease(leaseKey);
+            }
+          }
+        } catch (Exception e) {
+          logger.info("failed to refresh. error: {}, key: {}", e.getMessage(), arcusKey);
+        } finally {
+          refreshingKeys.remove(arcusKey);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      refreshingKeys.remove(arcusKey);
+      logger.info("failed to refresh. error: {}, key: {}", e.getMessage(), arcusKey);
+    }
+  }
+
+  private <T> T loadAndPutValue(Object key, Callable<T> valueLoader) {
+    return loadAndPutValue(key, valueLoader, false);
+  }
+
+  /*
+   * With the stale-set lease, the value is put only if the lease taken before loading is still valid.
+   * The lease is the CAS of the lease item added on a miss, or of the stale item on a refresh.
+   */
+  private <T> T loadAndPutValue(Object key, Callable<T> valueLoader, boolean refresh) {
+    Long lease = null;
+    if (configuration.isStaleSetLease()) {
+      lease = acquireSetLease(createArcusKey(key), refresh);
+    }
 
+    T value;
+    long startTime = System.nanoTime();
+    ArcusCacheSpan span = startSpan(SPAN_LOAD, null);
     try {
-      OperationFuture<Boolean> future = arcusClient.delete(arcusKey);
-      success = future.get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
-      if (!success) {
-        OperationStatus status = future.getStatus();
-        logger.info("failed to evict a key: {}, status: {}", arcusKey, status.getMessage());
+      value = valueLoader.call();
+      span.setAttribute(ArcusCacheSpan.OUTCOME, OUTCOME_SUCCESS);
+    } catch (Exception e) {
+      failSpan(span, e);
+      throw new ValueRetrievalException(key, valueLoader, e);
+    } finally {
+      span.end();
+    }
+    long loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    if (!configuration.isStaleSetLease()) {
+      put(key, value, loadMillis, null);
+    } else if (lease != null) {
+      put(key, value, loadMillis, lease);
+    } else {
+      logger.debug("skipped putting a loaded value without a lease. key: {}", createArcusKey(key));
+    }
+
+    return value;
+  }
+
+  /*
+   * Returns the CAS of the lease item added to the key, or of the existing item on a refresh.
+   * Returns null if the lease is held by another caller, or the key has been put after the miss.
+   */
+  @Nullable
+  private Long acquireSetLease(String arcusKey, boolean refresh) {
+    if (!tryAcquirePermission()) {
+      return null;
+    }
+
+    Transcoder<Object> transcoder = getTranscoder();
+    try {
+      if (!refresh) {
+        OperationFuture<Boolean> future =
+            arcusClient.add(arcusKey, configuration.getStaleSetLeaseSeconds(), SetLeaseTranscoder.LEASE, transcoder);
+        if (!await(future, AdaptiveTimeout.Type.STORE)) {
+          recordSuccess();
+          logger.debug("failed to acquire a lease, the key exists. key: {}", arcusKey);
+          return null;
+        }
       }
+      CASValue<Object> casValue = await(arcusClient.asyncGets(arcusKey, transcoder), AdaptiveTimeout.Type.GET);
+      recordSuccess();
+      boolean leased = casValue != null && (refresh ? casValue.getValue() != null : casValue.getValue() == null);
+      return leased ? casValue.getCas() : null;
     } catch (Exception e) {
+      recordFailure(e);
       if (e instanceof InterruptedException || configuration.isWantToGetException()) {
         throw toRuntimeException(e);
       }
-      logger.info("failed to evict. error: {}, key: {}", e.getMessage(), arcusKey);
-    } finally {
-      ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
-      if (arcusFrontCache != null && (success || configuration.isForceFrontCaching())) {
-        arcusFrontCache.delete(arcusKey);
-      }
+      logger.info("failed to acquire a lease. error: {}, key: {}", e.getMessage(), arcusKey);
+      return null;
     }
   }
 
   @Override
-  public void clear() {
-    String serviceId = configuration.getServiceId();
-    String prefix = configuration.getPrefix();
-    String arcusPrefix = serviceId + ((prefix != null) ? prefix : name);
-    logger.debug("evicting every key that uses the prefix: {}", arcusPrefix);
+  public void put(final Object key, final Object value) {
+    put(key, value, 0L, null);
+  }
 
-    boolean success = false;
+  private void put(Object key, @Nullable Object value, long loadMillis, @Nullable Long lease) {
+    if (value == null && !isAllowNullValues()) {
+      throw new IllegalArgumentException(getNullValueNotAllowedMessage());
+    }
 
+    long start = System.nanoTime();
+    String arcusKey = createArcusKey(key);
+    ArcusCacheSpan span = startSpan(SPAN_PUT, arcusKey);
     try {
-      OperationFuture<Boolean> future = arcusClient.flush(arcusPrefix);
-      success = future.get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
-      if (!success) {
-        OperationStatus status = future.getStatus();
-        logger.info("failed to clear a prefix: {}, status: {}", arcusPrefix, status.getMessage());
-      }
+      Object storeValue = toStoreValue(value, loadMillis);
+      setValueSize(span, storeValue);
+      boolean success = lease != null ? putValueWithLease(arcusKey, storeValue, lease) :
+          putBehind(arcusKey, storeValue) || putValue(arcusKey, storeValue);
+      span.setAttribute(ArcusCacheSpan.OUTCOME, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE);
     } catch (Exception e) {
+      recordFailure(e);
+      failSpan(span, e);
       if (e instanceof InterruptedException || configuration.isWantToGetException()) {
         throw toRuntimeException(e);
       }
-      logger.info("failed to clear. error: {}, prefix: {}", e.getMessage(), arcusPrefix);
+      logger.info("failed to put. error: {}, key: {}", e.getMessage(), arcusKey);
     } finally {
-      ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
-      if (arcusFrontCache != null && (success || configuration.isForceFrontCaching())) {
-        arcusFrontCache.clear();
-      }
+      span.end();
+      statistics.recordLatency(ArcusCacheStatistics.Operation.PUT, System.nanoTime() - start);
     }
   }
 
   /**
-   * serviceId, prefix, name 값을 사용하여 Arcus 캐시 키를 생성합니다.
-   * <p> 캐시 키는 serviceId + (prefix | name) + ":" + key.toString() 형태로 구성됩니다. </p>
-   * <p> prefix가 주어지지 않았다면, name을 prefix처럼 사용합니다. </p>
-   * <p> 캐시 키의 길이가 250자를 넘을 경우에는 key.toString() 부분을 MD5로 해싱하여 사용합니다. </p>
+   * 캐시 아이템을 비동기로 조회합니다.
+   * <p> Front Cache에 존재하는 아이템은 즉시 완료된 future로 반환합니다. </p>
+   * <p> ARCUS 조회 요청은 호출한 스레드에서 보내고, 그 결과는 ArcusCacheConfiguration의 asyncExecutor에서 기다립니다. </p>
    *
    * @param key key
-   * @return 입력받은 키를 기반으로 캐시 키를 생성하고 반환한다. 입력받은 키의 타입에 따라 캐시 키의 형태가 달라질 수 있다
+   * @return 캐시 아이템이 존재하면 ValueWrapper, 존재하지 않으면 null로 완료되는 future
    */
-  public String createArcusKey(final Object key) {
-    Assert.notNull(key, "key must not be null.");
-    String keyString;
+  public CompletableFuture<ValueWrapper> retrieve(Object key) {
+    long start = System.nanoTime();
+    String arcusKey = createArcusKey(key);
+    logger.debug("getting value asynchronously by key: {}", arcusKey);
 
-    if (key instanceof ArcusStringKey) {
-      keyString = ((ArcusStringKey) key).getStringKey();
-    } else if (key instanceof Integer) {
-      keyString = key.toString();
-    } else {
-      keyString = key.toString();
-      int hash = ArcusStringKey.light_hash(keyString);
-      keyString = keyString.replace(' ', '_') + hash;
+    Object value = getLocalValue(arcusKey);
+    if (value != null) {
+      statistics.recordLatency(ArcusCacheStatistics.Operation.GET, System.nanoTime() - start);
+      return CompletableFuture.completedFuture(toValueWrapper(value));
+    }
+    if (!tryAcquirePermission()) {
+      statistics.recordMisses(1);
+      statistics.recordLatency(ArcusCacheStatistics.Operation.GET, System.nanoTime() - start);
+      return CompletableFuture.completedFuture(null);
     }
 
-    String prefixString = getPrefixString();
-
-    if (prefixString.length() + keyString.length() > 250) {
-      return prefixString + DigestUtils.md5DigestAsHex(keyString.getBytes());
+    GetFuture<Object> future;
+    try {
+      future = asyncGet(arcusKey);
+    } catch (Exception e) {
+      return recordLatency(failedAsync(e, "retrieve", arcusKey, null), ArcusCacheStatistics.Operation.GET, start);
     }
-    return prefixString + keyString;
+    return recordLatency(awaitAsync(() -> {
+      Object remoteValue = awaitGet(arcusKey, future);
+      if (remoteValue == null) {
+        statistics.recordMisses(1);
+      }
+      return toValueWrapper(remoteValue);
+    }, "retrieve", arcusKey, null), ArcusCacheStatistics.Operation.GET, start);
   }
 
-  private String getPrefixString() {
-    String serviceId = configuration.getServiceId();
-    String prefix = configuration.getPrefix();
-    return serviceId + ((prefix != null) ? prefix : name) + ":";
+  /**
+   * 캐시 아이템을 비동기로 조회하고, 존재하지 않으면 valueLoader가 반환한 future의 값을 캐시에 저장합니다.
+   * <p> 저장 요청의 완료는 기다리지 않습니다. </p>
+   *
+   * @param key key
+   * @param valueLoader 캐시 아이템이 존재하지 않을 때 값을 불러오는 future의 Supplier
+   * @param <T> type of value
+   * @return 캐시 아이템 또는 valueLoader가 불러온 값으로 완료되는 future
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+    return retrieve(key).thenCompose(result -> {
+      if (result != null) {
+        return CompletableFuture.completedFuture((T) result.get());
+      }
+      return valueLoader.get().thenApply(value -> {
+        putAsync(key, value);
+        return value;
+      });
+    });
+  }
+
+  /**
+   * 캐시 아이템을 비동기로 저장합니다.
+   * <p> Front Cache 저장 여부는 put과 동일하게 forceFrontCaching 설정을 따릅니다. </p>
+   *
+   * @param key key
+   * @param value value
+   * @return 저장 요청이 끝나면 완료되는 future
+   */
+  public CompletableFuture<Void> putAsync(Object key, @Nullable Object value) {
+    if (value == null && !isAllowNullValues()) {
+      throw new IllegalArgumentException(getNullValueNotAllowedMessage());
+    }
+
+    long start = System.nanoTime();
+    String arcusKey = createArcusKey(key);
+    Object storeValue = toStoreValue(value);
+    logger.debug("trying to put key asynchronously: {}", arcusKey);
+    cancelWriteBehind(arcusKey);
+
+    if (!tryAcquirePermission()) {
+      putFrontCache(arcusKey, storeValue, false);
+      statistics.recordLatency(ArcusCacheStatistics.Operation.PUT, System.nanoTime() - start);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    OperationFuture<Boolean> future;
+    try {
+      future = asyncSet(arcusKey, storeValue);
+    } catch (Exception e) {
+      putFrontCache(arcusKey, storeValue, false);
+      return recordLatency(failedAsync(e, "put", arcusKey, null), ArcusCacheStatistics.Operation.PUT, start);
+    }
+    return recordLatency(awaitAsync(() -> {
+      boolean success = false;
+      try {
+        success = awaitPut(arcusKey, future);
+      } finally {
+        putFrontCache(arcusKey, storeValue, success);
+      }
+      return null;
+    }, "put", arcusKey, null), ArcusCacheStatistics.Operation.PUT, start);
+  }
+
+  /**
+   * 캐시 아이템을 비동기로 삭제합니다.
+   * <p> Front Cache 삭제 여부는 evict와 동일하게 forceFrontCaching 설정을 따릅니다. </p>
+   *
+   * @param key key
+   * @return 캐시 아이템을 삭제하였다면 true, 그렇지 않다면 false로 완료되는 future
+   */
+  public CompletableFuture<Boolean> evictAsync(Object key) {
+    long start = System.nanoTime();
+    String arcusKey = createArcusKey(key);
+    logger.debug("evicting a key asynchronously: {}", arcusKey);
+    cancelWriteBehind(arcusKey);
+
+    if (!tryAcquirePermission()) {
+      evictFrontCache(arcusKey, false);
+      statistics.recordLatency(ArcusCacheStatistics.Operation.EVICT, System.nanoTime() - start);
+      return CompletableFuture.completedFuture(false);
+    }
+
+    OperationFuture<Boolean> future;
+    try {
+      future = arcusClient.delete(arcusKey);
+    } catch (Exception e) {
+      evictFrontCache(arcusKey, false);
+      return recordLatency(failedAsync(e, "evict", arcusKey, false), ArcusCacheStatistics.Operation.EVICT, start);
+    }
+    return recordLatency(awaitAsync(() -> {
+      boolean success = false;
+      try {
+        success = awaitEvict(arcusKey, future);
+      } finally {
+        evictFrontCache(arcusKey, success);
+      }
+      return success;
+    }, "evict", arcusKey, false), ArcusCacheStatistics.Operation.EVICT, start);
+  }
+
+  /**
+   * 여러 캐시 아이템을 한 번에 저장합니다.
+   * <p> 각 set 연산의 결과를 기다리지 않고 모두 요청한 뒤, 하나의 timeout 안에서 전체 결과를 기다립니다. </p>
+   * <p> Front Cache에는 put과 동일하게 저장에 성공한 아이템만 저장하며, forceFrontCaching 설정 시 모든 아이템을 저장합니다. </p>
+   *
+   * @param values 저장할 키와 값의 Map
+   * @return 저장에 실패한 키의 Set. 모든 아이템을 저장하였다면 빈 Set을 리턴한다.
+   */
+  public Set<Object> putAll(Map<?, ?> values) {
+    Assert.notNull(values, "values must not be null.");
+
+    Map<Object, String> arcusKeys = new LinkedHashMap<>();
+    Map<String, Object> storeValues = new LinkedHashMap<>();
+    for (Map.Entry<?, ?> entry : values.entrySet()) {
+      if (entry.getValue() == null && !isAllowNullValues()) {
+        throw new IllegalArgumentException(getNullValueNotAllowedMessage());
+      }
+      String arcusKey = createArcusKey(entry.getKey());
+      arcusKeys.put(entry.getKey(), arcusKey);
+      storeValues.put(arcusKey, toStoreValue(entry.getValue()));
+    }
+
+    long start = System.nanoTime();
+    BatchResult result = putValues(storeValues);
+    statistics.recordLatency(ArcusCacheStatistics.Operation.PUT_ALL, System.nanoTime() - start);
+    if (result.exception != null) {
+      if (result.exception instanceof InterruptedException || configuration.isWantToGetException()) {
+        throw toRuntimeException(result.exception);
+      }
+      logger.info("failed to putAll. error: {}, keys: {}", result.exception.getMessage(), result.failedKeys);
+    }
+
+    Set<Object> failedKeys = new LinkedHashSet<>();
+    for (Map.Entry<Object, String> entry : arcusKeys.entrySet()) {
+      if (result.failedKeys.contains(entry.getValue())) {
+        failedKeys.add(entry.getKey());
+      }
+    }
+    return failedKeys;
+  }
+
+  /**
+   * @param key key
+   * @param value value
+   * @return 지정된 키에 대한 캐시 아이템이 존재하지 않았으며 지정된 값을 캐시에 저장하였다면 null을 리턴,
+   * 캐시 아이템이 이미 존재하였다면 지정된 키에 대한 값을 불러와 리턴한다. 값을 불러올 때 비원자적으로
+   * 수행되기 때문에 중간에 다른 캐시 연산 수행으로 인하여 새로운 값이 리턴 될 수 있으며 혹은 캐시 만료로 인해
+   * ValueWrapper의 내부 value가 null이 되어 리턴될 수 있다.
+   */
+  @Nullable
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    if (value == null && !isAllowNullValues()) {
+      logger.info(getNullValueNotAllowedMessage());
+      return super.get(key);
+    }
+
+    long start = System.nanoTime();
+    String arcusKey = createArcusKey(key);
+    ArcusCacheSpan span = startSpan(SPAN_PUT_IF_ABSENT, arcusKey);
+    try {
+      Object storeValue = toStoreValue(value);
+      setValueSize(span, storeValue);
+      ValueWrapper existing = putIfAbsentValue(arcusKey, storeValue);
+      span.setAttribute(ArcusCacheSpan.OUTCOME, OUTCOME_SUCCESS);
+      return existing;
+    } catch (Exception e) {
+      recordFailure(e);
+      failSpan(span, e);
+      if (e instanceof InterruptedException || configuration.isWantToGetException()) {
+        throw toRuntimeException(e);
+      }
+      logger.info("failed to putIfAbsent. error: {}, key: {}", e.getMessage(), arcusKey);
+      return super.get(key);
+    } finally {
+      span.end();
+      statistics.recordLatency(ArcusCacheStatistics.Operation.PUT_IF_ABSENT, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * 캐시 아이템의 값을 원자적으로 변경합니다.
+   * <p> ARCUS에서 gets 연산으로 현재 값과 CAS 값을 조회하고, remappingFunction이 반환한 값을 cas 연산으로 저장합니다.
+   * 캐시 아이템이 없었다면 add 연산으로 저장합니다. 그 사이에 다른 요청이 캐시 아이템을 변경하였다면
+   * ArcusCacheConfiguration의 computeMaxRetries 횟수까지 다시 조회하여 remappingFunction을 호출하므로,
+   * remappingFunction은 여러 번 호출될 수 있습니다. </p>
+   * <p> remappingFunction이 null을 반환하면 캐시 아이템을 삭제합니다. 삭제는 CAS 값을 확인하지 않습니다. </p>
+   * <p> 현재 값은 Front Cache에서 조회하지 않으며, 저장 또는 삭제에 성공하면 Front Cache에도 반영합니다. </p>
+   * <p> ARCUS 요청을 보낼 수 없거나 실패하면 wantToGetException 설정과 관계없이 예외가 발생하며,
+   * 재시도 횟수를 초과하면 OptimisticLockingFailureException이 발생합니다. </p>
+   *
+   * @param key key
+   * @param remappingFunction 키와 현재 값으로 새로운 값을 계산하는 함수. 현재 값이 없다면 null이 전달된다.
+   * @return 저장한 값. 캐시 아이템을 삭제하였다면 null
+   */
+  @Nullable
+  public <T> T compute(Object key, BiFunction<Object, ? super T, ? extends T> remappingFunction) {
+    Assert.notNull(remappingFunction, "RemappingFunction must not be null.");
+    return compute(key, false, remappingFunction);
+  }
+
+  /**
+   * 캐시 아이템의 값이 존재하는 경우에만 compute와 같은 방식으로 원자적으로 변경합니다.
+   *
+   * @param key key
+   * @param remappingFunction 키와 현재 값으로 새로운 값을 계산하는 함수
+   * @return 저장한 값. 캐시 아이템이 없거나 삭제하였다면 null
+   */
+  @Nullable
+  public <T> T computeIfPresent(Object key, BiFunction<Object, ? super T, ? extends T> remappingFunction) {
+    Assert.notNull(remappingFunction, "RemappingFunction must not be null.");
+    return compute(key, true, remappingFunction);
+  }
+
+  /**
+   * 캐시 아이템이 없으면 지정된 값을 저장하고, 있으면 현재 값과 지정된 값을 remappingFunction으로 합친 값을
+   * compute와 같은 방식으로 원자적으로 저장합니다.
+   *
+   * @param key key
+   * @param value 캐시 아이템이 없을 때 저장할 값
+   * @param remappingFunction 현재 값과 지정된 값으로 새로운 값을 계산하는 함수
+   * @return 저장한 값. 캐시 아이템을 삭제하였다면 null
+   */
+  @Nullable
+  public <T> T merge(Object key, T value, BiFunction<? super T, ? super T, ? extends T> remappingFunction) {
+    Assert.notNull(value, "Value must not be null.");
+    Assert.notNull(remappingFunction, "RemappingFunction must not be null.");
+    return this.<T>compute(key, false,
+        (k, oldValue) -> oldValue == null ? value : remappingFunction.apply(oldValue, value));
+  }
+
+  @Nullable
+  private <T> T compute(Object key, boolean onlyIfPresent,
+                        BiFunction<Object, ? super T, ? extends T> remappingFunction) {
+    long start = System.nanoTime();
+    String arcusKey = createArcusKey(key);
+    ArcusCacheSpan span = startSpan(SPAN_COMPUTE, arcusKey);
+    try {
+      T value = computeValue(key, arcusKey, onlyIfPresent, remappingFunction);
+      span.setAttribute(ArcusCacheSpan.OUTCOME, OUTCOME_SUCCESS);
+      return value;
+    } catch (Exception e) {
+      failSpan(span, e);
+      throw toRuntimeException(e);
+    } finally {
+      span.end();
+      statistics.recordLatency(ArcusCacheStatistics.Operation.COMPUTE, System.nanoTime() - start);
+    }
+  }
+
+  /*
+   * A NullValue or a lease item is regarded as no value, but it is replaced by cas since the item exists.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private <T> T computeValue(Object key, String arcusKey, boolean onlyIfPresent,
+                             BiFunction<Object, ? super T, ? extends T> remappingFunction) throws Exception {
+    logger.debug("trying to compute key: {}", arcusKey);
+    putQueuedValue(arcusKey);
+
+    for (int retry = 0; ; retry++) {
+      CASValue<Object> current = getsValue(arcusKey);
+      Object currentValue = current != null ? current.getValue() : null;
+      T oldValue = currentValue != null ? (T) fromStoreValue(currentValue) : null;
+      if (onlyIfPresent && oldValue == null) {
+        return null;
+      }
+
+      T newValue = remappingFunction.apply(key, oldValue);
+      if (newValue == null) {
+        if (current != null) {
+          deleteComputedValue(arcusKey);
+        }
+        return null;
+      }
+      if (storeComputedValue(arcusKey, current, toStoreValue(newValue))) {
+        return newValue;
+      }
+
+      if (retry >= configuration.getComputeMaxRetries()) {
+        throw new OptimisticLockingFailureException(
+            "failed to compute a key: " + arcusKey + " after " + retry + " retries.");
+      }
+      logger.debug("retrying to compute a key changed by another request: {}", arcusKey);
+      backoff(retry);
+    }
+  }
+
+  /*
+   * A value queued by write-behind is stored first, so that it is not lost or stored over the computed value.
+   */
+  private void putQueuedValue(String arcusKey) throws Exception {
+    WriteBehindQueue queue = writeBehindQueue;
+    Object queued = queue != null ? queue.remove(arcusKey) : null;
+    if (queued == null) {
+      return;
+    }
+    try {
+      putValue(arcusKey, queued);
+    } catch (Exception e) {
+      recordFailure(e);
+      throw e;
+    }
+  }
+
+  @Nullable
+  private CASValue<Object> getsValue(String arcusKey) throws Exception {
+    checkPermission(arcusKey);
+    try {
+      Transcoder<Object> operationTranscoder = getTranscoder();
+      GetFuture<CASValue<Object>> future = operationTranscoder != null ?
+          arcusClient.asyncGets(arcusKey, operationTranscoder) : arcusClient.asyncGets(arcusKey);
+      CASValue<Object> value = await(future, AdaptiveTimeout.Type.GET);
+      recordSuccess();
+      return value;
+    } catch (Exception e) {
+      recordFailure(e);
+      throw e;
+    }
+  }
+
+  private boolean storeComputedValue(String arcusKey, @Nullable CASValue<Object> current, Object value)
+      throws Exception {
+    checkPermission(arcusKey);
+    Transcoder<Object> operationTranscoder = getTranscoder();
+    int expireSeconds = getArcusExpireSeconds(value);
+    boolean success;
+    try {
+      if (current == null) {
+        OperationFuture<Boolean> future = operationTranscoder != null ?
+            arcusClient.add(arcusKey, expireSeconds, value, operationTranscoder) :
+            arcusClient.add(arcusKey, expireSeconds, value);
+        success = await(future, AdaptiveTimeout.Type.STORE);
+      } else {
+        OperationFuture<CASResponse> future = operationTranscoder != null ?
+            arcusClient.asyncCAS(arcusKey, current.getCas(), expireSeconds, value, operationTranscoder) :
+            arcusClient.asyncCAS(arcusKey, current.getCas(), expireSeconds, value);
+        success = await(future, AdaptiveTimeout.Type.STORE) == CASResponse.OK;
+      }
+      recordSuccess();
+    } catch (Exception e) {
+      recordFailure(e);
+      throw e;
+    }
+
+    if (success) {
+      statistics.recordPuts(1);
+      putFrontCache(arcusKey, value, true);
+    }
+    return success;
+  }
+
+  private void deleteComputedValue(String arcusKey) throws Exception {
+    checkPermission(arcusKey);
+    boolean success;
+    try {
+      success = await(arcusClient.delete(arcusKey), AdaptiveTimeout.Type.DELETE);
+      recordSuccess();
+    } catch (Exception e) {
+      recordFailure(e);
+      throw e;
+    }
+
+    if (success) {
+      statistics.recordEvictions(1);
+    }
+    evictFrontCache(arcusKey, true);
+  }
+
+  private void checkPermission(String arcusKey) {
+    if (!tryAcquirePermission()) {
+      throw new IllegalStateException("requests to arcus are not permitted now. key: " + arcusKey);
+    }
+  }
+
+  /*
+   * Wait for the backoff doubled on every retry, with a random jitter of up to half of it.
+   */
+  private void backoff(int retry) throws InterruptedException {
+    long backoff = configuration.getComputeBackoffMilliSeconds() << Math.min(retry, 10);
+    if (backoff > 0) {
+      TimeUnit.MILLISECONDS.sleep(backoff - ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+    }
+  }
+
+  @Override
+  public void evict(final Object key) {
+    long start = System.nanoTime();
+    String arcusKey = createArcusKey(key);
+    logger.debug("evicting a key: {}", arcusKey);
+    cancelWriteBehind(arcusKey);
+
+    boolean success = false;
+    ArcusCacheSpan span = startSpan(SPAN_EVICT, arcusKey);
+
+    try {
+      success = tryAcquirePermission() && awaitEvict(arcusKey, arcusClient.delete(arcusKey));
+      span.setAttribute(ArcusCacheSpan.OUTCOME, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE);
+    } catch (Exception e) {
+      recordFailure(e);
+      failSpan(span, e);
+      if (e instanceof InterruptedException || configuration.isWantToGetException()) {
+        throw toRuntimeException(e);
+      }
+      logger.info("failed to evict. error: {}, key: {}", e.getMessage(), arcusKey);
+    } finally {
+      evictFrontCache(arcusKey, success);
+      span.end();
+      statistics.recordLatency(ArcusCacheStatistics.Operation.EVICT, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * 여러 캐시 아이템을 한 번에 삭제합니다.
+   * <p> 각 delete 연산의 결과를 기다리지 않고 모두 요청한 뒤, 하나의 timeout 안에서 전체 결과를 기다립니다. </p>
+   * <p> Front Cache에서는 evict와 동일하게 삭제에 성공한 아이템만 삭제하며, forceFrontCaching 설정 시 모든 아이템을 삭제합니다. </p>
+   *
+   * @param keys keys
+   */
+  public void evictAll(Collection<?> keys) {
+    Assert.notNull(keys, "keys must not be null.");
+
+    Set<String> arcusKeys = new LinkedHashSet<>();
+    for (Object key : keys) {
+      arcusKeys.add(createArcusKey(key));
+    }
+    logger.debug("evicting keys: {}", arcusKeys);
+
+    long start = System.nanoTime();
+    BatchResult result = evictValues(arcusKeys);
+    statistics.recordLatency(ArcusCacheStatistics.Operation.EVICT_ALL, System.nanoTime() - start);
+    if (result.exception != null) {
+      if (result.exception instanceof InterruptedException || configuration.isWantToGetException()) {
+        throw toRuntimeException(result.exception);
+      }
+      logger.info("failed to evictAll. error: {}, keys: {}", result.exception.getMessage(), result.failedKeys);
+    }
+  }
+
+  /**
+   * 캐시의 모든 아이템을 삭제합니다.
+   * <p> generation clear 설정 시에는 prefix를 flush하지 않고, ARCUS counter에 저장된 generation을 증가시킵니다. </p>
+   */
+  @Override
+  public void clear() {
+    long start = System.nanoTime();
+    ArcusCacheSpan span = startSpan(SPAN_CLEAR, null);
+    WriteBehindQueue queue = writeBehindQueue;
+    if (queue != null) {
+      queue.clear();
+    }
+    try {
+      boolean success = configuration.isGenerationClear() ? clearGeneration() : clearPrefix();
+      span.setAttribute(ArcusCacheSpan.OUTCOME, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE);
+    } catch (RuntimeException e) {
+      failSpan(span, e);
+      throw e;
+    } finally {
+      span.end();
+      statistics.recordLatency(ArcusCacheStatistics.Operation.CLEAR, System.nanoTime() - start);
+    }
+  }
+
+  private boolean clearPrefix() {
+    String arcusPrefix = getArcusPrefix();
+    logger.debug("evicting every key that uses the prefix: {}", arcusPrefix);
+
+    boolean success = false;
+
+    try {
+      OperationFuture<Boolean> future = arcusClient.flush(arcusPrefix);
+      success = future.get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
+      if (!success) {
+        recordFailure(null);
+        OperationStatus status = future.getStatus();
+        logger.info("failed to clear a prefix: {}, status: {}", arcusPrefix, status.getMessage());
+      }
+    } catch (Exception e) {
+      recordFailure(e);
+      if (e instanceof InterruptedException || configuration.isWantToGetException()) {
+        throw toRuntimeException(e);
+      }
+      logger.info("failed to clear. error: {}, prefix: {}", e.getMessage(), arcusPrefix);
+    } finally {
+      ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+      if (arcusFrontCache != null && (success || configuration.isForceFrontCaching())) {
+        arcusFrontCache.clear();
+      }
+    }
+    return success;
+  }
+
+  /**
+   * serviceId, prefix, name 값을 사용하여 Arcus 캐시 키를 생성합니다.
+   * <p> 캐시 키는 serviceId + (prefix | name) + ":" + key.toString() 형태로 구성됩니다. </p>
+   * <p> prefix가 주어지지 않았다면, name을 prefix처럼 사용합니다. </p>
+   * <p> 캐시 키의 길이가 250자를 넘을 경우에는 key.toString() 부분을 MD5로 해싱하여 사용합니다. </p>
+   *
+   * @param key key
+   * @return 입력받은 키를 기반으로 캐시 키를 생성하고 반환한다. 입력받은 키의 타입에 따라 캐시 키의 형태가 달라질 수 있다
+   */
+  public String createArcusKey(final Object key) {
+    Assert.notNull(key, "key must not be null.");
+    String keyString;
+
+    if (key instanceof ArcusStringKey) {
+      keyString = ((ArcusStringKey) key).getStringKey();
+    } else if (key instanceof Integer) {
+      keyString = key.toString();
+    } else {
+      keyString = key.toString();
+      int hash = ArcusStringKey.light_hash(keyString);
+      keyString = keyString.replace(' ', '_') + hash;
+    }
+
+    String prefixString = getPrefixString();
+
+    if (prefixString.length() + keyString.length() > 250) {
+      return prefixString + DigestUtils.md5DigestAsHex(keyString.getBytes());
+    }
+    return prefixString + keyString;
+  }
+
+  private String getPrefixString() {
+    if (configuration.isGenerationClear()) {
+      return getArcusPrefix() + GENERATION_PREFIX_SEPARATOR + getGeneration() + ":";
+    }
+    return getArcusPrefix() + ":";
+  }
+
+  private String getArcusPrefix() {
+    String serviceId = configuration.getServiceId();
+    String prefix = configuration.getPrefix();
+    return serviceId + ((prefix != null) ? prefix : name);
+  }
+
+  private String getGenerationKey() {
+    return getArcusPrefix() + GENERATION_KEY_SUFFIX;
+  }
+
+  /*
+   * Read the generation from Arcus in the asyncExecutor at most once per generationCheckInterval,
+   * and retry more often until it is read for the first time.
+   * The origin of System.nanoTime() is arbitrary and may be negative, so the first check is not compared with it.
+   * The caller does not wait for the read. Until the generation is known, -1 is returned
+   * and tryAcquirePermission() rejects every request for the items, so no key of an unknown generation is used.
+   */
+  private long getGeneration() {
+    long current = generation.get();
+    long checkedAt = generationCheckedAt.get();
+    long interval = current < 0 ? GENERATION_RETRY_INTERVAL_NANOSECONDS :
+        TimeUnit.MILLISECONDS.toNanos(configuration.getGenerationCheckIntervalMilliSeconds());
+    long now = System.nanoTime();
+    if ((checkedAt == GENERATION_NEVER_CHECKED || now - checkedAt >= interval) &&
+        generationCheckedAt.compareAndSet(checkedAt, now)) {
+      scheduleGenerationRefresh();
+      current = generation.get();
+    }
+    return current;
+  }
+
+  private boolean isGenerationUnknown() {
+    return configuration.isGenerationClear() && generation.get() < 0;
+  }
+
+  private void scheduleGenerationRefresh() {
+    if (!generationRefreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executeAsync(() -> {
+        try {
+          refreshGeneration();
+        } finally {
+          generationRefreshing.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      generationRefreshing.set(false);
+      logger.info("failed to get a generation. error: {}, key: {}", e.getMessage(), getGenerationKey());
+    }
+  }
+
+  /*
+   * Incrementing by 0 reads the counter. If the counter has been evicted, it is recreated
+   * with the current time, which is larger than any generation used before.
+   */
+  private void refreshGeneration() {
+    String generationKey = getGenerationKey();
+    if (!tryAcquireBreakerPermission()) {
+      logger.debug("circuit breaker is open, skipping to get a generation. key: {}", generationKey);
+      return;
+    }
+    try {
+      Long fetched = await(arcusClient.asyncIncr(generationKey, 0, initialGeneration(), 0),
+          AdaptiveTimeout.Type.STORE);
+      recordSuccess();
+      if (fetched == null || fetched < 0) {
+        logger.info("failed to get a generation. key: {}", generationKey);
+        return;
+      }
+      if (updateGeneration(fetched)) {
+        ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+        if (arcusFrontCache != null) {
+          arcusFrontCache.clear();
+        }
+      }
+    } catch (Exception e) {
+      recordFailure(e);
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      logger.info("failed to get a generation. error: {}, key: {}", e.getMessage(), generationKey);
+    }
+  }
+
+  private static long initialGeneration() {
+    return System.currentTimeMillis();
+  }
+
+  /*
+   * Returns true if a known generation has been changed.
+   */
+  private boolean updateGeneration(long newGeneration) {
+    long previous = generation.getAndAccumulate(newGeneration, Math::max);
+    generationCheckedAt.set(System.nanoTime());
+    return previous >= 0 && previous < newGeneration;
+  }
+
+  private boolean clearGeneration() {
+    String generationKey = getGenerationKey();
+    logger.debug("increasing the generation of the prefix: {}", getArcusPrefix());
+
+    boolean success = false;
+
+    try {
+      Long result = arcusClient.asyncIncr(generationKey, 1, initialGeneration(), 0)
+          .get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
+      success = result != null && result >= 0;
+      if (success) {
+        updateGeneration(result);
+      } else {
+        recordFailure(null);
+        logger.info("failed to increase a generation. key: {}", generationKey);
+      }
+    } catch (Exception e) {
+      recordFailure(e);
+      if (e instanceof InterruptedException || configuration.isWantToGetException()) {
+        throw toRuntimeException(e);
+      }
+      logger.info("failed to clear. error: {}, key: {}", e.getMessage(), generationKey);
+    } finally {
+      ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+      if (arcusFrontCache != null && (success || configuration.isForceFrontCaching())) {
+        arcusFrontCache.clear();
+      }
+    }
+    return success;
+  }
+
+  @Deprecated
+  public void setName(String name) {
+    Assert.notNull(name, "ArcusCache's 'name' property must have a value.");
+    this.name = name;
+  }
+
+  @Deprecated
+  public void setExpireSeconds(int expireSeconds) {
+    configuration.setExpireSeconds(expireSeconds);
+  }
+
+  @Deprecated
+  public void setTimeoutMilliSeconds(long timeoutMilliseconds) {
+    configuration.setTimeoutMilliSeconds(timeoutMilliseconds);
+  }
+
+  @Deprecated
+  public void setArcusClient(ArcusClientPool arcusClient) {
+    Assert.notNull(arcusClient, "ArcusCache's 'arcusClient' property must not be null.");
+    this.arcusClient = arcusClient;
+  }
+
+  @Deprecated
+  public String getServiceId() {
+    return configuration.getServiceId();
+  }
+
+  @Deprecated
+  public void setServiceId(String serviceId) {
+    Assert.notNull(serviceId, "ArcusCache's 'serviceId' property must have a value.");
+    configuration.setServiceId(serviceId);
+  }
+
+  @Deprecated
+  public boolean isWantToGetException() {
+    return configuration.isWantToGetException();
+  }
+
+  @Deprecated
+  public void setWantToGetException(boolean wantToGetException) {
+    configuration.setWantToGetException(wantToGetException);
+  }
+
+  @Deprecated
+  public int getExpireSeconds() {
+    return configuration.getExpireSeconds();
   }
 
   @Deprecated
-  public void setName(String name) {
-    Assert.notNull(name, "ArcusCache's 'name' property must have a value.");
-    this.name = name;
+  public long getTimeoutMilliSeconds() {
+    return configuration.getTimeoutMilliSeconds();
+  }
+
+  @Deprecated
+  public ArcusClientPool getArcusClient() {
+    return arcusClient;
+  }
+
+  @Deprecated
+  @Nullable
+  public Transcoder<Object> getOperationTranscoder() {
+    return configuration.getOperationTranscoder();
+  }
+
+  @Deprecated
+  public void setOperationTranscoder(Transcoder<Object> operationTranscoder) {
+    Assert.notNull(operationTranscoder, "ArcusCache's 'operationTranscoder' property must not be null.");
+    configuration.setOperationTranscoder(operationTranscoder);
+  }
+
+  @Deprecated
+  @Nullable
+  public String getPrefix() {
+    return configuration.getPrefix();
+  }
+
+  @Deprecated
+  public void setPrefix(String prefix) {
+    Assert.notNull(prefix, "ArcusCache's 'prefix' property must have a value.");
+    configuration.setPrefix(prefix);
+  }
+
+  @Deprecated
+  @Nullable
+  public ArcusFrontCache getArcusFrontCache() {
+    return configuration.getArcusFrontCache();
+  }
+
+  @Deprecated
+  public void setArcusFrontCache(ArcusFrontCache arcusFrontCache) {
+    Assert.notNull(arcusFrontCache, "ArcusCache's 'arcusFrontCache' property must not be null.");
+    configuration.setArcusFrontCache(arcusFrontCache);
+  }
+
+  @Deprecated
+  public int getFrontExpireSeconds() {
+    return configuration.getFrontExpireSeconds();
+  }
+
+  @Deprecated
+  public void setFrontExpireSeconds(int frontExpireSeconds) {
+    configuration.setFrontExpireSeconds(frontExpireSeconds);
+  }
+
+  @Deprecated
+  public void setForceFrontCaching(boolean forceFrontCaching) {
+    this.configuration.setForceFrontCaching(forceFrontCaching);
+  }
+
+  @Deprecated
+  public boolean getForceFrontCaching() {
+    return this.configuration.isForceFrontCaching();
+  }
+
+  private void acquireWriteLockOnKey(Object key) {
+    keyLockProvider.getLockForKey(key).writeLock().lock();
+  }
+
+  private void releaseWriteLockOnKey(Object key) {
+    keyLockProvider.getLockForKey(key).writeLock().unlock();
+  }
+
+  /*
+   * Futures of ARCUS client do not provide completion callbacks,
+   * so waiting for the result is done in the asyncExecutor instead of the caller thread.
+   */
+  private <T> CompletableFuture<T> awaitAsync(Callable<T> waiter, String operation, String arcusKey,
+                                              @Nullable T fallback) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      executeAsync(() -> {
+        try {
+          result.complete(waiter.call());
+        } catch (Exception e) {
+          completeFailure(result, e, operation, arcusKey, fallback);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      completeFailure(result, e, operation, arcusKey, fallback);
+    }
+    return result;
+  }
+
+  private <T> CompletableFuture<T> recordLatency(CompletableFuture<T> future, ArcusCacheStatistics.Operation operation,
+                                                 long start) {
+    future.whenComplete((result, e) -> statistics.recordLatency(operation, System.nanoTime() - start));
+    return future;
+  }
+
+  private <T> CompletableFuture<T> failedAsync(Exception e, String operation, String arcusKey, @Nullable T fallback) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    completeFailure(result, e, operation, arcusKey, fallback);
+    return result;
+  }
+
+  private <T> void completeFailure(CompletableFuture<T> result, Exception e, String operation, String arcusKey,
+                                   @Nullable T fallback) {
+    recordFailure(e);
+    if (e instanceof InterruptedException || configuration.isWantToGetException()) {
+      result.completeExceptionally(e);
+      return;
+    }
+    logger.info("failed to {}. error: {}, key: {}", operation, e.getMessage(), arcusKey);
+    result.complete(fallback);
+  }
+
+  private <T> T await(Future<T> future, AdaptiveTimeout.Type type) throws Exception {
+    long timeout = getTimeoutMilliSeconds(type);
+    long start = System.nanoTime();
+    try {
+      T result = future.get(timeout, TimeUnit.MILLISECONDS);
+      recordResponseTime(type, System.nanoTime() - start);
+      return result;
+    } catch (TimeoutException e) {
+      recordResponseTime(type, TimeUnit.MILLISECONDS.toNanos(timeout));
+      throw e;
+    }
+  }
+
+  private long getTimeoutMilliSeconds(AdaptiveTimeout.Type type) {
+    AdaptiveTimeout timeout = getAdaptiveTimeout();
+    return timeout != null ? timeout.getTimeoutMilliSeconds(type) : configuration.getTimeoutMilliSeconds();
+  }
+
+  private void recordResponseTime(AdaptiveTimeout.Type type, long nanos) {
+    AdaptiveTimeout timeout = getAdaptiveTimeout();
+    if (timeout != null) {
+      timeout.record(type, nanos);
+    }
+  }
+
+  @Nullable
+  private AdaptiveTimeout getAdaptiveTimeout() {
+    if (!configuration.isAdaptiveTimeout()) {
+      return null;
+    }
+    AdaptiveTimeout timeout = adaptiveTimeout;
+    if (timeout == null) {
+      synchronized (this) {
+        timeout = adaptiveTimeout;
+        if (timeout == null) {
+          timeout = new AdaptiveTimeout(configuration);
+          adaptiveTimeout = timeout;
+        }
+      }
+    }
+    return timeout;
+  }
+
+  /*
+   * Without a circuit breaker every request is permitted, unless the generation is unknown.
+   * A permitted request must report its result through recordSuccess or recordFailure.
+   */
+  private boolean tryAcquirePermission() {
+    if (isGenerationUnknown()) {
+      logger.debug("generation is unknown, skipping a request to arcus. cache: {}", name);
+      return false;
+    }
+    if (tryAcquireBreakerPermission()) {
+      return true;
+    }
+    logger.debug("circuit breaker is open, skipping a request to arcus. cache: {}", name);
+    return false;
+  }
+
+  /*
+   * Requests of keys without the generation, such as the generation counter and the invalidation log,
+   * are allowed while the generation is unknown.
+   */
+  private boolean tryAcquireBreakerPermission() {
+    ArcusCircuitBreaker breaker = getCircuitBreaker();
+    return breaker == null || breaker.tryAcquirePermission();
+  }
+
+  private void recordSuccess() {
+    ArcusCircuitBreaker breaker = getCircuitBreaker();
+    if (breaker != null) {
+      breaker.onSuccess();
+    }
+  }
+
+  /*
+   * A null exception means that Arcus has responded with a failure status,
+   * which is not a sign of an unhealthy Arcus, so it is not counted by the circuit breaker.
+   * Neither is a task rejected by the saturated asyncExecutor, which is a local failure.
+   */
+  private void recordFailure(@Nullable Exception e) {
+    statistics.recordFailure(e);
+    ArcusCircuitBreaker breaker = getCircuitBreaker();
+    if (breaker != null && e != null && !(e instanceof InterruptedException) &&
+        !(e instanceof RejectedExecutionException)) {
+      breaker.onFailure();
+    }
+  }
+
+  @Nullable
+  private ArcusCircuitBreaker getCircuitBreaker() {
+    if (!configuration.isCircuitBreaker()) {
+      return null;
+    }
+    ArcusCircuitBreaker breaker = circuitBreaker;
+    if (breaker == null) {
+      synchronized (this) {
+        breaker = circuitBreaker;
+        if (breaker == null) {
+          breaker = new ArcusCircuitBreaker(name, configuration);
+          circuitBreaker = breaker;
+        }
+      }
+    }
+    return breaker;
+  }
+
+  private ArcusCacheSpan startSpan(String spanName, @Nullable String arcusKey) {
+    ArcusCacheTracer tracer = configuration.getTracer();
+    if (tracer == null) {
+      return ArcusCacheSpan.NOOP;
+    }
+
+    ArcusCacheSpan span = tracer.startSpan(spanName);
+    if (span.isRecording()) {
+      span.setAttribute(ArcusCacheSpan.CACHE_NAME, name);
+      if (arcusKey != null) {
+        span.setAttribute(ArcusCacheSpan.KEY_LENGTH, arcusKey.length());
+      }
+    }
+    return span;
+  }
+
+  private void failSpan(ArcusCacheSpan span, Exception e) {
+    span.setAttribute(ArcusCacheSpan.OUTCOME,
+        ArcusCacheStatistics.isTimeout(e) ? OUTCOME_TIMEOUT : OUTCOME_FAILURE);
+    span.recordException(e);
+  }
+
+  /*
+   * The value is encoded again only for the size, so it is done only when the span is recorded.
+   */
+  private void setValueSize(ArcusCacheSpan span, @Nullable Object value) {
+    if (value == null || !span.isRecording()) {
+      return;
+    }
+
+    Transcoder<Object> transcoder = getTranscoder();
+    if (transcoder == null) {
+      transcoder = arcusClient.getTranscoder();
+    }
+    if (transcoder == null) {
+      return;
+    }
+    try {
+      span.setAttribute(ArcusCacheSpan.VALUE_SIZE, transcoder.encode(value).getData().length);
+    } catch (Exception e) {
+      logger.debug("failed to encode a value for its size. error: {}", e.getMessage());
+    }
+  }
+
+  private String getNullValueNotAllowedMessage() {
+    return String.format("Cache '%s' does not allow 'null' values. " +
+            "Avoid storing null via '@Cacheable(unless=\"#result == null\")' or configure ArcusCache " +
+            "to allow 'null' via ArcusCacheConfiguration.", name);
+  }
+
+  private RuntimeException toRuntimeException(Exception e) {
+    if (e instanceof RuntimeException) {
+      return (RuntimeException) e;
+    } else {
+      return new RuntimeException(e);
+    }
+  }
+
+  @Nullable
+  private Object getValue(String arcusKey, ArcusCacheSpan span) throws Exception {
+    logger.debug("getting value by key: {}", arcusKey);
+
+    Object value = getLocalValue(arcusKey);
+    if (value != null) {
+      span.setAttribute(ArcusCacheSpan.HIT, HIT_FRONT);
+      return value;
+    }
+
+    if (!tryAcquirePermission()) {
+      span.setAttribute(ArcusCacheSpan.HIT, HIT_MISS);
+      return null;
+    }
+
+    LookupBatcher batcher = getLookupBatcher();
+    if (batcher != null) {
+      value = batcher.get(arcusKey);
+      recordSuccess();
+      // With the remaining expire time, the front cache is set once for the whole batch in loadBatch.
+      cacheRemoteValue(arcusKey, value, !configuration.isFrontExpireByRemainingTime());
+    } else {
+      value = awaitGet(arcusKey, asyncGet(arcusKey));
+    }
+    span.setAttribute(ArcusCacheSpan.HIT, value != null ? HIT_REMOTE : HIT_MISS);
+    setValueSize(span, value);
+    return value;
+  }
+
+  /*
+   * A value queued by write-behind may not have been stored in Arcus yet, and its front cache item may have expired,
+   * so the write-behind queue is looked up before the front cache. Both are counted as front cache hits.
+   */
+  @Nullable
+  private Object getLocalValue(String arcusKey) {
+    Object value = getQueuedValue(arcusKey);
+    if (value != null) {
+      logger.debug("write-behind queue hit for {}", arcusKey);
+      statistics.recordFrontHits(1);
+      return value;
+    }
+    return getFrontCacheValue(arcusKey);
+  }
+
+  @Nullable
+  private Object getQueuedValue(String arcusKey) {
+    WriteBehindQueue queue = writeBehindQueue;
+    return queue != null ? queue.get(arcusKey) : null;
+  }
+
+  @Nullable
+  private Object getFrontCacheValue(String arcusKey) {
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    if (arcusFrontCache != null) {
+      getInvalidationLog();
+    }
+    Object value = arcusFrontCache != null ? arcusFrontCache.get(arcusKey) : null;
+    if (value != null) {
+      logger.debug("front cache hit for {}", arcusKey);
+      statistics.recordFrontHits(1);
+    }
+    return value;
+  }
+
+  private GetFuture<Object> asyncGet(String arcusKey) {
+    Transcoder<Object> operationTranscoder = getTranscoder();
+    if (operationTranscoder != null) {
+      return arcusClient.asyncGet(arcusKey, operationTranscoder);
+    }
+    return arcusClient.asyncGet(arcusKey);
+  }
+
+  @Nullable
+  private Object awaitGet(String arcusKey, GetFuture<Object> future) throws Exception {
+    Object value = await(future, AdaptiveTimeout.Type.GET);
+    recordSuccess();
+    cacheRemoteValue(arcusKey, value);
+    if (value == null) {
+      OperationStatus status = future.getStatus();
+      if (!status.isSuccess()) {
+        recordFailure(null);
+        logger.info("failed to get a key: {}, status: {}", arcusKey, status.getMessage());
+      }
+    }
+    return value;
+  }
+
+  private void cacheRemoteValue(String arcusKey, @Nullable Object value) {
+    cacheRemoteValue(arcusKey, value, true);
+  }
+
+  /*
+   * A miss is recorded by the caller, which knows whether the lookup is repeated.
+   */
+  private void cacheRemoteValue(String arcusKey, @Nullable Object value, boolean setFrontCache) {
+    if (value == null) {
+      logger.debug("arcus cache miss for {}", arcusKey);
+      return;
+    }
+
+    logger.debug("arcus cache hit for {}", arcusKey);
+    statistics.recordHits(1);
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    if (arcusFrontCache != null && setFrontCache) {
+      if (configuration.isFrontExpireByRemainingTime()) {
+        setFrontCacheByRemainingTime(arcusFrontCache, Collections.singletonMap(arcusKey, value));
+      } else {
+        arcusFrontCache.set(arcusKey, value, getFrontCacheExpireSeconds(value));
+      }
+    }
+  }
+
+  @Nullable
+  private LookupBatcher getLookupBatcher() {
+    if (!configuration.isLookupBatching()) {
+      return null;
+    }
+    LookupBatcher batcher = lookupBatcher;
+    if (batcher == null) {
+      synchronized (this) {
+        batcher = lookupBatcher;
+        if (batcher == null) {
+          batcher = new LookupBatcher(configuration, this::loadBatch);
+          lookupBatcher = batcher;
+        }
+      }
+    }
+    return batcher;
+  }
+
+  /*
+   * With the remaining expire time, the getattr requests of the found keys are sent once for the batch,
+   * instead of once for each caller.
+   */
+  private Map<String, Object> loadBatch(Set<String> arcusKeys) throws Exception {
+    Map<String, Object> values = getBatch(arcusKeys);
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    if (arcusFrontCache == null || !configuration.isFrontExpireByRemainingTime()) {
+      return values;
+    }
+
+    Map<String, Object> hitValues = new HashMap<>();
+    for (Map.Entry<String, Object> entry : values.entrySet()) {
+      if (entry.getValue() != null) {
+        hitValues.put(entry.getKey(), entry.getValue());
+      }
+    }
+    if (!hitValues.isEmpty()) {
+      setFrontCacheByRemainingTime(arcusFrontCache, hitValues);
+    }
+    return values;
+  }
+
+  /*
+   * A batch of a single key is sent as a get, so a quiet cache does not pay for a bulk get.
+   */
+  private Map<String, Object> getBatch(Set<String> arcusKeys) throws Exception {
+    if (arcusKeys.size() == 1) {
+      String arcusKey = arcusKeys.iterator().next();
+      GetFuture<Object> future = asyncGet(arcusKey);
+      Object value = await(future, AdaptiveTimeout.Type.GET);
+      if (value == null && !future.getStatus().isSuccess()) {
+        logger.info("failed to get a key: {}, status: {}", arcusKey, future.getStatus().getMessage());
+      }
+      return value != null ? Collections.singletonMap(arcusKey, value) : Collections.emptyMap();
+    }
+
+    BulkFuture<Map<String, Object>> future;
+    Transcoder<Object> operationTranscoder = getTranscoder();
+    if (operationTranscoder != null) {
+      future = arcusClient.asyncGetBulk(arcusKeys, operationTranscoder);
+    } else {
+      future = arcusClient.asyncGetBulk(arcusKeys);
+    }
+    return await(future, AdaptiveTimeout.Type.GET_BULK);
   }
 
-  @Deprecated
-  public void setExpireSeconds(int expireSeconds) {
-    configuration.setExpireSeconds(expireSeconds);
-  }
+  /*
+   * Fill the given map with values found in the write-behind queue and the front cache first,
+   * so that they are still available to the caller if the bulk get fails.
+   */
+  private void getValues(Set<String> arcusKeys, Map<String, Object> values) throws Exception {
+    logger.debug("getting values by keys: {}", arcusKeys);
+
+    List<String> remoteKeys = new ArrayList<>(arcusKeys.size());
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    if (arcusFrontCache != null) {
+      getInvalidationLog();
+    }
+    for (String arcusKey : arcusKeys) {
+      Object value = getQueuedValue(arcusKey);
+      if (value == null && arcusFrontCache != null) {
+        value = arcusFrontCache.get(arcusKey);
+      }
+      if (value != null) {
+        values.put(arcusKey, value);
+      } else {
+        remoteKeys.add(arcusKey);
+      }
+    }
+    logger.debug("front cache hit for {} of {} keys", arcusKeys.size() - remoteKeys.size(), arcusKeys.size());
+    statistics.recordFrontHits(arcusKeys.size() - remoteKeys.size());
+
+    if (remoteKeys.isEmpty()) {
+      return;
+    }
+    if (!tryAcquirePermission()) {
+      statistics.recordMisses(remoteKeys.size());
+      return;
+    }
 
-  @Deprecated
-  public void setTimeoutMilliSeconds(long timeoutMilliseconds) {
-    configuration.setTimeoutMilliSeconds(timeoutMilliseconds);
-  }
+    BulkFuture<Map<String, Object>> future;
+    Transcoder<Object> operationTranscoder = getTranscoder();
+    if (operationTranscoder != null) {
+      future = arcusClient.asyncGetBulk(remoteKeys, operationTranscoder);
+    } else {
+      future = arcusClient.asyncGetBulk(remoteKeys);
+    }
 
-  @Deprecated
-  public void setArcusClient(ArcusClientPool arcusClient) {
-    Assert.notNull(arcusClient, "ArcusCache's 'arcusClient' property must not be null.");
-    this.arcusClient = arcusClient;
+    Map<String, Object> remoteValues = await(future, AdaptiveTimeout.Type.GET_BULK);
+    recordSuccess();
+    int hits = 0;
+    for (Object value : remoteValues.values()) {
+      if (value != null) {
+        hits++;
+      }
+    }
+    logger.debug("arcus cache hit for {} of {} keys", hits, remoteKeys.size());
+    statistics.recordHits(hits);
+    statistics.recordMisses(remoteKeys.size() - hits);
+    Map<String, Object> hitValues = new HashMap<>();
+    for (Map.Entry<String, Object> entry : remoteValues.entrySet()) {
+      if (entry.getValue() != null) {
+        hitValues.put(entry.getKey(), entry.getValue());
+      }
+    }
+    values.putAll(hitValues);
+    if (arcusFrontCache == null || hitValues.isEmpty()) {
+      return;
+    }
+    if (configuration.isFrontExpireByRemainingTime()) {
+      setFrontCacheByRemainingTime(arcusFrontCache, hitValues);
+      return;
+    }
+    for (Map.Entry<String, Object> entry : hitValues.entrySet()) {
+      arcusFrontCache.set(entry.getKey(), entry.getValue(), getFrontCacheExpireSeconds(entry.getValue()));
+    }
   }
 
-  @Deprecated
-  public String getServiceId() {
-    return configuration.getServiceId();
-  }
+  /*
+   * Use the remaining expire time of the Arcus item if it is shorter than the front cache expire time.
+   * 0 means that the item never expires, and -1 means that the item is sticky.
+   * The getattr requests go through the circuit breaker like the other requests, and their responses are
+   * awaited in the asyncExecutor, so the caller does not wait for another round trip.
+   * Items whose remaining expire time cannot be read are not stored in the front cache.
+   */
+  private void setFrontCacheByRemainingTime(ArcusFrontCache arcusFrontCache, Map<String, Object> values) {
+    if (!tryAcquirePermission()) {
+      return;
+    }
 
-  @Deprecated
-  public void setServiceId(String serviceId) {
-    Assert.notNull(serviceId, "ArcusCache's 'serviceId' property must have a value.");
-    configuration.setServiceId(serviceId);
+    Map<String, CollectionFuture<CollectionAttributes>> futures = new HashMap<>();
+    try {
+      for (String arcusKey : values.keySet()) {
+        futures.put(arcusKey, arcusClient.asyncGetAttr(arcusKey));
+      }
+      executeAsync(() -> awaitRemainingTimes(arcusFrontCache, values, futures));
+    } catch (Exception e) {
+      recordFailure(e);
+      logger.info("failed to get attributes. error: {}, keys: {}", e.getMessage(), values.keySet());
+    }
   }
 
-  @Deprecated
-  public boolean isWantToGetException() {
-    return configuration.isWantToGetException();
+  private void awaitRemainingTimes(ArcusFrontCache arcusFrontCache, Map<String, Object> values,
+                                   Map<String, CollectionFuture<CollectionAttributes>> futures) {
+    try {
+      for (Map.Entry<String, CollectionFuture<CollectionAttributes>> entry : futures.entrySet()) {
+        String arcusKey = entry.getKey();
+        CollectionAttributes attributes = await(entry.getValue(), AdaptiveTimeout.Type.GET);
+        Integer remainingSeconds = attributes != null ? attributes.getExpireTime() : null;
+        if (remainingSeconds == null) {
+          logger.info("failed to get attributes of a key: {}", arcusKey);
+          continue;
+        }
+
+        Object value = values.get(arcusKey);
+        int expireSeconds = getFrontCacheExpireSeconds(value);
+        if (remainingSeconds > 0 && (expireSeconds == 0 || remainingSeconds < expireSeconds)) {
+          expireSeconds = remainingSeconds;
+        }
+        arcusFrontCache.set(arcusKey, value, expireSeconds);
+      }
+      recordSuccess();
+    } catch (Exception e) {
+      recordFailure(e);
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      logger.info("failed to get attributes. error: {}, keys: {}", e.getMessage(), futures.keySet());
+    }
   }
 
-  @Deprecated
-  public void setWantToGetException(boolean wantToGetException) {
-    configuration.setWantToGetException(wantToGetException);
+  /*
+   * Queue the value to be stored later, and set the front cache right away.
+   * Returns false if write-behind is disabled or stopped, so the caller stores the value by itself.
+   * A key of an unknown generation is not queued, since it could be flushed after the generation is known.
+   */
+  private boolean putBehind(String arcusKey, Object value) {
+    WriteBehindQueue queue = getWriteBehindQueue();
+    if (queue == null || isGenerationUnknown() || !queue.offer(arcusKey, value)) {
+      return false;
+    }
+    logger.debug("queued key to put: {}", arcusKey);
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    if (arcusFrontCache != null) {
+      arcusFrontCache.set(arcusKey, value, getFrontCacheExpireSeconds(value));
+    }
+    return true;
   }
 
-  @Deprecated
-  public int getExpireSeconds() {
-    return configuration.getExpireSeconds();
-  }
+  private boolean putValue(String arcusKey, Object value) throws Exception {
+    logger.debug("trying to put key: {}", arcusKey);
+    cancelWriteBehind(arcusKey);
 
-  @Deprecated
-  public long getTimeoutMilliSeconds() {
-    return configuration.getTimeoutMilliSeconds();
-  }
+    boolean success = false;
 
-  @Deprecated
-  public ArcusClientPool getArcusClient() {
-    return arcusClient;
+    try {
+      success = tryAcquirePermission() && awaitPut(arcusKey, asyncSet(arcusKey, value));
+    } finally {
+      putFrontCache(arcusKey, value, success);
+    }
+    return success;
   }
 
-  @Deprecated
-  @Nullable
-  public Transcoder<Object> getOperationTranscoder() {
-    return configuration.getOperationTranscoder();
-  }
+  /*
+   * A lease invalidated by an evict or a put is not a failure, and nothing is stored.
+   */
+  private boolean putValueWithLease(String arcusKey, Object value, long lease) throws Exception {
+    logger.debug("trying to put key with a lease: {}", arcusKey);
+    if (!tryAcquirePermission()) {
+      return false;
+    }
 
-  @Deprecated
-  public void setOperationTranscoder(Transcoder<Object> operationTranscoder) {
-    Assert.notNull(operationTranscoder, "ArcusCache's 'operationTranscoder' property must not be null.");
-    configuration.setOperationTranscoder(operationTranscoder);
+    OperationFuture<CASResponse> future =
+        arcusClient.asyncCAS(arcusKey, lease, getArcusExpireSeconds(value), value, getTranscoder());
+    CASResponse response = await(future, AdaptiveTimeout.Type.STORE);
+    recordSuccess();
+    if (response != CASResponse.OK) {
+      logger.debug("the lease has been invalidated. key: {}, response: {}", arcusKey, response);
+      return false;
+    }
+    statistics.recordPuts(1);
+    putFrontCache(arcusKey, value, true);
+    return true;
   }
 
-  @Deprecated
-  @Nullable
-  public String getPrefix() {
-    return configuration.getPrefix();
+  private boolean awaitPut(String arcusKey, OperationFuture<Boolean> future) throws Exception {
+    boolean success = await(future, AdaptiveTimeout.Type.STORE);
+    recordSuccess();
+    if (success) {
+      statistics.recordPuts(1);
+    } else {
+      recordFailure(null);
+      OperationStatus status = future.getStatus();
+      logger.info("failed to put a key: {}, status: {}", arcusKey, status.getMessage());
+    }
+    return success;
   }
 
-  @Deprecated
-  public void setPrefix(String prefix) {
-    Assert.notNull(prefix, "ArcusCache's 'prefix' property must have a value.");
-    configuration.setPrefix(prefix);
+  private void putFrontCache(String arcusKey, Object value, boolean success) {
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    if (arcusFrontCache != null && (success || isFrontCachingForced())) {
+      arcusFrontCache.set(arcusKey, value, getFrontCacheExpireSeconds(value));
+    }
+    if (success) {
+      invalidateOtherFrontCaches(Collections.singletonList(arcusKey));
+    }
   }
 
-  @Deprecated
-  @Nullable
-  public ArcusFrontCache getArcusFrontCache() {
-    return configuration.getArcusFrontCache();
+  /*
+   * A key of an unknown generation is never used again once the generation is known,
+   * so a failed put of such a key is not forced into the front cache.
+   */
+  private boolean isFrontCachingForced() {
+    return configuration.isForceFrontCaching() && !isGenerationUnknown();
   }
 
-  @Deprecated
-  public void setArcusFrontCache(ArcusFrontCache arcusFrontCache) {
-    Assert.notNull(arcusFrontCache, "ArcusCache's 'arcusFrontCache' property must not be null.");
-    configuration.setArcusFrontCache(arcusFrontCache);
-  }
+  private BatchResult putValues(Map<String, Object> values) {
+    logger.debug("trying to put keys: {}", values.keySet());
+    for (String arcusKey : values.keySet()) {
+      cancelWriteBehind(arcusKey);
+    }
 
-  @Deprecated
-  public int getFrontExpireSeconds() {
-    return configuration.getFrontExpireSeconds();
-  }
+    BatchResult result = setValues(values);
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    List<String> succeededKeys = new ArrayList<>(values.size());
+    for (Map.Entry<String, Object> entry : values.entrySet()) {
+      boolean success = !result.failedKeys.contains(entry.getKey());
+      if (arcusFrontCache != null && (success || isFrontCachingForced())) {
+        arcusFrontCache.set(entry.getKey(), entry.getValue(), getFrontCacheExpireSeconds(entry.getValue()));
+      }
+      if (success) {
+        succeededKeys.add(entry.getKey());
+      }
+    }
+    statistics.recordPuts(succeededKeys.size());
+    invalidateOtherFrontCaches(succeededKeys);
 
-  @Deprecated
-  public void setFrontExpireSeconds(int frontExpireSeconds) {
-    configuration.setFrontExpireSeconds(frontExpireSeconds);
+    return result;
   }
 
-  @Deprecated
-  public void setForceFrontCaching(boolean forceFrontCaching) {
-    this.configuration.setForceFrontCaching(forceFrontCaching);
+  private BatchResult setValues(Map<String, Object> values) {
+    BatchResult result = new BatchResult();
+    if (tryAcquirePermission()) {
+      Map<String, OperationFuture<Boolean>> futures = new LinkedHashMap<>();
+      for (Map.Entry<String, Object> entry : values.entrySet()) {
+        try {
+          futures.put(entry.getKey(), asyncSet(entry.getKey(), entry.getValue()));
+        } catch (Exception e) {
+          recordFailure(e);
+          result.fail(entry.getKey(), e);
+        }
+      }
+      awaitAll(futures, "put", AdaptiveTimeout.Type.STORE, result);
+    } else {
+      result.failedKeys.addAll(values.keySet());
+    }
+    return result;
   }
 
-  @Deprecated
-  public boolean getForceFrontCaching() {
-    return this.configuration.isForceFrontCaching();
+  /*
+   * The front cache has been set when the values were queued,
+   * so only the front caches of other servers are invalidated.
+   */
+  private void flushWriteBehind(Map<String, Object> values) {
+    logger.debug("flushing queued keys: {}", values.keySet());
+
+    BatchResult result = setValues(values);
+    List<String> succeededKeys = new ArrayList<>(values.size());
+    for (String arcusKey : values.keySet()) {
+      if (!result.failedKeys.contains(arcusKey)) {
+        succeededKeys.add(arcusKey);
+      }
+    }
+    statistics.recordPuts(succeededKeys.size());
+    invalidateOtherFrontCaches(succeededKeys);
+    if (!result.failedKeys.isEmpty()) {
+      logger.info("failed to flush queued puts. error: {}, keys: {}",
+          result.exception != null ? result.exception.getMessage() : null, result.failedKeys);
+    }
   }
 
-  private void acquireWriteLockOnKey(Object key) {
-    keyLockProvider.getLockForKey(key).writeLock().lock();
+  private void cancelWriteBehind(String arcusKey) {
+    WriteBehindQueue queue = writeBehindQueue;
+    if (queue != null) {
+      queue.remove(arcusKey);
+    }
   }
 
-  private void releaseWriteLockOnKey(Object key) {
-    keyLockProvider.getLockForKey(key).writeLock().unlock();
+  /*
+   * Create the write-behind queue and start flushing it at the first use.
+   */
+  @Nullable
+  private WriteBehindQueue getWriteBehindQueue() {
+    if (!configuration.isWriteBehind()) {
+      return null;
+    }
+    WriteBehindQueue queue = writeBehindQueue;
+    if (queue == null) {
+      synchronized (this) {
+        queue = writeBehindQueue;
+        if (queue == null) {
+          queue = new WriteBehindQueue(configuration, statistics, this::executeAsync, this::flushWriteBehind);
+          queue.start();
+          writeBehindQueue = queue;
+        }
+      }
+    }
+    return queue;
   }
 
-  private RuntimeException toRuntimeException(Exception e) {
-    if (e instanceof RuntimeException) {
-      return (RuntimeException) e;
+  private BatchResult evictValues(Set<String> arcusKeys) {
+    for (String arcusKey : arcusKeys) {
+      cancelWriteBehind(arcusKey);
+    }
+
+    BatchResult result = new BatchResult();
+    if (tryAcquirePermission()) {
+      Map<String, OperationFuture<Boolean>> futures = new LinkedHashMap<>();
+      for (String arcusKey : arcusKeys) {
+        try {
+          futures.put(arcusKey, arcusClient.delete(arcusKey));
+        } catch (Exception e) {
+          recordFailure(e);
+          result.fail(arcusKey, e);
+        }
+      }
+      awaitAll(futures, "evict", AdaptiveTimeout.Type.DELETE, result);
     } else {
-      return new RuntimeException(e);
+      result.failedKeys.addAll(arcusKeys);
+    }
+
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    List<String> succeededKeys = new ArrayList<>(arcusKeys.size());
+    for (String arcusKey : arcusKeys) {
+      boolean success = !result.failedKeys.contains(arcusKey);
+      if (arcusFrontCache != null && (success || configuration.isForceFrontCaching())) {
+        arcusFrontCache.delete(arcusKey);
+      }
+      if (success) {
+        succeededKeys.add(arcusKey);
+      }
     }
+    statistics.recordEvictions(succeededKeys.size());
+    invalidateOtherFrontCaches(succeededKeys);
+
+    return result;
   }
 
-  @Nullable
-  private Object getValue(String arcusKey) throws Exception {
-    logger.debug("getting value by key: {}", arcusKey);
-    Object value;
+  private boolean awaitEvict(String arcusKey, OperationFuture<Boolean> future) throws Exception {
+    boolean success = await(future, AdaptiveTimeout.Type.DELETE);
+    recordSuccess();
+    if (success) {
+      statistics.recordEvictions(1);
+    } else {
+      recordFailure(null);
+      OperationStatus status = future.getStatus();
+      logger.info("failed to evict a key: {}, status: {}", arcusKey, status.getMessage());
+    }
+    return success;
+  }
 
+  private void evictFrontCache(String arcusKey, boolean success) {
     ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
-    if (arcusFrontCache != null && (value = arcusFrontCache.get(arcusKey)) != null) {
-      logger.debug("front cache hit for {}", arcusKey);
-      return value;
+    if (arcusFrontCache != null && (success || configuration.isForceFrontCaching())) {
+      arcusFrontCache.delete(arcusKey);
+    }
+    if (success) {
+      invalidateOtherFrontCaches(Collections.singletonList(arcusKey));
     }
+  }
 
-    GetFuture<Object> future;
-    Transcoder<Object> operationTranscoder = configuration.getOperationTranscoder();
-    if (operationTranscoder != null) {
-      future = arcusClient.asyncGet(arcusKey, operationTranscoder);
-    } else {
-      future = arcusClient.asyncGet(arcusKey);
+  private void invalidateOtherFrontCaches(List<String> arcusKeys) {
+    FrontCacheInvalidationLog log = getInvalidationLog();
+    if (log != null) {
+      log.append(arcusKeys);
     }
+  }
 
-    value = future.get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
-    if (value != null) {
-      logger.debug("arcus cache hit for {}", arcusKey);
-      if (arcusFrontCache != null) {
-        arcusFrontCache.set(arcusKey, value, configuration.getFrontExpireSeconds());
-      }
-    } else {
-      logger.debug("arcus cache miss for {}", arcusKey);
-      OperationStatus status = future.getStatus();
-      if (!status.isSuccess()) {
-        logger.info("failed to get a key: {}, status: {}", arcusKey, status.getMessage());
+  /*
+   * Create the invalidation log and start tailing it at the first use.
+   */
+  @Nullable
+  private FrontCacheInvalidationLog getInvalidationLog() {
+    if (!configuration.isFrontCacheInvalidation()) {
+      return null;
+    }
+    FrontCacheInvalidationLog log = invalidationLog;
+    if (log == null) {
+      synchronized (this) {
+        log = invalidationLog;
+        if (log == null) {
+          log = new FrontCacheInvalidationLog(arcusClient, configuration, this::executeAsync,
+              new InvalidationLogGate(), getArcusPrefix());
+          log.start();
+          invalidationLog = log;
+        }
       }
     }
+    return log;
+  }
 
-    return value;
+  /**
+   * Front Cache 무효화 로그를 읽는 작업을 중단하고, write-behind 큐에 남은 캐시 아이템을 모두 저장합니다.
+   * asyncExecutor를 지정하지 않아 ArcusCache가 생성한 Executor도 종료합니다.
+   */
+  @Override
+  public void destroy() {
+    WriteBehindQueue queue = writeBehindQueue;
+    if (queue != null) {
+      queue.stop();
+    }
+    FrontCacheInvalidationLog log = invalidationLog;
+    if (log != null) {
+      log.stop();
+    }
+    ExecutorService executor = defaultAsyncExecutor;
+    if (executor != null) {
+      executor.shutdown();
+    }
   }
 
-  private void putValue(String arcusKey, Object value) throws Exception {
-    logger.debug("trying to put key: {}", arcusKey);
+  private void executeAsync(Runnable task) {
+    getAsyncExecutor().execute(task);
+  }
 
-    boolean success = false;
+  /*
+   * Without an asyncExecutor in the configuration, a bounded pool of daemon threads is created at the first use,
+   * instead of the common ForkJoinPool whose threads would be blocked while waiting for Arcus.
+   * Tasks over the queue capacity are rejected, and the callers handle them as failures.
+   */
+  private Executor getAsyncExecutor() {
+    Executor configured = configuration.getAsyncExecutor();
+    if (configured != null) {
+      return configured;
+    }
+    ExecutorService executor = defaultAsyncExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = defaultAsyncExecutor;
+        if (executor == null) {
+          executor = createAsyncExecutor();
+          defaultAsyncExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
 
-    try {
-      OperationFuture<Boolean> future;
-      Transcoder<Object> operationTranscoder = configuration.getOperationTranscoder();
-      if (operationTranscoder != null) {
-        future = arcusClient.set(arcusKey, configuration.getExpireSeconds(), value, operationTranscoder);
-      } else {
-        future = arcusClient.set(arcusKey, configuration.getExpireSeconds(), value);
+  private ExecutorService createAsyncExecutor() {
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(ASYNC_EXECUTOR_THREADS, ASYNC_EXECUTOR_THREADS,
+        60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(ASYNC_EXECUTOR_QUEUE_CAPACITY), r -> {
+          Thread thread = new Thread(r, "arcus-async-" + name + "-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private OperationFuture<Boolean> asyncSet(String arcusKey, Object value) {
+    Transcoder<Object> operationTranscoder = getTranscoder();
+    if (operationTranscoder != null) {
+      return arcusClient.set(arcusKey, getArcusExpireSeconds(value), value, operationTranscoder);
+    }
+    return arcusClient.set(arcusKey, getArcusExpireSeconds(value), value);
+  }
+
+  /*
+   * Wait for every future under a single deadline so that the whole batch
+   * takes at most a single timeout, instead of a timeout per key.
+   * Waiting stops on InterruptedException and the remaining keys are regarded as failed.
+   */
+  private void awaitAll(Map<String, OperationFuture<Boolean>> futures, String operation, AdaptiveTimeout.Type type,
+                        BatchResult result) {
+    long start = System.nanoTime();
+    long timeout = TimeUnit.MILLISECONDS.toNanos(getTimeoutMilliSeconds(type));
+    long deadline = start + timeout;
+    boolean interrupted = false;
+    Exception failure = null;
+
+    for (Map.Entry<String, OperationFuture<Boolean>> entry : futures.entrySet()) {
+      String arcusKey = entry.getKey();
+      if (interrupted) {
+        result.failedKeys.add(arcusKey);
+        continue;
       }
 
-      success = future.get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
-      if (!success) {
-        OperationStatus status = future.getStatus();
-        logger.info("failed to put a key: {}, status: {}", arcusKey, status.getMessage());
+      OperationFuture<Boolean> future = entry.getValue();
+      try {
+        long remaining = Math.max(0L, deadline - System.nanoTime());
+        boolean success = future.get(remaining, TimeUnit.NANOSECONDS);
+        recordResponseTime(type, System.nanoTime() - start);
+        if (!success) {
+          statistics.recordFailure(null);
+          OperationStatus status = future.getStatus();
+          logger.info("failed to {} a key: {}, status: {}", operation, arcusKey, status.getMessage());
+          result.failedKeys.add(arcusKey);
+        }
+      } catch (Exception e) {
+        if (e instanceof TimeoutException) {
+          recordResponseTime(type, timeout);
+        }
+        statistics.recordFailure(e);
+        interrupted = e instanceof InterruptedException;
+        if (failure == null || interrupted) {
+          failure = e;
+        }
+        result.fail(arcusKey, e);
       }
-    } finally {
-      ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
-      if (arcusFrontCache != null && (success || configuration.isForceFrontCaching())) {
-        arcusFrontCache.set(arcusKey, value, configuration.getFrontExpireSeconds());
+    }
+
+    // The batch has acquired a single permission of the circuit breaker, so a single outcome is recorded.
+    if (failure == null) {
+      recordSuccess();
+    } else if (!(failure instanceof InterruptedException)) {
+      ArcusCircuitBreaker breaker = getCircuitBreaker();
+      if (breaker != null) {
+        breaker.onFailure();
       }
     }
   }
 
+  /*
+   * A value queued by write-behind is regarded as present, although it may not have been stored in Arcus yet.
+   */
   private ValueWrapper putIfAbsentValue(String arcusKey, Object value) throws Exception {
     logger.debug("trying to add(putIfAbsent) key: {}", arcusKey);
+    Object queued = getQueuedValue(arcusKey);
+    if (queued != null) {
+      return toValueWrapper(queued);
+    }
+    if (!tryAcquirePermission()) {
+      return toValueWrapper(getFrontCacheValue(arcusKey));
+    }
 
     OperationFuture<Boolean> future;
-    Transcoder<Object> operationTranscoder = configuration.getOperationTranscoder();
-    int expireSeconds = configuration.getExpireSeconds();
+    Transcoder<Object> operationTranscoder = getTranscoder();
+    int expireSeconds = getArcusExpireSeconds(value);
     if (operationTranscoder != null) {
       future = arcusClient.add(arcusKey, expireSeconds, value, operationTranscoder);
     } else {
       future = arcusClient.add(arcusKey, expireSeconds, value);
     }
 
-    boolean success = future.get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
+    boolean success = await(future, AdaptiveTimeout.Type.STORE);
+    if (!success && configuration.isStaleSetLease()) {
+      ValueWrapper existing = putIfAbsentOverSetLease(arcusKey, value, expireSeconds);
+      recordSuccess();
+      return existing;
+    }
+    recordSuccess();
     if (!success) {
       OperationStatus status = future.getStatus();
       logger.info("failed to putIfAbsent a key: {}, status: {}", arcusKey, status.getMessage());
     } else {
-      ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
-      if (arcusFrontCache != null) {
-        arcusFrontCache.set(arcusKey, value, configuration.getFrontExpireSeconds());
+      storedIfAbsent(arcusKey, value);
+    }
+
+    return success ? null : toValueWrapper(getValue(arcusKey, ArcusCacheSpan.NOOP));
+  }
+
+  private void storedIfAbsent(String arcusKey, Object value) {
+    statistics.recordPuts(1);
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    if (arcusFrontCache != null) {
+      arcusFrontCache.set(arcusKey, value, getFrontCacheExpireSeconds(value));
+    }
+  }
+
+  /*
+   * With the stale-set lease, add also fails while a lease item of a miss is held, although no value exists.
+   * The lease item is replaced with the value by cas, which invalidates the lease of the loading caller,
+   * and add is tried again if the lease item has gone.
+   */
+  @Nullable
+  private ValueWrapper putIfAbsentOverSetLease(String arcusKey, Object value, int expireSeconds) throws Exception {
+    Transcoder<Object> transcoder = getTranscoder();
+    for (int i = 0; i < SET_LEASE_PUT_IF_ABSENT_RETRIES; i++) {
+      CASValue<Object> current = await(arcusClient.asyncGets(arcusKey, transcoder), AdaptiveTimeout.Type.GET);
+      boolean stored;
+      if (current == null) {
+        stored = await(arcusClient.add(arcusKey, expireSeconds, value, transcoder), AdaptiveTimeout.Type.STORE);
+      } else if (current.getValue() != null) {
+        return toValueWrapper(current.getValue());
+      } else {
+        stored = await(arcusClient.asyncCAS(arcusKey, current.getCas(), expireSeconds, value, transcoder),
+            AdaptiveTimeout.Type.STORE) == CASResponse.OK;
+      }
+      if (stored) {
+        logger.debug("put a value over a stale-set lease. key: {}", arcusKey);
+        storedIfAbsent(arcusKey, value);
+        return null;
+      }
+    }
+    logger.info("failed to putIfAbsent a key held by a stale-set lease: {}", arcusKey);
+    return toValueWrapper(getFrontCacheValue(arcusKey));
+  }
+
+  private static final class BatchResult {
+    private final Set<String> failedKeys = new LinkedHashSet<>();
+    @Nullable
+    private Exception exception;
+
+    private void fail(String arcusKey, Exception e) {
+      failedKeys.add(arcusKey);
+      if (exception == null || e instanceof InterruptedException) {
+        exception = e;
       }
     }
+  }
+
+  private final class InvalidationLogGate implements FrontCacheInvalidationLog.RequestGate {
+    @Override
+    public boolean tryAcquirePermission() {
+      return tryAcquireBreakerPermission();
+    }
+
+    @Override
+    public void recordSuccess() {
+      ArcusCache.this.recordSuccess();
+    }
 
-    return success ? null : toValueWrapper(getValue(arcusKey));
+    @Override
+    public void recordFailure(Exception e) {
+      ArcusCache.this.recordFailure(e);
+    }
   }
 
 }
@@ -18,6 +18,9 @@
 package com.navercorp.arcus.spring.cache;
 
 import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+import com.navercorp.arcus.spring.cache.tracing.ArcusCacheTracer;
+
+import java.util.concurrent.Executor;
 
 import org.springframework.lang.Nullable;
 
@@ -44,6 +47,43 @@ public class ArcusCacheConfiguration {
   private boolean forceFrontCaching;
   private boolean wantToGetException = DEFAULT_WANT_TO_GET_EXCEPTION;
   private boolean allowNullValues = DEFAULT_ALLOW_NULL_VALUES;
+  @Nullable
+  private Executor asyncExecutor;
+  private boolean singleFlightLoading;
+  private long singleFlightMaxWaitMilliSeconds;
+  private int loadingLeaseSeconds;
+  private long loadingLeaseMaxWaitMilliSeconds;
+  private int staleWhileRevalidateSeconds;
+  private double earlyRecomputationBeta;
+  private int expireJitterSeconds;
+  private int expireJitterPercent;
+  private int frontExpireJitterSeconds;
+  private int frontExpireJitterPercent;
+  @Nullable
+  private Integer nullValueExpireSeconds;
+  @Nullable
+  private Integer nullValueFrontExpireSeconds;
+  private boolean compactNullValue;
+  private long generationCheckIntervalMilliSeconds;
+  private long frontCacheInvalidationPollIntervalMilliSeconds;
+  private boolean frontExpireByRemainingTime;
+  @Nullable
+  private ArcusCacheTracer tracer;
+  private int circuitBreakerFailureRateThreshold;
+  private int circuitBreakerWindowSize;
+  private long circuitBreakerOpenMilliSeconds;
+  private double adaptiveTimeoutPercentile;
+  private double adaptiveTimeoutMultiplier;
+  private long adaptiveTimeoutMinMilliSeconds;
+  private long adaptiveTimeoutMaxMilliSeconds;
+  private long lookupBatchingWindowMicroSeconds;
+  private int lookupBatchingMaxKeys;
+  private int writeBehindCapacity;
+  private int writeBehindBatchSize;
+  private long writeBehindFlushIntervalMilliSeconds;
+  private int staleSetLeaseSeconds;
+  private int computeMaxRetries = 10;
+  private long computeBackoffMilliSeconds = 1L;
 
   public ArcusCacheConfiguration withServiceId(String serviceId) {
     Assert.notNull(serviceId, "ServiceId must not be null.");
@@ -87,6 +127,54 @@ public class ArcusCacheConfiguration {
     return this;
   }
 
+  /**
+   * Subtract a random value between 0 and jitterSeconds from the expire time of each Arcus item.
+   * The expire time does not become shorter than 1 second, and 0 disables it.
+   * It replaces the jitter set by withExpireJitterPercent.
+   */
+  public ArcusCacheConfiguration withExpireJitterSeconds(int jitterSeconds) {
+    Assert.isTrue(jitterSeconds > -1, "JitterSeconds must not be negative integer.");
+    this.expireJitterSeconds = jitterSeconds;
+    this.expireJitterPercent = 0;
+    return this;
+  }
+
+  /**
+   * Subtract a random value between 0 and jitterPercent percent of the expire time
+   * from the expire time of each Arcus item. 0 disables it.
+   * It replaces the jitter set by withExpireJitterSeconds.
+   */
+  public ArcusCacheConfiguration withExpireJitterPercent(int jitterPercent) {
+    Assert.isTrue(jitterPercent > -1 && jitterPercent < 101, "JitterPercent must be between 0 and 100.");
+    this.expireJitterPercent = jitterPercent;
+    this.expireJitterSeconds = 0;
+    return this;
+  }
+
+  /**
+   * Subtract a random value between 0 and jitterSeconds from the expire time of each front cache item.
+   * The expire time does not become shorter than 1 second, and 0 disables it.
+   * It replaces the jitter set by withFrontExpireJitterPercent.
+   */
+  public ArcusCacheConfiguration withFrontExpireJitterSeconds(int jitterSeconds) {
+    Assert.isTrue(jitterSeconds > -1, "JitterSeconds must not be negative integer.");
+    this.frontExpireJitterSeconds = jitterSeconds;
+    this.frontExpireJitterPercent = 0;
+    return this;
+  }
+
+  /**
+   * Subtract a random value between 0 and jitterPercent percent of the front expire time
+   * from the expire time of each front cache item. 0 disables it.
+   * It replaces the jitter set by withFrontExpireJitterSeconds.
+   */
+  public ArcusCacheConfiguration withFrontExpireJitterPercent(int jitterPercent) {
+    Assert.isTrue(jitterPercent > -1 && jitterPercent < 101, "JitterPercent must be between 0 and 100.");
+    this.frontExpireJitterPercent = jitterPercent;
+    this.frontExpireJitterSeconds = 0;
+    return this;
+  }
+
   public ArcusCacheConfiguration enableForcingFrontCache() {
     this.forceFrontCaching = true;
     return this;
@@ -126,6 +214,343 @@ public class ArcusCacheConfiguration {
     return this;
   }
 
+  /**
+   * Expire time of Arcus items for null values, instead of expireSeconds.
+   * Stale-while-revalidate and early recomputation are not applied to null values.
+   */
+  public ArcusCacheConfiguration withNullValueExpireSeconds(int nullValueExpireSeconds) {
+    Assert.isTrue(nullValueExpireSeconds > -2, "NullValueExpireSeconds must be positive integer, 0, or -1.");
+    this.nullValueExpireSeconds = nullValueExpireSeconds;
+    return this;
+  }
+
+  /**
+   * Expire time of front cache items for null values, instead of frontExpireSeconds.
+   */
+  public ArcusCacheConfiguration withNullValueFrontExpireSeconds(int nullValueFrontExpireSeconds) {
+    Assert.isTrue(nullValueFrontExpireSeconds > -1, "NullValueFrontExpireSeconds must not be negative integer.");
+    this.nullValueFrontExpireSeconds = nullValueFrontExpireSeconds;
+    return this;
+  }
+
+  /**
+   * Store null values as Arcus items with special flags and no data, instead of serializing NullValue.
+   * All operations use a transcoder wrapping the operationTranscoder (or the default transcoder of the client),
+   * so the operationTranscoder must not use the flags 0x10000.
+   * Items stored with this option cannot be read by caches without it.
+   */
+  public ArcusCacheConfiguration enableCompactNullValue() {
+    this.compactNullValue = true;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableCompactNullValue() {
+    this.compactNullValue = false;
+    return this;
+  }
+
+  /**
+   * Embed a generation number stored in an Arcus counter into the key prefix,
+   * so that clear() increments the counter instead of flushing the prefix.
+   * Each cache reads the counter at most once per checkIntervalMilliSeconds,
+   * and clears its front cache when the generation has changed.
+   * The counter is read in the asyncExecutor, and requests for items are skipped until the generation is known.
+   * Until then, failed puts are not forced into the front cache either.
+   * A missing counter is created with the current time, so that it does not go back to an old generation.
+   * Items of old generations are no longer read and are removed when they expire,
+   * so expireSeconds should be positive with this option.
+   */
+  public ArcusCacheConfiguration enableGenerationClear(long checkIntervalMilliSeconds) {
+    Assert.isTrue(checkIntervalMilliSeconds > 0, "CheckIntervalMilliSeconds must be larger than 0.");
+    this.generationCheckIntervalMilliSeconds = checkIntervalMilliSeconds;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableGenerationClear() {
+    this.generationCheckIntervalMilliSeconds = 0;
+    return this;
+  }
+
+  /**
+   * Append the keys put or evicted successfully to an invalidation log stored in an Arcus B+tree,
+   * and delete the keys appended by other caches from the front cache,
+   * reading the log every pollIntervalMilliSeconds in the asyncExecutor.
+   * The keys are collected and appended once per pollIntervalMilliSeconds with a counter increment and
+   * a B+tree insert, so puts and evicts do not send extra requests each.
+   * Reading starts at the first access to the front cache, and stops when the cache is destroyed.
+   * If more logs than the size of the log are missed, the whole front cache is cleared.
+   */
+  public ArcusCacheConfiguration enableFrontCacheInvalidation(long pollIntervalMilliSeconds) {
+    Assert.isTrue(pollIntervalMilliSeconds > 0, "PollIntervalMilliSeconds must be larger than 0.");
+    this.frontCacheInvalidationPollIntervalMilliSeconds = pollIntervalMilliSeconds;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableFrontCacheInvalidation() {
+    this.frontCacheInvalidationPollIntervalMilliSeconds = 0;
+    return this;
+  }
+
+  /**
+   * When an item found in Arcus is stored in the front cache, get the remaining expire time
+   * of the item with getattr, and use it as the expire time of the front cache item
+   * if it is shorter than frontExpireSeconds, so that frontExpireSeconds works as an upper bound.
+   * The item is not stored in the front cache if the remaining expire time cannot be read.
+   * The getattr responses are awaited in the asyncExecutor, so the item is stored in the front cache
+   * shortly after the value is returned.
+   */
+  public ArcusCacheConfiguration enableFrontExpireByRemainingTime() {
+    this.frontExpireByRemainingTime = true;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableFrontExpireByRemainingTime() {
+    this.frontExpireByRemainingTime = false;
+    return this;
+  }
+
+  /**
+   * Create a span for lookup, put, putIfAbsent, evict, clear, valueLoader execution
+   * and waits for a value loaded by another thread or server.
+   * No span is created and no attribute is computed without a tracer.
+   */
+  public ArcusCacheConfiguration withTracer(ArcusCacheTracer tracer) {
+    Assert.notNull(tracer, "Tracer must not be null.");
+    this.tracer = tracer;
+    return this;
+  }
+
+  /**
+   * Stop sending requests to Arcus for openMilliSeconds once the rate of requests that failed
+   * with an exception or a timeout reaches failureRateThreshold percent of windowSize requests.
+   * While the circuit is open, lookups return values only from the front cache so that
+   * get(key, valueLoader) goes straight to the valueLoader, and puts and evicts are regarded as failed
+   * without waiting for the timeout. After openMilliSeconds a limited number of probe requests are sent,
+   * and the circuit is closed again if their failure rate is below the threshold.
+   */
+  public ArcusCacheConfiguration enableCircuitBreaker(int failureRateThreshold, int windowSize,
+                                                      long openMilliSeconds) {
+    Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 100,
+        "FailureRateThreshold must be between 1 and 100.");
+    Assert.isTrue(windowSize > 0, "WindowSize must be larger than 0.");
+    Assert.isTrue(openMilliSeconds > 0, "OpenMilliSeconds must be larger than 0.");
+    this.circuitBreakerFailureRateThreshold = failureRateThreshold;
+    this.circuitBreakerWindowSize = windowSize;
+    this.circuitBreakerOpenMilliSeconds = openMilliSeconds;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableCircuitBreaker() {
+    this.circuitBreakerFailureRateThreshold = 0;
+    this.circuitBreakerWindowSize = 0;
+    this.circuitBreakerOpenMilliSeconds = 0;
+    return this;
+  }
+
+  /**
+   * Wait for get, bulk get, store and delete requests with timeouts computed from their recent latency,
+   * instead of timeoutMilliSeconds. The timeout of each request type is the given percentile of
+   * its latency in the last 10 to 20 seconds multiplied by the multiplier, clamped between
+   * minMilliSeconds and maxMilliSeconds. Timed out requests are counted at their timeout,
+   * so the timeout grows up to maxMilliSeconds while Arcus is slow.
+   * timeoutMilliSeconds is used until enough requests are observed.
+   */
+  public ArcusCacheConfiguration enableAdaptiveTimeout(double percentile, double multiplier,
+                                                       long minMilliSeconds, long maxMilliSeconds) {
+    Assert.isTrue(percentile > 0 && percentile <= 100, "Percentile must be larger than 0 and not larger than 100.");
+    Assert.isTrue(multiplier > 0, "Multiplier must be larger than 0.");
+    Assert.isTrue(minMilliSeconds > 0, "MinMilliSeconds must be larger than 0.");
+    Assert.isTrue(maxMilliSeconds >= minMilliSeconds, "MaxMilliSeconds must not be less than minMilliSeconds.");
+    this.adaptiveTimeoutPercentile = percentile;
+    this.adaptiveTimeoutMultiplier = multiplier;
+    this.adaptiveTimeoutMinMilliSeconds = minMilliSeconds;
+    this.adaptiveTimeoutMaxMilliSeconds = maxMilliSeconds;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableAdaptiveTimeout() {
+    this.adaptiveTimeoutPercentile = 0;
+    this.adaptiveTimeoutMultiplier = 0;
+    this.adaptiveTimeoutMinMilliSeconds = 0;
+    this.adaptiveTimeoutMaxMilliSeconds = 0;
+    return this;
+  }
+
+  /**
+   * Collect lookups of different keys that miss the front cache within windowMicroSeconds,
+   * or until maxKeys keys are collected, and get them from Arcus with a single bulk get.
+   * The first lookup of a batch waits for the window only while another batch is being loaded,
+   * so an uncontended lookup is sent right away. Lookups of the same key share a single result,
+   * and lookups are collected separately in shards by the hash of the key.
+   */
+  public ArcusCacheConfiguration enableLookupBatching(long windowMicroSeconds, int maxKeys) {
+    Assert.isTrue(windowMicroSeconds > 0, "WindowMicroSeconds must be larger than 0.");
+    Assert.isTrue(maxKeys > 1, "MaxKeys must be larger than 1.");
+    this.lookupBatchingWindowMicroSeconds = windowMicroSeconds;
+    this.lookupBatchingMaxKeys = maxKeys;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableLookupBatching() {
+    this.lookupBatchingWindowMicroSeconds = 0;
+    this.lookupBatchingMaxKeys = 0;
+    return this;
+  }
+
+  /**
+   * put returns right after setting the front cache, and the value is stored in Arcus later.
+   * Puts are queued per cache, keeping only the last value of each key, and flushed in the asyncExecutor
+   * every flushIntervalMilliSeconds or when batchSize keys are queued.
+   * A put of a new key is not queued but stored right away when capacity keys are queued.
+   * Reads of this cache look up the queued values before the front cache and Arcus.
+   */
+  public ArcusCacheConfiguration enableWriteBehind(int capacity, int batchSize, long flushIntervalMilliSeconds) {
+    Assert.isTrue(capacity > 0, "Capacity must be larger than 0.");
+    Assert.isTrue(batchSize > 0, "BatchSize must be larger than 0.");
+    Assert.isTrue(flushIntervalMilliSeconds > 0, "FlushIntervalMilliSeconds must be larger than 0.");
+    this.writeBehindCapacity = capacity;
+    this.writeBehindBatchSize = batchSize;
+    this.writeBehindFlushIntervalMilliSeconds = flushIntervalMilliSeconds;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableWriteBehind() {
+    this.writeBehindCapacity = 0;
+    this.writeBehindBatchSize = 0;
+    this.writeBehindFlushIntervalMilliSeconds = 0;
+    return this;
+  }
+
+  /**
+   * Prevent get(key, valueLoader) from putting a value loaded before an evict or a put of the same key.
+   * On a miss, a lease item is added to the key for leaseSeconds before loading the value,
+   * and the loaded value is stored with a CAS on the lease item, which fails if the key has been evicted or put.
+   * A reload of a stale value is stored with a CAS on the stale item in the same way.
+   * The leaseSeconds should be longer than the time to load a value.
+   */
+  public ArcusCacheConfiguration enableStaleSetLease(int leaseSeconds) {
+    Assert.isTrue(leaseSeconds > 0, "LeaseSeconds must be larger than 0.");
+    this.staleSetLeaseSeconds = leaseSeconds;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableStaleSetLease() {
+    this.staleSetLeaseSeconds = 0;
+    return this;
+  }
+
+  /**
+   * compute, computeIfPresent and merge of ArcusCache retry up to maxRetries times when the item is changed
+   * by another request between gets and cas. Before each retry, they wait for backoffMilliSeconds
+   * doubled on every retry, with a random jitter.
+   */
+  public ArcusCacheConfiguration withComputeRetries(int maxRetries, long backoffMilliSeconds) {
+    Assert.isTrue(maxRetries >= 0, "MaxRetries must not be negative.");
+    Assert.isTrue(backoffMilliSeconds >= 0, "BackoffMilliSeconds must not be negative.");
+    this.computeMaxRetries = maxRetries;
+    this.computeBackoffMilliSeconds = backoffMilliSeconds;
+    return this;
+  }
+
+  /**
+   * Executor in which asynchronous operations of ArcusCache wait for the result of Arcus requests.
+   * Since the wait blocks a thread of the executor until the request is completed or timed out,
+   * the common ForkJoinPool should not be used.
+   * By default, each ArcusCache creates its own bounded pool of daemon threads, which is shut down by destroy().
+   * A task rejected by the executor fails the operation, but is not counted as a failure by the circuit breaker.
+   */
+  public ArcusCacheConfiguration withAsyncExecutor(Executor asyncExecutor) {
+    Assert.notNull(asyncExecutor, "AsyncExecutor must not be null.");
+    this.asyncExecutor = asyncExecutor;
+    return this;
+  }
+
+  /**
+   * Share a single load among concurrent get(key, valueLoader) callers of the same key in a JVM.
+   * Only the first caller invokes the valueLoader, and the others wait for its result
+   * without looking up Arcus again. A per-key write lock of KeyLockProvider is not used.
+   * The others wait without a bound, so a valueLoader that never returns blocks every caller of the key.
+   */
+  public ArcusCacheConfiguration enableSingleFlightLoading() {
+    this.singleFlightLoading = true;
+    this.singleFlightMaxWaitMilliSeconds = 0L;
+    return this;
+  }
+
+  /**
+   * Share a single load in the same way as enableSingleFlightLoading(),
+   * but the others load the value by themselves if it is not loaded within maxWaitMilliSeconds.
+   */
+  public ArcusCacheConfiguration enableSingleFlightLoading(long maxWaitMilliSeconds) {
+    Assert.isTrue(maxWaitMilliSeconds > 0, "MaxWaitMilliSeconds must be larger than 0.");
+    this.singleFlightLoading = true;
+    this.singleFlightMaxWaitMilliSeconds = maxWaitMilliSeconds;
+    return this;
+  }
+
+  /**
+   * Serialize get(key, valueLoader) callers of the same key with a write lock of KeyLockProvider.
+   * Each caller looks up Arcus again after acquiring the lock.
+   */
+  public ArcusCacheConfiguration disableSingleFlightLoading() {
+    this.singleFlightLoading = false;
+    return this;
+  }
+
+  /**
+   * Share a single load among get(key, valueLoader) callers of the same key across JVMs.
+   * A caller that adds the lease item to Arcus loads and puts the value,
+   * and the others poll the cache until the value appears.
+   * If the value does not appear within maxWaitMilliSeconds, they load the value by themselves.
+   * The leaseSeconds should be longer than the time to load a value.
+   */
+  public ArcusCacheConfiguration enableLoadingLease(int leaseSeconds, long maxWaitMilliSeconds) {
+    Assert.isTrue(leaseSeconds > 0, "LeaseSeconds must be larger than 0.");
+    Assert.isTrue(maxWaitMilliSeconds > 0, "MaxWaitMilliSeconds must be larger than 0.");
+    this.loadingLeaseSeconds = leaseSeconds;
+    this.loadingLeaseMaxWaitMilliSeconds = maxWaitMilliSeconds;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableLoadingLease() {
+    this.loadingLeaseSeconds = 0;
+    this.loadingLeaseMaxWaitMilliSeconds = 0;
+    return this;
+  }
+
+  /**
+   * Keep an item in Arcus for staleSeconds more than expireSeconds,
+   * and store the time when the item becomes stale (expireSeconds later) with the value.
+   * get(key, valueLoader) returns a stale value immediately and reloads it in the asyncExecutor
+   * once at a time for each key. If the loading lease is enabled, only the lease holder reloads it.
+   * It has no effect if expireSeconds is not positive, and 0 disables it.
+   * The operationTranscoder must be able to encode the Serializable wrapper of the value.
+   */
+  public ArcusCacheConfiguration withStaleWhileRevalidateSeconds(int staleSeconds) {
+    Assert.isTrue(staleSeconds > -1, "StaleSeconds must not be negative integer.");
+    this.staleWhileRevalidateSeconds = staleSeconds;
+    return this;
+  }
+
+  /**
+   * Refresh a value of get(key, valueLoader) before it expires with a probability
+   * which rises as the expiry approaches, weighted by the time the valueLoader took last time (XFetch).
+   * The refresh is done in the asyncExecutor in the same way as stale-while-revalidate.
+   * A larger beta refreshes earlier, and 1.0 is a reasonable default.
+   * It has no effect if expireSeconds is not positive.
+   * The operationTranscoder must be able to encode the Serializable wrapper of the value.
+   */
+  public ArcusCacheConfiguration enableEarlyRecomputation(double beta) {
+    Assert.isTrue(beta > 0, "Beta must be larger than 0.");
+    this.earlyRecomputationBeta = beta;
+    return this;
+  }
+
+  public ArcusCacheConfiguration disableEarlyRecomputation() {
+    this.earlyRecomputationBeta = 0;
+    return this;
+  }
+
   public String getServiceId() {
     return serviceId;
   }
@@ -215,6 +640,174 @@ public class ArcusCacheConfiguration {
     return this.allowNullValues;
   }
 
+  @Nullable
+  public Executor getAsyncExecutor() {
+    return asyncExecutor;
+  }
+
+  public boolean isSingleFlightLoading() {
+    return singleFlightLoading;
+  }
+
+  public long getSingleFlightMaxWaitMilliSeconds() {
+    return singleFlightMaxWaitMilliSeconds;
+  }
+
+  public boolean isLoadingLease() {
+    return loadingLeaseSeconds > 0;
+  }
+
+  public int getLoadingLeaseSeconds() {
+    return loadingLeaseSeconds;
+  }
+
+  public long getLoadingLeaseMaxWaitMilliSeconds() {
+    return loadingLeaseMaxWaitMilliSeconds;
+  }
+
+  public int getStaleWhileRevalidateSeconds() {
+    return staleWhileRevalidateSeconds;
+  }
+
+  public double getEarlyRecomputationBeta() {
+    return earlyRecomputationBeta;
+  }
+
+  public int getExpireJitterSeconds() {
+    return expireJitterSeconds;
+  }
+
+  public int getExpireJitterPercent() {
+    return expireJitterPercent;
+  }
+
+  public int getFrontExpireJitterSeconds() {
+    return frontExpireJitterSeconds;
+  }
+
+  public int getFrontExpireJitterPercent() {
+    return frontExpireJitterPercent;
+  }
+
+  @Nullable
+  public Integer getNullValueExpireSeconds() {
+    return nullValueExpireSeconds;
+  }
+
+  @Nullable
+  public Integer getNullValueFrontExpireSeconds() {
+    return nullValueFrontExpireSeconds;
+  }
+
+  public boolean isCompactNullValue() {
+    return compactNullValue;
+  }
+
+  public boolean isGenerationClear() {
+    return generationCheckIntervalMilliSeconds > 0;
+  }
+
+  public long getGenerationCheckIntervalMilliSeconds() {
+    return generationCheckIntervalMilliSeconds;
+  }
+
+  public boolean isFrontCacheInvalidation() {
+    return frontCacheInvalidationPollIntervalMilliSeconds > 0;
+  }
+
+  public long getFrontCacheInvalidationPollIntervalMilliSeconds() {
+    return frontCacheInvalidationPollIntervalMilliSeconds;
+  }
+
+  public boolean isFrontExpireByRemainingTime() {
+    return frontExpireByRemainingTime;
+  }
+
+  @Nullable
+  public ArcusCacheTracer getTracer() {
+    return tracer;
+  }
+
+  public boolean isCircuitBreaker() {
+    return circuitBreakerOpenMilliSeconds > 0;
+  }
+
+  public int getCircuitBreakerFailureRateThreshold() {
+    return circuitBreakerFailureRateThreshold;
+  }
+
+  public int getCircuitBreakerWindowSize() {
+    return circuitBreakerWindowSize;
+  }
+
+  public long getCircuitBreakerOpenMilliSeconds() {
+    return circuitBreakerOpenMilliSeconds;
+  }
+
+  public boolean isAdaptiveTimeout() {
+    return adaptiveTimeoutMaxMilliSeconds > 0;
+  }
+
+  public double getAdaptiveTimeoutPercentile() {
+    return adaptiveTimeoutPercentile;
+  }
+
+  public double getAdaptiveTimeoutMultiplier() {
+    return adaptiveTimeoutMultiplier;
+  }
+
+  public long getAdaptiveTimeoutMinMilliSeconds() {
+    return adaptiveTimeoutMinMilliSeconds;
+  }
+
+  public long getAdaptiveTimeoutMaxMilliSeconds() {
+    return adaptiveTimeoutMaxMilliSeconds;
+  }
+
+  public boolean isLookupBatching() {
+    return lookupBatchingWindowMicroSeconds > 0;
+  }
+
+  public long getLookupBatchingWindowMicroSeconds() {
+    return lookupBatchingWindowMicroSeconds;
+  }
+
+  public int getLookupBatchingMaxKeys() {
+    return lookupBatchingMaxKeys;
+  }
+
+  public boolean isWriteBehind() {
+    return writeBehindCapacity > 0;
+  }
+
+  public int getWriteBehindCapacity() {
+    return writeBehindCapacity;
+  }
+
+  public int getWriteBehindBatchSize() {
+    return writeBehindBatchSize;
+  }
+
+  public long getWriteBehindFlushIntervalMilliSeconds() {
+    return writeBehindFlushIntervalMilliSeconds;
+  }
+
+  public boolean isStaleSetLease() {
+    return staleSetLeaseSeconds > 0;
+  }
+
+  public int getStaleSetLeaseSeconds() {
+    return staleSetLeaseSeconds;
+  }
+
+  public int getComputeMaxRetries() {
+    return computeMaxRetries;
+  }
+
+  public long getComputeBackoffMilliSeconds() {
+    return computeBackoffMilliSeconds;
+  }
+
   @Deprecated
   public void setAllowNullValues(boolean allowNullValues) {
     this.allowNullValues = allowNullValues;
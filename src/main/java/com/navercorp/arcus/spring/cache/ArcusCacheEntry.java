@@ -0,0 +1,94 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 캐시 값과 함께 논리적인 만료 시각을 저장하는 캐시 아이템.
+ * <p>
+ * stale-while-revalidate 설정 시 ARCUS 아이템의 Expire Time은 논리적인 만료 시각보다 길게 지정되며,
+ * 논리적인 만료 시각이 지난 아이템은 stale 상태로 반환되면서 백그라운드에서 다시 불러옵니다.
+ * </p>
+ * <p>
+ * early recomputation 설정 시 값을 불러오는 데 걸린 시간을 함께 저장하며,
+ * 만료 시각이 가까울수록, 불러오는 데 오래 걸린 값일수록 높은 확률로 만료 전에 다시 불러옵니다.
+ * </p>
+ */
+final class ArcusCacheEntry implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Object value;
+  private final long freshUntil;
+  private final long loadMillis;
+
+  ArcusCacheEntry(Object value, long freshUntil) {
+    this(value, freshUntil, 0L);
+  }
+
+  ArcusCacheEntry(Object value, long freshUntil, long loadMillis) {
+    this.value = value;
+    this.freshUntil = freshUntil;
+    this.loadMillis = loadMillis;
+  }
+
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * @return 논리적인 만료 시각 (epoch milliseconds)
+   */
+  public long getFreshUntil() {
+    return freshUntil;
+  }
+
+  /**
+   * @return 값을 불러오는 데 걸린 시간 (milliseconds). 알 수 없으면 0
+   */
+  public long getLoadMillis() {
+    return loadMillis;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ArcusCacheEntry that = (ArcusCacheEntry) o;
+    return freshUntil == that.freshUntil && loadMillis == that.loadMillis && Objects.equals(value, that.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, freshUntil, loadMillis);
+  }
+
+  @Override
+  public String toString() {
+    return "ArcusCacheEntry{value=" + value + ", freshUntil=" + freshUntil + ", loadMillis=" + loadMillis + "}";
+  }
+
+}
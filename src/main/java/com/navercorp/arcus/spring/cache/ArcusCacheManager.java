@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import net.spy.memcached.ArcusClient;
 import net.spy.memcached.ArcusClientPool;
@@ -33,6 +35,7 @@ import net.spy.memcached.ConnectionFactoryBuilder;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.util.Assert;
 
 /**
@@ -44,6 +47,7 @@ public class ArcusCacheManager extends AbstractTransactionSupportingCacheManager
   private final ArcusCacheConfiguration defaultConfiguration;
   private final Map<String, ArcusCacheConfiguration> initialCacheConfigs;
   private boolean internalClient;
+  private final List<Consumer<ArcusCache>> cacheCreationListeners = new CopyOnWriteArrayList<>();
 
   /**
    * 외부에서 생성한 Arcus 클라이언트를 이용해 캐시 매니저를 생성합니다.
@@ -95,7 +99,7 @@ public class ArcusCacheManager extends AbstractTransactionSupportingCacheManager
   protected Collection<? extends Cache> loadCaches() {
     List<Cache> caches = new ArrayList<>(initialCacheConfigs.size());
     for (Map.Entry<String, ArcusCacheConfiguration> entry : initialCacheConfigs.entrySet()) {
-      caches.add(createCache(entry.getKey(), entry.getValue()));
+      caches.add(notifyCacheCreation(createCache(entry.getKey(), entry.getValue())));
     }
 
     return caches;
@@ -103,7 +107,27 @@ public class ArcusCacheManager extends AbstractTransactionSupportingCacheManager
 
   @Override
   protected Cache getMissingCache(String name) {
-    return createCache(name, defaultConfiguration);
+    return notifyCacheCreation(createCache(name, defaultConfiguration));
+  }
+
+  /**
+   * 캐시 매니저가 ArcusCache를 생성할 때마다 호출할 listener를 등록합니다.
+   * 이미 생성된 캐시에 대해서는 호출하지 않습니다.
+   *
+   * @param listener 생성된 ArcusCache를 전달받는 listener
+   */
+  public void addCacheCreationListener(Consumer<ArcusCache> listener) {
+    Assert.notNull(listener, "Listener must not be null");
+    cacheCreationListeners.add(listener);
+  }
+
+  private Cache notifyCacheCreation(Cache cache) {
+    if (cache instanceof ArcusCache) {
+      for (Consumer<ArcusCache> listener : cacheCreationListeners) {
+        listener.accept((ArcusCache) cache);
+      }
+    }
+    return cache;
   }
 
   /**
@@ -119,6 +143,15 @@ public class ArcusCacheManager extends AbstractTransactionSupportingCacheManager
 
   @Override
   public void destroy() {
+    for (String name : getCacheNames()) {
+      Cache cache = lookupCache(name);
+      if (cache instanceof TransactionAwareCacheDecorator) {
+        cache = ((TransactionAwareCacheDecorator) cache).getTargetCache();
+      }
+      if (cache instanceof ArcusCache) {
+        ((ArcusCache) cache).destroy();
+      }
+    }
     if (internalClient) {
       client.shutdown();
     }
@@ -0,0 +1,173 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.spy.memcached.OperationTimeoutException;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * ArcusCache의 연산 통계.
+ * <p>
+ * 조회, 저장, 삭제 횟수와 실패 횟수를 누적하며, 연산이 끝날 때마다 등록된 LatencyListener에 수행 시간을 전달합니다.
+ * 조회 횟수는 Front Cache 또는 ARCUS에서 캐시 아이템을 찾은 hit와 찾지 못한 miss의 합입니다.
+ * </p>
+ */
+public class ArcusCacheStatistics {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder frontHits = new LongAdder();
+  private final LongAdder puts = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder writeBehindOverflows = new LongAdder();
+  private volatile int writeBehindQueueSize;
+  private final List<LatencyListener> latencyListeners = new CopyOnWriteArrayList<>();
+
+  public long getGets() {
+    return hits.sum() + misses.sum();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return hit 중 Front Cache에서 찾은 횟수
+   */
+  public long getFrontHits() {
+    return frontHits.sum();
+  }
+
+  public long getPuts() {
+    return puts.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  public long getTimeouts() {
+    return timeouts.sum();
+  }
+
+  /**
+   * @return timeout을 제외하고 예외가 발생하거나 ARCUS가 실패를 응답한 횟수
+   */
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  /**
+   * @return write-behind 큐가 가득 차서 큐에 추가하지 않고 바로 저장한 저장 요청 횟수
+   */
+  public long getWriteBehindOverflows() {
+    return writeBehindOverflows.sum();
+  }
+
+  /**
+   * @return write-behind 큐에서 저장을 기다리는 캐시 아이템 개수
+   */
+  public int getWriteBehindQueueSize() {
+    return writeBehindQueueSize;
+  }
+
+  public void addLatencyListener(LatencyListener latencyListener) {
+    Assert.notNull(latencyListener, "LatencyListener must not be null.");
+    latencyListeners.add(latencyListener);
+  }
+
+  void recordFrontHits(int count) {
+    hits.add(count);
+    frontHits.add(count);
+  }
+
+  void recordHits(int count) {
+    hits.add(count);
+  }
+
+  void recordMisses(int count) {
+    misses.add(count);
+  }
+
+  void recordPuts(int count) {
+    puts.add(count);
+  }
+
+  void recordEvictions(int count) {
+    evictions.add(count);
+  }
+
+  void recordFailure(@Nullable Throwable e) {
+    if (isTimeout(e)) {
+      timeouts.increment();
+    } else {
+      failures.increment();
+    }
+  }
+
+  void recordWriteBehindOverflows(int count) {
+    writeBehindOverflows.add(count);
+  }
+
+  void setWriteBehindQueueSize(int size) {
+    writeBehindQueueSize = size;
+  }
+
+  void recordLatency(Operation operation, long nanos) {
+    for (LatencyListener latencyListener : latencyListeners) {
+      latencyListener.onLatency(operation, nanos);
+    }
+  }
+
+  static boolean isTimeout(@Nullable Throwable e) {
+    while (e != null) {
+      if (e instanceof TimeoutException || e instanceof OperationTimeoutException) {
+        return true;
+      }
+      e = e.getCause();
+    }
+    return false;
+  }
+
+  public enum Operation {
+    GET, GET_ALL, PUT, PUT_ALL, PUT_IF_ABSENT, EVICT, EVICT_ALL, CLEAR, COMPUTE
+  }
+
+  @FunctionalInterface
+  public interface LatencyListener {
+    /**
+     * @param operation 수행한 연산
+     * @param nanos 연산 수행 시간 (nanoseconds)
+     */
+    void onLatency(Operation operation, long nanos);
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * id 목록을 받아 id별 값을 Map으로 반환하는 메서드의 결과를 id별 캐시 아이템으로 저장합니다.
+ * <p>
+ * 메서드는 Collection 타입의 파라미터를 하나만 가져야 하며, Map을 반환해야 합니다.
+ * Collection의 각 원소를 캐시 키로 사용하며, ArcusCacheableAllInterceptor에 KeyGenerator를 지정하면 각 원소로 생성한 키를 사용합니다.
+ * 그 외의 파라미터는 캐시 키에 포함되지 않습니다.
+ * 처리는 ArcusCacheableAllInterceptor가 수행합니다.
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ArcusCacheableAll {
+
+  @AliasFor("cacheName")
+  String value() default "";
+
+  /**
+   * 캐시 아이템을 저장할 ArcusCache의 이름
+   */
+  @AliasFor("value")
+  String cacheName() default "";
+
+}
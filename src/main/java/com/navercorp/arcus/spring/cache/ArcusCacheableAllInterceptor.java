@@ -0,0 +1,238 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link ArcusCacheableAll}이 선언된 메서드의 결과를 id별 캐시 아이템으로 조회하고 저장하는 MethodInterceptor.
+ * <p>
+ * 전달된 id 목록의 캐시 아이템을 ArcusCache의 getAll로 Front Cache와 ARCUS에서 한 번에 조회하고,
+ * 캐시 아이템이 없는 id만 전달하여 메서드를 호출합니다.
+ * 메서드가 반환한 값은 ArcusCache의 putAll로 한 번에 저장하며, 캐시 아이템과 합쳐 id 순서대로 반환합니다.
+ * 메서드가 반환하지 않은 id는 저장하지 않으며, null 값으로 저장된 id는 다시 조회하지 않고 결과에서 제외합니다.
+ * 결과 Map은 메서드의 반환 타입으로 생성하므로, SortedMap을 반환하는 메서드의 결과는 id 순서가 아닌 정렬 순서를 따릅니다.
+ * </p>
+ * <p>
+ * 기본적으로 각 id를 그대로 캐시 키로 사용하므로, {@code @Cacheable(key = "#id")}로 id 하나를 조회하는 메서드와 캐시 아이템을 공유합니다.
+ * KeyGenerator를 지정하면 id 하나만 전달하여 생성한 키를 캐시 키로 사용하므로,
+ * 같은 KeyGenerator를 사용하는 {@code @Cacheable} 메서드와 캐시 아이템을 공유합니다.
+ * id 목록에 null이 있으면 IllegalArgumentException이 발생합니다.
+ * </p>
+ * <p>
+ * TransactionAwareCacheDecorator로 감싼 캐시는 대상 ArcusCache를 사용하므로, 트랜잭션 안에서도 커밋을 기다리지 않고 저장합니다.
+ * </p>
+ * <p>
+ * 사용하려면 {@link ArcusCacheableAll}을 Pointcut으로 하는 Advisor의 Advice로 이 객체를 등록합니다.
+ * </p>
+ */
+public class ArcusCacheableAllInterceptor implements MethodInterceptor {
+
+  private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+  private final CacheManager cacheManager;
+  @Nullable
+  private final KeyGenerator keyGenerator;
+
+  public ArcusCacheableAllInterceptor(CacheManager cacheManager) {
+    Assert.notNull(cacheManager, "CacheManager must not be null.");
+    this.cacheManager = cacheManager;
+    this.keyGenerator = null;
+  }
+
+  /**
+   * @param cacheManager ArcusCache를 조회할 CacheManager
+   * @param keyGenerator id 하나로 캐시 키를 생성할 KeyGenerator
+   */
+  public ArcusCacheableAllInterceptor(CacheManager cacheManager, KeyGenerator keyGenerator) {
+    Assert.notNull(cacheManager, "CacheManager must not be null.");
+    Assert.notNull(keyGenerator, "KeyGenerator must not be null.");
+    this.cacheManager = cacheManager;
+    this.keyGenerator = keyGenerator;
+  }
+
+  @Override
+  @Nullable
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Method method = invocation.getMethod();
+    if (invocation.getThis() != null) {
+      method = AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(invocation.getThis()));
+    }
+    ArcusCacheableAll annotation = AnnotatedElementUtils.findMergedAnnotation(method, ArcusCacheableAll.class);
+    if (annotation == null) {
+      return invocation.proceed();
+    }
+
+    int index = getIdsIndex(method);
+    Object[] args = invocation.getArguments();
+    Collection<?> ids = (Collection<?>) args[index];
+    if (ids == null || ids.isEmpty()) {
+      return invocation.proceed();
+    }
+
+    ArcusCache cache = getArcusCache(annotation, method);
+    Map<Object, Object> result = createResult(method, ids.size());
+    Map<Object, Object> keys = createKeys(invocation, method, ids);
+    Map<Object, Cache.ValueWrapper> cached = cache.getAll(new LinkedHashSet<>(keys.values()));
+    Set<Object> missingIdSet = new LinkedHashSet<>();
+    for (Object id : ids) {
+      if (!cached.containsKey(keys.get(id))) {
+        missingIdSet.add(id);
+      }
+    }
+    Collection<Object> missingIds = createIds(method.getParameterTypes()[index]);
+    missingIds.addAll(missingIdSet);
+
+    Map<?, ?> loaded = null;
+    if (!missingIds.isEmpty()) {
+      args[index] = missingIds;
+      loaded = (Map<?, ?>) invocation.proceed();
+      if (loaded != null) {
+        putLoadedValues(cache, missingIds, keys, loaded);
+      }
+    }
+
+    for (Object id : ids) {
+      Cache.ValueWrapper wrapper = cached.get(keys.get(id));
+      if (wrapper != null) {
+        if (wrapper.get() != null) {
+          result.put(id, wrapper.get());
+        }
+      } else if (loaded != null && loaded.containsKey(id)) {
+        result.put(id, loaded.get(id));
+      }
+    }
+    return result;
+  }
+
+  private void putLoadedValues(ArcusCache cache, Collection<Object> ids, Map<Object, Object> keys,
+                               Map<?, ?> loaded) {
+    Map<Object, Object> values = new LinkedHashMap<>();
+    for (Object id : ids) {
+      if (!loaded.containsKey(id)) {
+        continue;
+      }
+      Object value = loaded.get(id);
+      if (value == null && !cache.isAllowNullValues()) {
+        logger.debug("skip caching a null value of key: {}, cache: {}", id, cache.getName());
+        continue;
+      }
+      values.put(keys.get(id), value);
+    }
+    if (!values.isEmpty()) {
+      Set<Object> failedKeys = cache.putAll(values);
+      if (!failedKeys.isEmpty()) {
+        logger.debug("failed to cache loaded values. keys: {}, cache: {}", failedKeys, cache.getName());
+      }
+    }
+  }
+
+  /*
+   * Without a key generator, each id is the cache key itself.
+   */
+  private Map<Object, Object> createKeys(MethodInvocation invocation, Method method, Collection<?> ids) {
+    Map<Object, Object> keys = new LinkedHashMap<>();
+    for (Object id : ids) {
+      if (id == null) {
+        throw new IllegalArgumentException("@ArcusCacheableAll ids must not contain null: " + method);
+      }
+      keys.put(id, keyGenerator != null ? keyGenerator.generate(invocation.getThis(), method, id) : id);
+    }
+    return keys;
+  }
+
+  private int getIdsIndex(Method method) {
+    if (!Map.class.isAssignableFrom(method.getReturnType())) {
+      throw new IllegalStateException("@ArcusCacheableAll method must return a Map: " + method);
+    }
+    int index = -1;
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    for (int i = 0; i < parameterTypes.length; i++) {
+      if (Collection.class.isAssignableFrom(parameterTypes[i])) {
+        if (index != -1) {
+          throw new IllegalStateException("@ArcusCacheableAll method must have only one Collection parameter: " + method);
+        }
+        index = i;
+      }
+    }
+    if (index == -1) {
+      throw new IllegalStateException("@ArcusCacheableAll method must have a Collection parameter: " + method);
+    }
+    return index;
+  }
+
+  private Collection<Object> createIds(Class<?> parameterType) {
+    if (parameterType.isAssignableFrom(ArrayList.class)) {
+      return new ArrayList<>();
+    }
+    if (parameterType.isAssignableFrom(LinkedHashSet.class)) {
+      return new LinkedHashSet<>();
+    }
+    throw new IllegalStateException("@ArcusCacheableAll parameter must be a List, Set or Collection: " + parameterType);
+  }
+
+  /*
+   * LinkedHashMap for Map, TreeMap for SortedMap and NavigableMap, or an instance of the concrete return type.
+   */
+  private Map<Object, Object> createResult(Method method, int capacity) {
+    try {
+      return CollectionFactory.createMap(method.getReturnType(), capacity);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("@ArcusCacheableAll method must return a Map type that can be created: " +
+          method, e);
+    }
+  }
+
+  private ArcusCache getArcusCache(ArcusCacheableAll annotation, Method method) {
+    String cacheName = annotation.cacheName();
+    if (!StringUtils.hasText(cacheName)) {
+      throw new IllegalStateException("@ArcusCacheableAll must specify a cache name: " + method);
+    }
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache instanceof TransactionAwareCacheDecorator) {
+      cache = ((TransactionAwareCacheDecorator) cache).getTargetCache();
+    }
+    if (!(cache instanceof ArcusCache)) {
+      throw new IllegalStateException("Cannot find an ArcusCache named '" + cacheName + "' for " + method);
+    }
+    return (ArcusCache) cache;
+  }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ARCUS 요청의 circuit breaker.
+ * <p>
+ * CLOSED 상태에서는 windowSize개의 요청마다 실패율을 계산하여, failureRateThreshold 이상이면 OPEN 상태가 됩니다.
+ * OPEN 상태에서는 openMilliSeconds 동안 요청을 허용하지 않으며, 그 이후 HALF_OPEN 상태가 되어
+ * HALF_OPEN_PROBES개의 요청만 허용합니다. 허용한 요청의 실패율이 failureRateThreshold 미만이면 CLOSED,
+ * 그렇지 않으면 다시 OPEN 상태가 됩니다.
+ * </p>
+ * <p>
+ * CLOSED 상태에서는 lock 없이 요청을 허용하고 결과를 집계하며, 상태 전이와 실패율 계산만 동기화합니다.
+ * </p>
+ */
+final class ArcusCircuitBreaker {
+
+  static final int HALF_OPEN_PROBES = 10;
+
+  enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+  private final String name;
+  private final int failureRateThreshold;
+  private final int windowSize;
+  private final long openNanos;
+
+  private volatile State state = State.CLOSED;
+  private final AtomicInteger closedCalls = new AtomicInteger();
+  private final AtomicInteger closedFailures = new AtomicInteger();
+  // guarded by this
+  private int probes;
+  private int probeCalls;
+  private int probeFailures;
+  private long stateChangedAt;
+
+  ArcusCircuitBreaker(String name, ArcusCacheConfiguration configuration) {
+    this.name = name;
+    this.failureRateThreshold = configuration.getCircuitBreakerFailureRateThreshold();
+    this.windowSize = configuration.getCircuitBreakerWindowSize();
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getCircuitBreakerOpenMilliSeconds());
+  }
+
+  State getState() {
+    return state;
+  }
+
+  /**
+   * @return ARCUS 요청을 보내도 되는지 여부. true를 반환한 경우 요청의 결과를 onSuccess 또는 onFailure로 알려야 합니다.
+   */
+  boolean tryAcquirePermission() {
+    if (state == State.CLOSED) {
+      return true;
+    }
+
+    synchronized (this) {
+      long now = System.nanoTime();
+      if (state == State.OPEN) {
+        if (now - stateChangedAt < openNanos) {
+          return false;
+        }
+        transitionTo(State.HALF_OPEN, now);
+      } else if (state == State.HALF_OPEN && probes >= HALF_OPEN_PROBES && now - stateChangedAt >= openNanos) {
+        // The results of some probes have never been reported, so start probing again.
+        transitionTo(State.HALF_OPEN, now);
+      }
+      if (state == State.CLOSED) {
+        return true;
+      }
+      if (probes < HALF_OPEN_PROBES) {
+        probes++;
+        return true;
+      }
+      return false;
+    }
+  }
+
+  void onSuccess() {
+    record(false);
+  }
+
+  void onFailure() {
+    record(true);
+  }
+
+  private void record(boolean failure) {
+    if (state != State.CLOSED) {
+      recordProbe(failure);
+      return;
+    }
+
+    if (failure) {
+      closedFailures.incrementAndGet();
+    }
+    if (closedCalls.incrementAndGet() == windowSize) {
+      evaluateWindow();
+    }
+  }
+
+  private synchronized void evaluateWindow() {
+    int calls = closedCalls.getAndSet(0);
+    int failures = closedFailures.getAndSet(0);
+    if (state == State.CLOSED && isFailureRateExceeded(failures, calls)) {
+      logger.warn("circuit breaker of the cache {} is opened. failures: {}, calls: {}", name, failures, calls);
+      transitionTo(State.OPEN, System.nanoTime());
+    }
+  }
+
+  private synchronized void recordProbe(boolean failure) {
+    if (state != State.HALF_OPEN) {
+      return;
+    }
+
+    probeCalls++;
+    if (failure) {
+      probeFailures++;
+    }
+    if (probeCalls < HALF_OPEN_PROBES) {
+      return;
+    }
+
+    if (isFailureRateExceeded(probeFailures, probeCalls)) {
+      logger.warn("circuit breaker of the cache {} is opened again. failures: {}, calls: {}",
+          name, probeFailures, probeCalls);
+      transitionTo(State.OPEN, System.nanoTime());
+    } else {
+      logger.info("circuit breaker of the cache {} is closed.", name);
+      transitionTo(State.CLOSED, System.nanoTime());
+    }
+  }
+
+  private boolean isFailureRateExceeded(int failures, int calls) {
+    return calls > 0 && failures * 100L >= (long) failureRateThreshold * calls;
+  }
+
+  private void transitionTo(State newState, long now) {
+    state = newState;
+    stateChangedAt = now;
+    probes = 0;
+    probeCalls = 0;
+    probeFailures = 0;
+    closedCalls.set(0);
+    closedFailures.set(0);
+  }
+
+}
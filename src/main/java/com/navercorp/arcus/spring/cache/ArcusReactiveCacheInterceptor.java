@@ -0,0 +1,207 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.cache.interceptor.CacheOperation;
+import org.springframework.cache.interceptor.CacheOperationInvoker;
+import org.springframework.cache.interceptor.CacheOperationSource;
+import org.springframework.cache.interceptor.CacheableOperation;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.lang.Nullable;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mono, Flux를 반환하는 메서드의 {@code @Cacheable}을 블로킹 없이 처리하는 CacheInterceptor.
+ * <p>
+ * 캐시가 모두 ArcusCache인 단일 {@code @Cacheable} 연산에 대해 ArcusCache의 retrieve, putAsync를 사용합니다.
+ * Front Cache에 존재하는 아이템은 구독 시점에 즉시 반환하며, ARCUS 조회 결과는
+ * ArcusCacheConfiguration의 asyncExecutor에서 기다린 뒤 반환합니다.
+ * Flux는 모든 원소를 List로 모아 한 번만 저장하고, 캐시 아이템이 존재하면 List의 원소를 차례로 반환합니다.
+ * TransactionAwareCacheDecorator로 감싼 캐시는 대상 ArcusCache를 사용하므로, 트랜잭션 안에서도 커밋을 기다리지 않고 저장합니다.
+ * </p>
+ * <p>
+ * 그 외의 메서드와 연산은 CacheInterceptor와 동일하게 처리합니다.
+ * 사용하려면 기본 CacheInterceptor 대신 이 객체를 Bean으로 등록하며, reactor-core 의존성이 필요합니다.
+ * </p>
+ */
+@SuppressWarnings("serial")
+public class ArcusReactiveCacheInterceptor extends CacheInterceptor {
+
+  private final transient Logger logger = LoggerFactory.getLogger(this.getClass());
+
+  private volatile boolean initialized = false;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    super.afterSingletonsInstantiated();
+    this.initialized = true;
+  }
+
+  @Override
+  @Nullable
+  protected Object execute(CacheOperationInvoker invoker, Object target, Method method, Object[] args) {
+    if (!this.initialized) {
+      return super.execute(invoker, target, method, args);
+    }
+
+    Class<?> returnType = method.getReturnType();
+    if (!Mono.class.isAssignableFrom(returnType) && !Flux.class.isAssignableFrom(returnType)) {
+      return super.execute(invoker, target, method, args);
+    }
+
+    Class<?> targetClass = AopUtils.getTargetClass(target);
+    CacheOperationSource cacheOperationSource = getCacheOperationSource();
+    if (cacheOperationSource == null) {
+      return super.execute(invoker, target, method, args);
+    }
+
+    Collection<CacheOperation> operations = cacheOperationSource.getCacheOperations(method, targetClass);
+    if (operations == null || operations.size() != 1) {
+      return super.execute(invoker, target, method, args);
+    }
+
+    CacheOperation operation = operations.iterator().next();
+    if (!(operation instanceof CacheableOperation)) {
+      return super.execute(invoker, target, method, args);
+    }
+
+    ReactiveOperationContext context =
+        new ReactiveOperationContext(getCacheOperationMetadata(operation, method, targetClass), args, target);
+    List<ArcusCache> caches = context.getArcusCaches();
+    if (caches == null) {
+      return super.execute(invoker, target, method, args);
+    }
+
+    if (!context.isConditionPassing()) {
+      return invokeOperation(invoker);
+    }
+
+    Object key = context.generateKey();
+    if (key == null) {
+      throw new IllegalArgumentException("Null key returned for cache operation (maybe you are " +
+          "using named params on classes without debug info?) " + operation);
+    }
+
+    if (Flux.class.isAssignableFrom(returnType)) {
+      return executeFlux(invoker, context, caches, key);
+    }
+    return executeMono(invoker, context, caches, key);
+  }
+
+  private Mono<Object> executeMono(CacheOperationInvoker invoker, ReactiveOperationContext context,
+                                   List<ArcusCache> caches, Object key) {
+    return Mono.fromFuture(() -> findInCaches(caches, key, 0))
+        .map(this::toCachedValue)
+        .switchIfEmpty(Mono.defer(() -> {
+          Mono<?> result = (Mono<?>) invokeOperation(invoker);
+          return result.doOnSuccess(value -> putInCaches(context, caches, key, value));
+        }))
+        .filter(value -> value != NullValue.INSTANCE);
+  }
+
+  private Flux<Object> executeFlux(CacheOperationInvoker invoker, ReactiveOperationContext context,
+                                   List<ArcusCache> caches, Object key) {
+    return Mono.fromFuture(() -> findInCaches(caches, key, 0))
+        .map(this::toCachedValue)
+        .switchIfEmpty(Mono.defer(() -> {
+          Flux<?> result = (Flux<?>) invokeOperation(invoker);
+          return result.collectList().doOnNext(values -> putInCaches(context, caches, key, values));
+        }))
+        .flatMapMany(values -> values instanceof Iterable ?
+            Flux.fromIterable((Iterable<?>) values) : Flux.empty());
+  }
+
+  private CompletableFuture<Cache.ValueWrapper> findInCaches(List<ArcusCache> caches, Object key, int index) {
+    return caches.get(index).retrieve(key).thenCompose(result -> {
+      if (result != null || index + 1 == caches.size()) {
+        return CompletableFuture.completedFuture(result);
+      }
+      return findInCaches(caches, key, index + 1);
+    });
+  }
+
+  private Object toCachedValue(Cache.ValueWrapper result) {
+    Object value = result.get();
+    return value != null ? value : NullValue.INSTANCE;
+  }
+
+  private void putInCaches(ReactiveOperationContext context, List<ArcusCache> caches, Object key,
+                           @Nullable Object value) {
+    if (!context.canPutToCache(value)) {
+      return;
+    }
+    for (ArcusCache cache : caches) {
+      if (value == null && !cache.isAllowNullValues()) {
+        logger.debug("skip caching a null value of key: {}, cache: {}", key, cache.getName());
+        continue;
+      }
+      cache.putAsync(key, value);
+    }
+  }
+
+  private class ReactiveOperationContext extends CacheOperationContext {
+
+    private ReactiveOperationContext(CacheOperationMetadata metadata, Object[] args, Object target) {
+      super(metadata, args, target);
+    }
+
+    @Nullable
+    private List<ArcusCache> getArcusCaches() {
+      List<ArcusCache> caches = new ArrayList<>();
+      for (Cache cache : getCaches()) {
+        if (cache instanceof TransactionAwareCacheDecorator) {
+          cache = ((TransactionAwareCacheDecorator) cache).getTargetCache();
+        }
+        if (!(cache instanceof ArcusCache)) {
+          return null;
+        }
+        caches.add((ArcusCache) cache);
+      }
+      return caches.isEmpty() ? null : caches;
+    }
+
+    private boolean isConditionPassing() {
+      return isConditionPassing(null);
+    }
+
+    @Nullable
+    private Object generateKey() {
+      return generateKey(null);
+    }
+
+    @Override
+    protected boolean canPutToCache(@Nullable Object value) {
+      return super.canPutToCache(value);
+    }
+  }
+
+}
@@ -0,0 +1,322 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import net.spy.memcached.ArcusClientPool;
+import net.spy.memcached.collection.CollectionAttributes;
+import net.spy.memcached.collection.CollectionOverflowAction;
+import net.spy.memcached.collection.Element;
+import net.spy.memcached.collection.ElementFlagFilter;
+import net.spy.memcached.ops.CollectionOperationStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * ARCUS B+tree에 저장하는 Front Cache 무효화 로그.
+ * <p>
+ * 캐시 아이템을 변경, 삭제한 서버는 ARCUS counter로 발급한 순번을 bkey로 하여 캐시 키를 B+tree에 추가하고,
+ * 모든 서버는 주기적으로 B+tree를 읽어 다른 서버가 추가한 캐시 키를 자신의 Front Cache에서 삭제합니다.
+ * B+tree는 최근 MAX_COUNT개의 로그만 유지하며, 그보다 많은 로그를 놓친 경우에는 Front Cache를 모두 비웁니다.
+ * </p>
+ * <p>
+ * 추가할 캐시 키는 모아 두었다가 pollInterval마다 한 번의 counter 증가와 B+tree 추가 요청으로 기록하므로,
+ * 저장, 삭제 요청마다 ARCUS 요청이 늘어나지 않습니다. 로그의 추가와 읽기는 asyncExecutor에서 수행하며,
+ * 모든 캐시가 공유하는 스케줄러 스레드는 작업을 asyncExecutor에 전달하기만 하므로 다른 캐시의 지연에 영향을 받지 않습니다.
+ * </p>
+ * <p>
+ * 로그를 추가하거나 읽는 요청은 ArcusCache의 circuit breaker를 따르며, 허용되지 않는 동안에는 보내지 않습니다.
+ * </p>
+ */
+final class FrontCacheInvalidationLog {
+
+  /**
+   * ArcusCache의 circuit breaker. 허용된 요청의 결과는 recordSuccess 또는 recordFailure로 알린다.
+   */
+  interface RequestGate {
+    boolean tryAcquirePermission();
+
+    void recordSuccess();
+
+    void recordFailure(Exception e);
+  }
+
+  static final int MAX_COUNT = 1000;
+
+  private static final String LOG_KEY_SUFFIX = "_invalidation:log";
+  private static final String SEQUENCE_KEY_SUFFIX = "_invalidation:sequence";
+  private static final char SOURCE_SEPARATOR = ' ';
+
+  private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+  private final ArcusClientPool arcusClient;
+  private final ArcusCacheConfiguration configuration;
+  private final Executor asyncExecutor;
+  private final RequestGate gate;
+  private final String logKey;
+  private final String sequenceKey;
+  private final String source = UUID.randomUUID().toString();
+
+  private final AtomicBoolean polling = new AtomicBoolean();
+
+  // guarded by this
+  private final Set<String> pendingKeys = new LinkedHashSet<>();
+  @Nullable
+  private ScheduledFuture<?> tailer;
+  // accessed only by the poller
+  private long tailedSequence = -1L;
+  private long previousTailedSequence = -1L;
+
+  FrontCacheInvalidationLog(ArcusClientPool arcusClient, ArcusCacheConfiguration configuration,
+                            Executor asyncExecutor, RequestGate gate, String arcusPrefix) {
+    this.arcusClient = arcusClient;
+    this.configuration = configuration;
+    this.asyncExecutor = asyncExecutor;
+    this.gate = gate;
+    this.logKey = arcusPrefix + LOG_KEY_SUFFIX;
+    this.sequenceKey = arcusPrefix + SEQUENCE_KEY_SUFFIX;
+  }
+
+  synchronized void start() {
+    if (tailer != null) {
+      return;
+    }
+    long interval = configuration.getFrontCacheInvalidationPollIntervalMilliSeconds();
+    tailer = SchedulerHolder.SCHEDULER.scheduleWithFixedDelay(this::pollAsync, 0L, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 로그 읽기를 중단하고, 아직 추가하지 않은 캐시 키를 호출한 스레드에서 로그에 추가합니다.
+   */
+  void stop() {
+    synchronized (this) {
+      if (tailer != null) {
+        tailer.cancel(false);
+        tailer = null;
+      }
+    }
+    flush();
+  }
+
+  /**
+   * 다른 서버의 Front Cache에서 삭제할 캐시 키를 다음 주기에 로그에 추가하도록 모아 둡니다.
+   */
+  void append(Collection<String> arcusKeys) {
+    synchronized (this) {
+      for (String arcusKey : arcusKeys) {
+        // More than MAX_COUNT logs at once make the other servers clear their front caches anyway.
+        if (pendingKeys.size() > MAX_COUNT) {
+          return;
+        }
+        pendingKeys.add(arcusKey);
+      }
+    }
+  }
+
+  /*
+   * The scheduler thread is shared by the logs of all caches, so it only hands the poll over to the asyncExecutor.
+   * A poll is skipped while the previous one is running.
+   */
+  private void pollAsync() {
+    if (!polling.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      asyncExecutor.execute(() -> {
+        try {
+          flush();
+          tail();
+        } finally {
+          polling.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      polling.set(false);
+      logger.info("failed to poll invalidation logs. error: {}, key: {}", e.getMessage(), logKey);
+    }
+  }
+
+  /**
+   * 모아 둔 캐시 키를 로그에 추가합니다.
+   */
+  void flush() {
+    List<String> arcusKeys;
+    synchronized (this) {
+      if (pendingKeys.isEmpty()) {
+        return;
+      }
+      arcusKeys = new ArrayList<>(pendingKeys);
+      pendingKeys.clear();
+    }
+    appendNow(arcusKeys);
+  }
+
+  /*
+   * The requests of an append share a single permission of the circuit breaker, so one outcome is recorded.
+   */
+  private void appendNow(Collection<String> arcusKeys) {
+    if (!gate.tryAcquirePermission()) {
+      logger.debug("circuit breaker is open, skipping to append invalidation logs. keys: {}", arcusKeys);
+      return;
+    }
+    try {
+      insertLogs(arcusKeys);
+      gate.recordSuccess();
+    } catch (InterruptedException e) {
+      gate.recordFailure(e);
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      gate.recordFailure(e);
+      logger.info("failed to append invalidation logs. error: {}, keys: {}", e.getMessage(), arcusKeys);
+    }
+  }
+
+  private void insertLogs(Collection<String> arcusKeys) throws Exception {
+    Long lastSequence = arcusClient.asyncIncr(sequenceKey, arcusKeys.size(), initialSequence(), 0)
+        .get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
+    if (lastSequence == null || lastSequence < 0) {
+      logger.info("failed to get a sequence of invalidation logs. key: {}", sequenceKey);
+      return;
+    }
+
+    long sequence = lastSequence - arcusKeys.size() + 1;
+    Map<Long, Object> elements = new LinkedHashMap<>();
+    for (String arcusKey : arcusKeys) {
+      elements.put(sequence++, source + SOURCE_SEPARATOR + arcusKey);
+    }
+    CollectionAttributes attributes =
+        new CollectionAttributes(0, (long) MAX_COUNT, CollectionOverflowAction.smallest_trim);
+    Map<Integer, CollectionOperationStatus> failed = arcusClient.asyncBopPipedInsertBulk(logKey, elements, attributes)
+        .get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
+    if (failed != null && !failed.isEmpty()) {
+      logger.info("failed to append invalidation logs. key: {}, failed: {}", logKey, failed.size());
+    }
+  }
+
+  /**
+   * 다른 서버가 추가한 로그를 읽어 Front Cache에서 삭제합니다.
+   * 순번을 발급받은 뒤 로그를 추가하기 전에 다음 순번의 로그가 먼저 추가될 수 있으므로,
+   * 직전 주기에 읽은 구간을 한 번 더 읽습니다.
+   */
+  void tail() {
+    ArcusFrontCache arcusFrontCache = configuration.getArcusFrontCache();
+    if (arcusFrontCache == null) {
+      return;
+    }
+    if (!gate.tryAcquirePermission()) {
+      logger.debug("circuit breaker is open, skipping to tail invalidation logs. key: {}", logKey);
+      return;
+    }
+
+    try {
+      tailLogs(arcusFrontCache);
+      gate.recordSuccess();
+    } catch (InterruptedException e) {
+      gate.recordFailure(e);
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      gate.recordFailure(e);
+      logger.info("failed to tail invalidation logs. error: {}, key: {}", e.getMessage(), logKey);
+    }
+  }
+
+  private void tailLogs(ArcusFrontCache arcusFrontCache) throws Exception {
+    Long sequence = arcusClient.asyncIncr(sequenceKey, 0, initialSequence(), 0)
+        .get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
+    if (sequence == null || sequence < 0) {
+      logger.info("failed to get a sequence of invalidation logs. key: {}", sequenceKey);
+      return;
+    }
+
+    if (tailedSequence < 0) {
+      tailedSequence = sequence;
+      previousTailedSequence = sequence;
+      return;
+    }
+
+    if (sequence < tailedSequence || sequence - previousTailedSequence > MAX_COUNT) {
+      logger.info("missed invalidation logs, clearing the front cache. key: {}", logKey);
+      arcusFrontCache.clear();
+      tailedSequence = sequence;
+      previousTailedSequence = sequence;
+      return;
+    }
+
+    if (sequence > previousTailedSequence) {
+      Map<Long, Element<Object>> elements = arcusClient.asyncBopGet(logKey, previousTailedSequence + 1, sequence,
+              ElementFlagFilter.DO_NOT_FILTER, 0, MAX_COUNT, false, false)
+          .get(configuration.getTimeoutMilliSeconds(), TimeUnit.MILLISECONDS);
+      if (elements != null) {
+        for (Element<Object> element : elements.values()) {
+          invalidate(arcusFrontCache, element.getValue());
+        }
+      }
+    }
+
+    previousTailedSequence = tailedSequence;
+    tailedSequence = sequence;
+  }
+
+  private void invalidate(ArcusFrontCache arcusFrontCache, @Nullable Object log) {
+    if (!(log instanceof String)) {
+      return;
+    }
+    String value = (String) log;
+    int index = value.indexOf(SOURCE_SEPARATOR);
+    if (index < 0 || source.equals(value.substring(0, index))) {
+      return;
+    }
+    arcusFrontCache.delete(value.substring(index + 1));
+  }
+
+  /*
+   * If the sequence counter has been evicted, recreate it with a value larger than the old sequences
+   * so that new logs do not collide with the old logs remaining in the B+tree.
+   */
+  private static long initialSequence() {
+    return System.currentTimeMillis() * 1000L;
+  }
+
+  private static final class SchedulerHolder {
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "arcus-front-cache-invalidation");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 동시에 요청된 여러 키의 조회를 하나의 요청으로 모읍니다.
+ * <p>
+ * 키는 해시에 따라 여러 shard로 나뉘며, shard마다 따로 배치를 모읍니다.
+ * 모이는 중인 배치가 없을 때 조회한 스레드가 leader가 되고, 같은 shard를 그 동안 조회한 다른 스레드는
+ * 키를 배치에 추가합니다. 같은 키는 한 번만 추가됩니다.
+ * 다른 배치를 조회하는 중이 아니면 leader는 기다리지 않고 곧바로 조회하므로, 한가한 캐시는 지연 없이 조회합니다.
+ * 다른 배치를 조회하는 중이면 leader는 windowMicroSeconds 동안 기다리며, 기다린 뒤 또는 배치의 키가
+ * maxKeys개가 되면 BulkLoader로 배치의 모든 키를 조회하고, 각 스레드에게 자신이 조회한 키의 결과를 전달합니다.
+ * </p>
+ */
+final class LookupBatcher {
+
+  static final int SHARD_COUNT = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+  @FunctionalInterface
+  interface BulkLoader {
+    /**
+     * @return 키와 값의 Map. 존재하지 않는 키는 포함하지 않는다.
+     */
+    Map<String, Object> load(Set<String> arcusKeys) throws Exception;
+  }
+
+  private final long windowNanos;
+  private final int maxKeys;
+  private final BulkLoader loader;
+  private final Shard[] shards;
+  private final AtomicInteger loadingBatches = new AtomicInteger();
+
+  LookupBatcher(ArcusCacheConfiguration configuration, BulkLoader loader) {
+    this(configuration, SHARD_COUNT, loader);
+  }
+
+  LookupBatcher(ArcusCacheConfiguration configuration, int shardCount, BulkLoader loader) {
+    this.windowNanos = TimeUnit.MICROSECONDS.toNanos(configuration.getLookupBatchingWindowMicroSeconds());
+    this.maxKeys = configuration.getLookupBatchingMaxKeys();
+    this.loader = loader;
+    this.shards = new Shard[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = new Shard();
+    }
+  }
+
+  @Nullable
+  Object get(String arcusKey) throws Exception {
+    Shard shard = shards[Math.floorMod(arcusKey.hashCode(), shards.length)];
+    Batch batch;
+    CompletableFuture<Object> future;
+    boolean leader = false;
+    synchronized (shard) {
+      batch = shard.collecting;
+      if (batch == null) {
+        batch = new Batch(Thread.currentThread());
+        shard.collecting = batch;
+        leader = true;
+      }
+      future = batch.futures.computeIfAbsent(arcusKey, key -> new CompletableFuture<>());
+      if (batch.futures.size() >= maxKeys) {
+        shard.collecting = null;
+        batch.closed = true;
+      }
+    }
+
+    if (leader) {
+      if (loadingBatches.get() > 0) {
+        long deadline = System.nanoTime() + windowNanos;
+        long remaining;
+        while (!batch.closed && (remaining = deadline - System.nanoTime()) > 0) {
+          LockSupport.parkNanos(this, remaining);
+        }
+      }
+      synchronized (shard) {
+        if (shard.collecting == batch) {
+          shard.collecting = null;
+        }
+        batch.closed = true;
+      }
+      loadingBatches.incrementAndGet();
+      try {
+        batch.dispatch(loader);
+      } finally {
+        loadingBatches.decrementAndGet();
+      }
+    } else if (batch.closed) {
+      LockSupport.unpark(batch.leader);
+    }
+
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  private static final class Shard {
+    // guarded by this
+    @Nullable
+    private Batch collecting;
+  }
+
+  private static final class Batch {
+    private final Thread leader;
+    private final Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+    private volatile boolean closed;
+
+    private Batch(Thread leader) {
+      this.leader = leader;
+    }
+
+    /*
+     * Called by the leader after the batch is closed, so no more keys are added.
+     */
+    private void dispatch(BulkLoader loader) {
+      try {
+        Map<String, Object> values = loader.load(futures.keySet());
+        for (Map.Entry<String, CompletableFuture<Object>> entry : futures.entrySet()) {
+          entry.getValue().complete(values.get(entry.getKey()));
+        }
+      } catch (Throwable e) {
+        for (CompletableFuture<Object> future : futures.values()) {
+          future.completeExceptionally(e);
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.Transcoder;
+
+/**
+ * stale-set lease 표식을 flags만으로 저장하는 Transcoder.
+ * <p>
+ * LEASE는 데이터가 없는 아이템으로 저장하고 null로 조회되므로, 표식이 저장된 키는 캐시 miss로 처리됩니다.
+ * 그 외의 값은 지정된 Transcoder로 변환합니다. LEASE_FLAGS는 지정된 Transcoder가 사용하지 않는 flags여야 합니다.
+ * </p>
+ */
+final class SetLeaseTranscoder implements Transcoder<Object> {
+
+  static final int LEASE_FLAGS = 1 << 17;
+  static final Object LEASE = new Object();
+
+  private static final byte[] LEASE_DATA = new byte[0];
+
+  private final Transcoder<Object> delegate;
+
+  SetLeaseTranscoder(Transcoder<Object> delegate) {
+    this.delegate = delegate;
+  }
+
+  Transcoder<Object> getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public boolean asyncDecode(CachedData d) {
+    return d.getFlags() != LEASE_FLAGS && delegate.asyncDecode(d);
+  }
+
+  @Override
+  public CachedData encode(Object o) {
+    if (o == LEASE) {
+      return new CachedData(LEASE_FLAGS, LEASE_DATA, getMaxSize());
+    }
+    return delegate.encode(o);
+  }
+
+  @Override
+  public Object decode(CachedData d) {
+    if (d.getFlags() == LEASE_FLAGS) {
+      return null;
+    }
+    return delegate.decode(d);
+  }
+
+  @Override
+  public int getMaxSize() {
+    return delegate.getMaxSize();
+  }
+
+}
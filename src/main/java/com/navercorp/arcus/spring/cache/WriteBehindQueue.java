@@ -0,0 +1,246 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * ARCUS에 저장할 캐시 아이템을 모아서 나중에 저장하는 write-behind 큐.
+ * <p>
+ * 같은 키의 캐시 아이템은 마지막으로 추가한 값만 저장하며, 큐에 capacity개의 키가 있으면 새로운 키는 추가하지 않습니다.
+ * 큐의 아이템은 flushIntervalMilliSeconds마다, 또는 batchSize개가 모이면 asyncExecutor에서 batchSize개씩 Flusher로 저장합니다.
+ * 저장은 한 번에 하나의 스레드에서만 수행하므로, 같은 키의 이전 값이 나중에 저장되지 않습니다.
+ * 큐에서 꺼내 저장 중인 아이템을 제거하면 저장이 끝날 때까지 기다리므로,
+ * 이후의 put, evict, clear 요청 결과를 저장 중이던 값이 덮어쓰지 않습니다.
+ * </p>
+ */
+final class WriteBehindQueue {
+
+  @FunctionalInterface
+  interface Flusher {
+    void flush(Map<String, Object> values);
+  }
+
+  private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+  private final ArcusCacheConfiguration configuration;
+  private final ArcusCacheStatistics statistics;
+  private final Executor asyncExecutor;
+  private final Flusher flusher;
+  private final int capacity;
+  private final int batchSize;
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  // guarded by this
+  private final Map<String, Object> pending = new LinkedHashMap<>();
+  private Map<String, Object> flushing = Collections.emptyMap();
+  @Nullable
+  private ScheduledFuture<?> flushTask;
+  private boolean stopped;
+
+  WriteBehindQueue(ArcusCacheConfiguration configuration, ArcusCacheStatistics statistics, Executor asyncExecutor,
+                   Flusher flusher) {
+    this.configuration = configuration;
+    this.statistics = statistics;
+    this.asyncExecutor = asyncExecutor;
+    this.flusher = flusher;
+    this.capacity = configuration.getWriteBehindCapacity();
+    this.batchSize = configuration.getWriteBehindBatchSize();
+  }
+
+  synchronized void start() {
+    if (flushTask != null || stopped) {
+      return;
+    }
+    long interval = configuration.getWriteBehindFlushIntervalMilliSeconds();
+    flushTask = SchedulerHolder.SCHEDULER.scheduleWithFixedDelay(this::flushAsync, interval, interval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 큐에 캐시 아이템을 추가합니다.
+   *
+   * @return 큐가 중단되었거나 가득 차서 추가하지 못했다면 false. 이 경우 호출한 쪽에서 직접 저장해야 합니다.
+   */
+  boolean offer(String arcusKey, Object value) {
+    int size;
+    synchronized (this) {
+      if (stopped) {
+        return false;
+      }
+      if (!pending.containsKey(arcusKey) && pending.size() >= capacity) {
+        statistics.recordWriteBehindOverflows(1);
+        logger.debug("write-behind queue is full, not queueing a put. key: {}", arcusKey);
+        return false;
+      }
+      pending.put(arcusKey, value);
+      size = pending.size();
+      statistics.setWriteBehindQueueSize(size);
+    }
+    if (size == batchSize) {
+      flushAsync();
+    }
+    return true;
+  }
+
+  /**
+   * 아직 저장하지 않은 캐시 아이템을 큐에서 제거합니다.
+   * 이후에 저장되어 삭제한 아이템이 다시 나타나지 않도록 evict 전에 호출합니다.
+   * 캐시 아이템이 저장 중이라면 저장이 끝날 때까지 기다립니다.
+   *
+   * @return 제거한 캐시 아이템. 큐에 없었거나 저장 중이었다면 null
+   */
+  @Nullable
+  synchronized Object remove(String arcusKey) {
+    Object value = pending.remove(arcusKey);
+    if (value != null) {
+      statistics.setWriteBehindQueueSize(pending.size());
+    }
+    awaitFlushing(() -> flushing.containsKey(arcusKey));
+    return value;
+  }
+
+  /**
+   * 큐의 모든 캐시 아이템을 제거하고, 저장 중인 캐시 아이템이 있다면 저장이 끝날 때까지 기다립니다.
+   */
+  synchronized void clear() {
+    pending.clear();
+    statistics.setWriteBehindQueueSize(0);
+    awaitFlushing(() -> !flushing.isEmpty());
+  }
+
+  /**
+   * @return 큐에 있거나 저장 중인 캐시 아이템. 없다면 null
+   */
+  @Nullable
+  synchronized Object get(String arcusKey) {
+    Object value = pending.get(arcusKey);
+    return value != null ? value : flushing.get(arcusKey);
+  }
+
+  /*
+   * Called with the monitor held. Stops waiting if interrupted, leaving the interrupt status set.
+   */
+  private void awaitFlushing(BooleanSupplier flushingCondition) {
+    while (flushingCondition.getAsBoolean()) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * 주기적인 저장을 중단하고, 큐에 남은 캐시 아이템을 모두 저장합니다.
+   * 중단한 뒤에 추가하는 캐시 아이템은 큐에 추가되지 않습니다.
+   */
+  void stop() {
+    synchronized (this) {
+      stopped = true;
+      if (flushTask != null) {
+        flushTask.cancel(false);
+        flushTask = null;
+      }
+    }
+    flushLock.lock();
+    try {
+      flushAll();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /*
+   * The scheduler thread is shared by the queues of all caches, so it only hands the flush over to the asyncExecutor.
+   */
+  private void flushAsync() {
+    try {
+      asyncExecutor.execute(this::flush);
+    } catch (RejectedExecutionException e) {
+      logger.info("failed to flush the write-behind queue. error: {}", e.getMessage());
+    }
+  }
+
+  void flush() {
+    if (!flushLock.tryLock()) {
+      return;
+    }
+    try {
+      flushAll();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void flushAll() {
+    Map<String, Object> batch;
+    while (!(batch = poll()).isEmpty()) {
+      try {
+        flusher.flush(batch);
+      } catch (Exception e) {
+        logger.info("failed to flush the write-behind queue. error: {}, keys: {}", e.getMessage(), batch.keySet());
+      } finally {
+        finishFlushing();
+      }
+    }
+  }
+
+  private synchronized void finishFlushing() {
+    flushing = Collections.emptyMap();
+    notifyAll();
+  }
+
+  private synchronized Map<String, Object> poll() {
+    Map<String, Object> batch = new LinkedHashMap<>();
+    Iterator<Map.Entry<String, Object>> iterator = pending.entrySet().iterator();
+    while (iterator.hasNext() && batch.size() < batchSize) {
+      Map.Entry<String, Object> entry = iterator.next();
+      batch.put(entry.getKey(), entry.getValue());
+      iterator.remove();
+    }
+    flushing = batch;
+    statistics.setWriteBehindQueueSize(pending.size());
+    return batch;
+  }
+
+  private static final class SchedulerHolder {
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "arcus-write-behind");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache.front;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Caffeine을 사용하는 ArcusFrontCache 구현체.
+ * <p>
+ * W-TinyLFU 정책으로 캐시 아이템을 교체하며, set 요청의 expireTime을 캐시 아이템마다 Expire Time으로 적용합니다.
+ * expireTime이 0이면 만료되지 않습니다.
+ * </p>
+ * <p>
+ * 이 구현체를 사용하려면 caffeine 의존성이 필요합니다.
+ * </p>
+ */
+public class CaffeineArcusFrontCache implements ArcusFrontCache {
+
+  private final Cache<String, Object> cache;
+  private final Policy.VarExpiration<String, Object> expiration;
+
+  /**
+   * @param maxEntries 최대 캐시 아이템 개수
+   */
+  public CaffeineArcusFrontCache(long maxEntries) {
+    this(Caffeine.newBuilder().maximumSize(maxEntries));
+  }
+
+  /**
+   * @param maxWeight 캐시 아이템 weight 합의 최댓값
+   * @param weigher 캐시 아이템의 weight를 계산하는 Weigher
+   */
+  public CaffeineArcusFrontCache(long maxWeight, Weigher<? super String, ? super Object> weigher) {
+    this(Caffeine.newBuilder().maximumWeight(maxWeight).weigher(weigher));
+  }
+
+  /**
+   * 크기, 통계 등의 설정을 지정한 Caffeine builder로 생성합니다.
+   * Expire Time은 set 요청마다 지정되므로 builder에 expire 관련 설정을 지정할 수 없습니다.
+   *
+   * @param caffeine Caffeine builder
+   */
+  public CaffeineArcusFrontCache(Caffeine<? super String, ? super Object> caffeine) {
+    Assert.notNull(caffeine, "Caffeine must not be null.");
+    this.cache = caffeine.expireAfter(new SetExpiry()).build();
+    this.expiration = cache.policy().expireVariably()
+        .orElseThrow(() -> new IllegalStateException("Variable expiration is not enabled."));
+  }
+
+  @Nullable
+  @Override
+  public Object get(String key) {
+    return cache.getIfPresent(key);
+  }
+
+  @Override
+  public void set(String key, @Nullable Object value, int expireTime) {
+    if (value == null) {
+      cache.invalidate(key);
+      return;
+    }
+    long expireNanos = expireTime > 0 ? TimeUnit.SECONDS.toNanos(expireTime) : Long.MAX_VALUE;
+    expiration.put(key, value, expireNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void delete(String key) {
+    cache.invalidate(key);
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  /*
+   * Every item is stored with its own expire time through Policy.VarExpiration,
+   * so the expire time is kept as is on update and read.
+   */
+  private static final class SetExpiry implements Expiry<String, Object> {
+    @Override
+    public long expireAfterCreate(String key, Object value, long currentTime) {
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache.front;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.SerializingTranscoder;
+import net.spy.memcached.transcoders.Transcoder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * 캐시 아이템을 직렬화하여 힙 외부 메모리(direct ByteBuffer)에 저장하는 ArcusFrontCache 구현체.
+ * <p>
+ * 전체 메모리를 slabSize 크기의 slab으로 나누어 사용하며, 캐시 아이템은 현재 slab에 차례로 기록됩니다.
+ * 모든 slab을 사용하면 가장 오래된 slab을 비우고 재사용하므로, 그 slab에 저장된 캐시 아이템도 함께 제거됩니다.
+ * slab은 처음 사용할 때 할당되며, slabSize보다 큰 캐시 아이템은 저장하지 않습니다.
+ * </p>
+ * <p>
+ * 조회는 ConcurrentHashMap 인덱스와 slab별 읽기 락만 사용하므로 서로 블로킹하지 않으며,
+ * 락 안에서는 바이트 복사만 하고 역직렬화는 락 밖에서 수행합니다. 저장은 직렬화를 락 밖에서 수행한 뒤 하나의 락 안에서 기록합니다.
+ * 조회할 때마다 역직렬화하므로 항상 새로운 객체를 반환합니다.
+ * </p>
+ * <p>
+ * 값은 힙 외부에 저장되지만, 캐시 아이템마다 키 문자열, 저장 위치 객체, 인덱스 엔트리와 slab별 키 목록의 참조가
+ * 힙에 남습니다. 64비트 JVM에서 캐시 아이템 하나당 대략 120 bytes와 키 문자열의 크기를 사용하므로,
+ * 캐시 아이템의 개수에 비례하여 힙 사용량과 GC 부담이 늘어납니다.
+ * 크기가 0인 캐시 아이템도 1 byte를 사용한 것으로 계산하므로, slab별 키 목록은 slab을 재사용할 때 정리되며
+ * slab마다 slabSize개를 넘지 않습니다.
+ * </p>
+ */
+public class OffHeapArcusFrontCache implements ArcusFrontCache {
+
+  public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+  private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+  private final Transcoder<Object> transcoder;
+  private final int slabSize;
+  private final ByteBuffer[] slabs;
+  private final ReadWriteLock[] slabLocks;
+  // guarded by the write lock of each slab
+  private final int[] slabEpochs;
+  // guarded by writeLock
+  private final List<List<String>> slabKeys;
+  private final ConcurrentMap<String, Location> index = new ConcurrentHashMap<>();
+  private final Object writeLock = new Object();
+
+  // guarded by writeLock
+  private int currentSlab = 0;
+  private int writeOffset = 0;
+
+  /**
+   * @param maxBytes 캐시 아이템 저장에 사용할 최대 메모리 크기 (bytes)
+   */
+  public OffHeapArcusFrontCache(long maxBytes) {
+    this(maxBytes, DEFAULT_SLAB_SIZE, new SerializingTranscoder());
+  }
+
+  /**
+   * @param maxBytes 캐시 아이템 저장에 사용할 최대 메모리 크기 (bytes)
+   * @param slabSize slab 하나의 크기 (bytes)
+   * @param transcoder 캐시 아이템을 직렬화, 역직렬화할 Transcoder
+   */
+  public OffHeapArcusFrontCache(long maxBytes, int slabSize, Transcoder<Object> transcoder) {
+    Assert.isTrue(slabSize > 0, "SlabSize must be larger than 0.");
+    Assert.isTrue(maxBytes >= slabSize, "MaxBytes must not be less than slabSize.");
+    Assert.isTrue(maxBytes / slabSize <= Integer.MAX_VALUE, "Too many slabs. Increase slabSize.");
+    Assert.notNull(transcoder, "Transcoder must not be null.");
+
+    int slabCount = (int) (maxBytes / slabSize);
+    this.transcoder = transcoder;
+    this.slabSize = slabSize;
+    this.slabs = new ByteBuffer[slabCount];
+    this.slabLocks = new ReadWriteLock[slabCount];
+    this.slabEpochs = new int[slabCount];
+    this.slabKeys = new ArrayList<>(slabCount);
+    for (int i = 0; i < slabCount; i++) {
+      slabLocks[i] = new ReentrantReadWriteLock();
+      slabKeys.add(new ArrayList<>());
+    }
+  }
+
+  /*
+   * A location of a slab that has been reused since the location was indexed is regarded as a miss.
+   */
+  @Nullable
+  @Override
+  public Object get(String key) {
+    Location location = index.get(key);
+    if (location == null) {
+      return null;
+    }
+    if (location.isExpired(System.currentTimeMillis())) {
+      index.remove(key, location);
+      return null;
+    }
+
+    byte[] data = new byte[location.length];
+    ReadWriteLock lock = slabLocks[location.slab];
+    lock.readLock().lock();
+    try {
+      if (slabEpochs[location.slab] != location.epoch) {
+        return null;
+      }
+      ByteBuffer slab = slabs[location.slab].duplicate();
+      slab.position(location.offset);
+      slab.get(data);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return transcoder.decode(new CachedData(location.flags, data, transcoder.getMaxSize()));
+  }
+
+  @Override
+  public void set(String key, @Nullable Object value, int expireTime) {
+    if (value == null) {
+      delete(key);
+      return;
+    }
+
+    CachedData cachedData;
+    try {
+      cachedData = transcoder.encode(value);
+    } catch (IllegalArgumentException e) {
+      logger.info("failed to encode a front cache item. error: {}, key: {}", e.getMessage(), key);
+      delete(key);
+      return;
+    }
+
+    byte[] data = cachedData.getData();
+    if (data.length > slabSize) {
+      delete(key);
+      return;
+    }
+
+    long expireAt = expireTime > 0 ? System.currentTimeMillis() + expireTime * 1000L : Long.MAX_VALUE;
+    // An empty value takes a byte as well, so that every set moves toward rotating the slab and pruning its keys.
+    int size = Math.max(data.length, 1);
+    synchronized (writeLock) {
+      if (writeOffset + size > slabSize) {
+        currentSlab = (currentSlab + 1) % slabs.length;
+        writeOffset = 0;
+        evictSlab(currentSlab);
+      }
+      if (slabs[currentSlab] == null) {
+        slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+      }
+
+      ByteBuffer slab = slabs[currentSlab].duplicate();
+      slab.position(writeOffset);
+      slab.put(data);
+
+      Location previous = index.put(key, new Location(currentSlab, slabEpochs[currentSlab], writeOffset, data.length,
+          cachedData.getFlags(), expireAt));
+      if (previous == null || previous.slab != currentSlab || previous.epoch != slabEpochs[currentSlab]) {
+        slabKeys.get(currentSlab).add(key);
+      }
+      writeOffset += size;
+    }
+  }
+
+  @Override
+  public void delete(String key) {
+    index.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    synchronized (writeLock) {
+      index.clear();
+      for (int i = 0; i < slabs.length; i++) {
+        evictSlab(i);
+      }
+      currentSlab = 0;
+      writeOffset = 0;
+    }
+  }
+
+  /*
+   * Readers holding the read lock finish copying before the slab is reused,
+   * and readers coming later see the new epoch.
+   */
+  private void evictSlab(int slab) {
+    ReadWriteLock lock = slabLocks[slab];
+    lock.writeLock().lock();
+    try {
+      slabEpochs[slab]++;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    List<String> keys = slabKeys.get(slab);
+    for (String key : keys) {
+      Location location = index.get(key);
+      if (location != null && location.slab == slab) {
+        index.remove(key, location);
+      }
+    }
+    keys.clear();
+  }
+
+  private static final class Location {
+    private final int slab;
+    private final int epoch;
+    private final int offset;
+    private final int length;
+    private final int flags;
+    private final long expireAt;
+
+    private Location(int slab, int epoch, int offset, int length, int flags, long expireAt) {
+      this.slab = slab;
+      this.epoch = epoch;
+      this.offset = offset;
+      this.length = length;
+      this.flags = flags;
+      this.expireAt = expireAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now >= expireAt;
+    }
+  }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2019-2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache.metrics;
+
+import com.navercorp.arcus.spring.cache.ArcusCache;
+import com.navercorp.arcus.spring.cache.ArcusCacheManager;
+import com.navercorp.arcus.spring.cache.ArcusCacheStatistics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.lang.Nullable;
+
+/**
+ * ArcusCache의 통계를 Micrometer에 등록하는 CacheMeterBinder.
+ * <p>
+ * Micrometer의 공통 캐시 지표(cache.gets, cache.puts, cache.evictions)와 함께
+ * Front Cache hit 횟수(cache.front.hits), timeout 횟수(cache.timeouts), 실패 횟수(cache.failures),
+ * 연산별 수행 시간(cache.latency), write-behind 큐의 크기(cache.write.behind.queue.size),
+ * 큐가 가득 차서 큐에 추가하지 않고 바로 저장한 저장 요청 횟수(cache.write.behind.overflows)를 등록합니다.
+ * cache.latency는 operation 태그로 연산을 구분하며, 50, 95, 99 백분위 값을 함께 제공합니다.
+ * </p>
+ * <p>
+ * 사용하려면 micrometer-core 의존성이 필요합니다.
+ * </p>
+ */
+public class ArcusCacheMetrics extends CacheMeterBinder<ArcusCache> {
+
+  private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+  private final ArcusCacheStatistics statistics;
+
+  public ArcusCacheMetrics(ArcusCache cache, Iterable<Tag> tags) {
+    super(cache, cache.getName(), tags);
+    this.statistics = cache.getStatistics();
+  }
+
+  public static ArcusCache monitor(MeterRegistry registry, ArcusCache cache, String... tags) {
+    return monitor(registry, cache, Tags.of(tags));
+  }
+
+  public static ArcusCache monitor(MeterRegistry registry, ArcusCache cache, Iterable<Tag> tags) {
+    new ArcusCacheMetrics(cache, tags).bindTo(registry);
+    return cache;
+  }
+
+  /**
+   * 캐시 매니저가 이미 생성한 ArcusCache와 이후에 생성하는 ArcusCache의 통계를 모두 등록합니다.
+   *
+   * @param registry MeterRegistry
+   * @param cacheManager ArcusCacheManager
+   * @param tags 모든 지표에 추가할 태그
+   * @return cacheManager
+   */
+  public static ArcusCacheManager monitor(MeterRegistry registry, ArcusCacheManager cacheManager,
+                                          Iterable<Tag> tags) {
+    Set<String> monitoredNames = ConcurrentHashMap.newKeySet();
+    Consumer<ArcusCache> binder = cache -> {
+      if (monitoredNames.add(cache.getName())) {
+        monitor(registry, cache, tags);
+      }
+    };
+    cacheManager.addCacheCreationListener(binder);
+    for (String name : cacheManager.getCacheNames()) {
+      ArcusCache cache = unwrap(cacheManager.getCache(name));
+      if (cache != null) {
+        binder.accept(cache);
+      }
+    }
+    return cacheManager;
+  }
+
+  @Nullable
+  private static ArcusCache unwrap(@Nullable Cache cache) {
+    if (cache instanceof TransactionAwareCacheDecorator) {
+      cache = ((TransactionAwareCacheDecorator) cache).getTargetCache();
+    }
+    return cache instanceof ArcusCache ? (ArcusCache) cache : null;
+  }
+
+  @Nullable
+  @Override
+  protected Long size() {
+    return null;
+  }
+
+  @Override
+  protected long hitCount() {
+    return statistics.getHits();
+  }
+
+  @Override
+  protected Long missCount() {
+    return statistics.getMisses();
+  }
+
+  @Override
+  protected Long evictionCount() {
+    return statistics.getEvictions();
+  }
+
+  @Override
+  protected long putCount() {
+    return statistics.getPuts();
+  }
+
+  @Override
+  protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+    FunctionCounter.builder("cache.front.hits", statistics, ArcusCacheStatistics::getFrontHits)
+        .tags(getTagsWithCacheName())
+        .description("The number of times cache lookup methods have returned a value from the front cache")
+        .register(registry);
+
+    FunctionCounter.builder("cache.timeouts", statistics, ArcusCacheStatistics::getTimeouts)
+        .tags(getTagsWithCacheName())
+        .description("The number of Arcus requests that have timed out")
+        .register(registry);
+
+    FunctionCounter.builder("cache.failures", statistics, ArcusCacheStatistics::getFailures)
+        .tags(getTagsWithCacheName())
+        .description("The number of Arcus requests that have failed for reasons other than timeouts")
+        .register(registry);
+
+    Gauge.builder("cache.write.behind.queue.size", statistics, ArcusCacheStatistics::getWriteBehindQueueSize)
+        .tags(getTagsWithCacheName())
+        .description("The number of puts waiting in the write-behind queue")
+        .register(registry);
+
+    FunctionCounter.builder("cache.write.behind.overflows", statistics, ArcusCacheStatistics::getWriteBehindOverflows)
+        .tags(getTagsWithCacheName())
+        .description("The number of puts stored directly because the write-behind queue was full")
+        .register(registry);
+
+    Map<ArcusCacheStatistics.Operation, Timer> timers = new EnumMap<>(ArcusCacheStatistics.Operation.class);
+    for (ArcusCacheStatistics.Operation operation : ArcusCacheStatistics.Operation.values()) {
+      timers.put(operation, Timer.builder("cache.latency")
+          .tags(getTagsWithCacheName())
+          .tag("operation", operation.name().toLowerCase())
+          .publishPercentiles(PERCENTILES)
+          .description("The time taken by cache operations")
+          .register(registry));
+    }
+    statistics.addLatencyListener((operation, nanos) -> timers.get(operation).record(nanos, TimeUnit.NANOSECONDS));
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache.tracing;
+
+/**
+ * ArcusCacheTracer가 생성하는 span.
+ */
+public interface ArcusCacheSpan {
+
+  String CACHE_NAME = "arcus.cache.name";
+  /**
+   * 조회 결과. front, remote, miss 중 하나입니다.
+   */
+  String HIT = "arcus.cache.hit";
+  String KEY_LENGTH = "arcus.cache.key.length";
+  /**
+   * 직렬화한 캐시 아이템의 크기 (bytes). 샘플링된 span에서만 계산합니다.
+   */
+  String VALUE_SIZE = "arcus.cache.value.size";
+  /**
+   * 연산 결과. success, failure, timeout 중 하나입니다.
+   */
+  String OUTCOME = "arcus.cache.outcome";
+
+  ArcusCacheSpan NOOP = new ArcusCacheSpan() {
+    @Override
+    public boolean isRecording() {
+      return false;
+    }
+
+    @Override
+    public void setAttribute(String key, String value) {
+    }
+
+    @Override
+    public void setAttribute(String key, long value) {
+    }
+
+    @Override
+    public void recordException(Throwable e) {
+    }
+
+    @Override
+    public void end() {
+    }
+  };
+
+  /**
+   * @return 속성을 기록하는 span인지 여부. false이면 비용이 큰 속성은 계산하지 않습니다.
+   */
+  boolean isRecording();
+
+  void setAttribute(String key, String value);
+
+  void setAttribute(String key, long value);
+
+  void recordException(Throwable e);
+
+  void end();
+
+}
@@ -0,0 +1,39 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache.tracing;
+
+/**
+ * ArcusCache 연산의 span을 생성하는 Tracer.
+ * <p>
+ * ArcusCacheConfiguration에 Tracer를 지정하면 ArcusCache는 조회, 저장, 삭제, valueLoader 실행,
+ * 다른 스레드나 서버의 로딩을 기다리는 구간마다 span을 생성합니다.
+ * Tracer를 지정하지 않으면 span을 생성하지 않습니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface ArcusCacheTracer {
+
+  /**
+   * span을 시작하고, span이 끝날 때까지 현재 스레드의 현재 span으로 지정합니다.
+   * 반환된 span은 같은 스레드에서 끝나야 합니다.
+   *
+   * @param spanName span 이름
+   * @return 시작된 span
+   */
+  ArcusCacheSpan startSpan(String spanName);
+
+}
@@ -0,0 +1,96 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+import org.springframework.util.Assert;
+
+/**
+ * OpenTelemetry를 사용하는 ArcusCacheTracer 구현체.
+ * <p>
+ * 모든 span은 현재 context의 span을 부모로 하는 INTERNAL span이며,
+ * span이 끝날 때까지 현재 span으로 지정되므로 valueLoader에서 생성한 span은 arcus.cache.load span의 자식이 됩니다.
+ * </p>
+ * <p>
+ * 이 구현체를 사용하려면 opentelemetry-api 의존성이 필요합니다.
+ * </p>
+ */
+public class OpenTelemetryArcusCacheTracer implements ArcusCacheTracer {
+
+  public static final String INSTRUMENTATION_NAME = "com.navercorp.arcus.spring";
+
+  private final Tracer tracer;
+
+  public OpenTelemetryArcusCacheTracer(OpenTelemetry openTelemetry) {
+    this(openTelemetry.getTracer(INSTRUMENTATION_NAME));
+  }
+
+  public OpenTelemetryArcusCacheTracer(Tracer tracer) {
+    Assert.notNull(tracer, "Tracer must not be null.");
+    this.tracer = tracer;
+  }
+
+  @Override
+  public ArcusCacheSpan startSpan(String spanName) {
+    Span span = tracer.spanBuilder(spanName).startSpan();
+    return new OpenTelemetrySpan(span, span.makeCurrent());
+  }
+
+  private static final class OpenTelemetrySpan implements ArcusCacheSpan {
+    private final Span span;
+    private final Scope scope;
+
+    private OpenTelemetrySpan(Span span, Scope scope) {
+      this.span = span;
+      this.scope = scope;
+    }
+
+    @Override
+    public boolean isRecording() {
+      return span.isRecording();
+    }
+
+    @Override
+    public void setAttribute(String key, String value) {
+      span.setAttribute(AttributeKey.stringKey(key), value);
+    }
+
+    @Override
+    public void setAttribute(String key, long value) {
+      span.setAttribute(AttributeKey.longKey(key), value);
+    }
+
+    @Override
+    public void recordException(Throwable e) {
+      span.recordException(e);
+      span.setStatus(StatusCode.ERROR);
+    }
+
+    @Override
+    public void end() {
+      scope.close();
+      span.end();
+    }
+  }
+
+}
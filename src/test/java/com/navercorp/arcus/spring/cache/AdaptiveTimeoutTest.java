@@ -0,0 +1,80 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveTimeoutTest {
+
+  private static final long MIN_MILLISECONDS = 10L;
+  private static final long MAX_MILLISECONDS = 1000L;
+
+  private AdaptiveTimeout adaptiveTimeout;
+
+  @BeforeEach
+  void before() {
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .withTimeoutMilliSeconds(300L)
+        .enableAdaptiveTimeout(99, 2, MIN_MILLISECONDS, MAX_MILLISECONDS);
+    adaptiveTimeout = new AdaptiveTimeout(config);
+  }
+
+  @Test
+  void useTimeoutMilliSecondsUntilEnoughSamples() {
+    // when
+    record(AdaptiveTimeout.Type.GET, AdaptiveTimeout.MIN_SAMPLES - 1, 5L);
+
+    // then
+    assertEquals(300L, adaptiveTimeout.getTimeoutMilliSeconds(AdaptiveTimeout.Type.GET));
+  }
+
+  @Test
+  void multiplyPercentileOfLatency() {
+    // when
+    record(AdaptiveTimeout.Type.GET, 990, 20L);
+    record(AdaptiveTimeout.Type.GET, 10, 500L);
+
+    // then
+    long timeout = adaptiveTimeout.getTimeoutMilliSeconds(AdaptiveTimeout.Type.GET);
+    assertTrue(timeout >= 40L && timeout <= 40L * 1.2 + 1, "timeout: " + timeout);
+    assertEquals(300L, adaptiveTimeout.getTimeoutMilliSeconds(AdaptiveTimeout.Type.STORE));
+  }
+
+  @Test
+  void clampTimeoutBetweenMinAndMax() {
+    // when
+    record(AdaptiveTimeout.Type.GET, 1000, 0L);
+    record(AdaptiveTimeout.Type.DELETE, 1000, 800L);
+
+    // then
+    assertEquals(MIN_MILLISECONDS, adaptiveTimeout.getTimeoutMilliSeconds(AdaptiveTimeout.Type.GET));
+    assertEquals(MAX_MILLISECONDS, adaptiveTimeout.getTimeoutMilliSeconds(AdaptiveTimeout.Type.DELETE));
+  }
+
+  private void record(AdaptiveTimeout.Type type, int count, long milliSeconds) {
+    for (int i = 0; i < count; i++) {
+      adaptiveTimeout.record(type, TimeUnit.MILLISECONDS.toNanos(milliSeconds));
+    }
+  }
+
+}
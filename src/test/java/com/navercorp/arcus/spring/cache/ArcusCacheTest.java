@@ -20,12 +20,30 @@ package com.navercorp.arcus.spring.cache;
 import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
 import com.navercorp.arcus.spring.concurrent.KeyLockProvider;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
 import net.spy.memcached.ArcusClientPool;
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.CASValue;
+import net.spy.memcached.collection.CollectionAttributes;
+import net.spy.memcached.internal.BulkFuture;
+import net.spy.memcached.internal.CollectionFuture;
 import net.spy.memcached.internal.GetFuture;
 import net.spy.memcached.internal.OperationFuture;
 import net.spy.memcached.ops.OperationStatus;
@@ -38,12 +56,26 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.NullValue;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.lang.Nullable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -54,15 +86,22 @@ import static org.mockito.Mockito.when;
 class ArcusCacheTest {
 
   private static final ArcusStringKey ARCUS_STRING_KEY = new ArcusStringKey("KEY");
+  private static final ArcusStringKey ARCUS_STRING_KEY2 = new ArcusStringKey("KEY2");
   private static final String VALUE = "VALUE";
   private static final int EXPIRE_SECONDS = 100;
   private static final int FRONT_EXPIRE_SECONDS = 50;
+  private static final int STALE_SECONDS = 30;
+  private static final int LEASE_SECONDS = 10;
+  private static final long CAS_ID = 5L;
+  private static final String GENERATION_KEY = "SERVICEIDPREFIX_generation:counter";
   private static final Transcoder<Object> OPERATION_TRANSCODER = new SerializingTranscoder();
 
   private ArcusCache arcusCache;
   private ArcusClientPool arcusClientPool;
   private ArcusFrontCache arcusFrontCache;
   private String arcusKey;
+  private String arcusKey2;
+  private String leaseKey;
   private Callable<Object> valueLoader;
   private KeyLockProvider keyLockProvider;
   private ReadWriteLock readWriteLock;
@@ -81,6 +120,8 @@ class ArcusCacheTest {
     arcusCache = new ArcusCache("test", arcusClientPool, config);
 
     arcusKey = arcusCache.createArcusKey(ARCUS_STRING_KEY);
+    leaseKey = arcusKey.replaceFirst(":", "_lease:");
+    arcusKey2 = arcusCache.createArcusKey(ARCUS_STRING_KEY2);
 
     valueLoader = mock(Callable.class);
 
@@ -255,6 +296,143 @@ class ArcusCacheTest {
     assertNull(value);
   }
 
+  @Test
+  void setFrontCacheWithRemainingExpireTime() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableFrontExpireByRemainingTime()
+            .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+    CollectionFuture<CollectionAttributes> attributeFuture = createAttributeFuture(7);
+    when(arcusClientPool.asyncGetAttr(arcusKey))
+        .thenReturn(attributeFuture);
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, 7);
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+  }
+
+  @Test
+  void setFrontCacheWithRemainingExpireTimeOnceForLookupBatch() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableFrontExpireByRemainingTime()
+            .enableLookupBatching(1000L, 10)
+            .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+    CollectionFuture<CollectionAttributes> attributeFuture = createAttributeFuture(7);
+    when(arcusClientPool.asyncGetAttr(arcusKey))
+        .thenReturn(attributeFuture);
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .asyncGetAttr(arcusKey);
+    verify(arcusFrontCache, times(1))
+        .set(anyString(), any(), anyInt());
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, 7);
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+  }
+
+  @Test
+  void setFrontCacheWithFrontExpireSecondsIfRemainingExpireTimeIsLonger() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableFrontExpireByRemainingTime()
+            .withAsyncExecutor(Runnable::run);
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey, VALUE);
+    values.put(arcusKey2, VALUE);
+    when(arcusClientPool.asyncGetBulk(Arrays.asList(arcusKey, arcusKey2)))
+        .thenReturn(createBulkFuture(values));
+    CollectionFuture<CollectionAttributes> attributeFuture = createAttributeFuture(FRONT_EXPIRE_SECONDS + 1);
+    CollectionFuture<CollectionAttributes> noExpireAttributeFuture = createAttributeFuture(0);
+    when(arcusClientPool.asyncGetAttr(arcusKey))
+        .thenReturn(attributeFuture);
+    when(arcusClientPool.asyncGetAttr(arcusKey2))
+        .thenReturn(noExpireAttributeFuture);
+
+    // when
+    arcusCache.getAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2));
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey2, VALUE, FRONT_EXPIRE_SECONDS);
+  }
+
+  @Test
+  void doNotSetFrontCacheIfRemainingExpireTimeIsUnknown() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableFrontExpireByRemainingTime()
+            .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+    CollectionFuture<CollectionAttributes> attributeFuture = createAttributeFuture(null);
+    when(arcusClientPool.asyncGetAttr(arcusKey))
+        .thenReturn(attributeFuture);
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    verify(arcusFrontCache, never())
+        .set(anyString(), any(), anyInt());
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+  }
+
+  @Test
+  void setFrontCacheWithRemainingExpireTimeWithoutWaitingForAttributes() throws Exception {
+    // given
+    List<Runnable> tasks = new ArrayList<>();
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableFrontExpireByRemainingTime()
+            .withAsyncExecutor(tasks::add);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+    CollectionFuture<CollectionAttributes> attributeFuture = createAttributeFuture(7);
+    when(arcusClientPool.asyncGetAttr(arcusKey))
+        .thenReturn(attributeFuture);
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+    verify(arcusFrontCache, never())
+        .set(anyString(), any(), anyInt());
+    assertEquals(1, tasks.size());
+
+    tasks.get(0).run();
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, 7);
+  }
+
   @Test
   void returnNullIfArcusReturnNullValue() {
     // given
@@ -271,6 +449,104 @@ class ArcusCacheTest {
     assertNull(value.get());
   }
 
+  @Test
+  void getAll() {
+    // given
+    List<String> arcusKeys = Arrays.asList(arcusKey, arcusKey2);
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey, VALUE);
+    when(arcusClientPool.asyncGetBulk(arcusKeys))
+        .thenReturn(createBulkFuture(values));
+
+    // when
+    Map<Object, Cache.ValueWrapper> result = arcusCache.getAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2));
+
+    // then
+    verify(arcusClientPool, times(1))
+        .asyncGetBulk(arcusKeys);
+    assertEquals(1, result.size());
+    assertEquals(VALUE, result.get(ARCUS_STRING_KEY).get());
+  }
+
+  @Test
+  void getAllWithCustomOperationTranscoder() {
+    // given
+    arcusCache.getCacheConfiguration().withOperationTranscoder(OPERATION_TRANSCODER);
+    List<String> arcusKeys = Arrays.asList(arcusKey, arcusKey2);
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey, VALUE);
+    values.put(arcusKey2, NullValue.INSTANCE);
+    when(arcusClientPool.asyncGetBulk(arcusKeys, OPERATION_TRANSCODER))
+        .thenReturn(createBulkFuture(values));
+
+    // when
+    Map<Object, Cache.ValueWrapper> result = arcusCache.getAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2));
+
+    // then
+    verify(arcusClientPool, times(1))
+        .asyncGetBulk(arcusKeys, OPERATION_TRANSCODER);
+    assertEquals(2, result.size());
+    assertEquals(VALUE, result.get(ARCUS_STRING_KEY).get());
+    assertNull(result.get(ARCUS_STRING_KEY2).get());
+  }
+
+  @Test
+  void getAllFromFrontCacheAndArcus() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS);
+    when(arcusFrontCache.get(arcusKey))
+        .thenReturn(VALUE);
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey2, VALUE);
+    when(arcusClientPool.asyncGetBulk(Collections.singletonList(arcusKey2)))
+        .thenReturn(createBulkFuture(values));
+
+    // when
+    Map<Object, Cache.ValueWrapper> result = arcusCache.getAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2));
+
+    // then
+    verify(arcusClientPool, times(1))
+        .asyncGetBulk(Collections.singletonList(arcusKey2));
+    verify(arcusFrontCache, never())
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey2, VALUE, FRONT_EXPIRE_SECONDS);
+    assertEquals(2, result.size());
+  }
+
+  @Test
+  void getAllReturnFrontCacheValuesIfArcusHasException() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS);
+    when(arcusFrontCache.get(arcusKey))
+        .thenReturn(VALUE);
+    when(arcusClientPool.asyncGetBulk(Collections.singletonList(arcusKey2)))
+        .thenThrow(new TestException());
+
+    // when
+    Map<Object, Cache.ValueWrapper> result = arcusCache.getAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2));
+
+    // then
+    assertEquals(1, result.size());
+    assertEquals(VALUE, result.get(ARCUS_STRING_KEY).get());
+  }
+
+  @Test
+  void throwExceptionIfGetAllWithWantToGetException() {
+    // given
+    arcusCache.getCacheConfiguration().enableGettingException();
+    when(arcusClientPool.asyncGetBulk(Arrays.asList(arcusKey, arcusKey2)))
+        .thenThrow(new TestException());
+
+    // when
+    assertThrows(TestException.class,
+        () -> arcusCache.getAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2)));
+  }
+
   @Test
   void put() {
     // given
@@ -352,6 +628,147 @@ class ArcusCacheTest {
         .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
   }
 
+  @Test
+  void putWithExpireJitterSeconds() {
+    // given
+    arcusCache.getCacheConfiguration().withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .withExpireJitterSeconds(10)
+            .withFrontExpireJitterSeconds(5);
+    when(arcusClientPool.set(eq(arcusKey), anyInt(), eq(VALUE)))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(eq(arcusKey), intThat(expire -> expire >= EXPIRE_SECONDS - 10 && expire <= EXPIRE_SECONDS), eq(VALUE));
+    verify(arcusFrontCache, times(1))
+        .set(eq(arcusKey), eq(VALUE),
+            intThat(expire -> expire >= FRONT_EXPIRE_SECONDS - 5 && expire <= FRONT_EXPIRE_SECONDS));
+  }
+
+  @Test
+  void putWithExpireJitterPercent() {
+    // given
+    arcusCache.getCacheConfiguration().withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .withExpireJitterPercent(20)
+            .withFrontExpireJitterPercent(100);
+    when(arcusClientPool.set(eq(arcusKey), anyInt(), eq(VALUE)))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(eq(arcusKey), intThat(expire -> expire >= EXPIRE_SECONDS * 80 / 100 && expire <= EXPIRE_SECONDS),
+            eq(VALUE));
+    verify(arcusFrontCache, times(1))
+        .set(eq(arcusKey), eq(VALUE), intThat(expire -> expire >= 1 && expire <= FRONT_EXPIRE_SECONDS));
+  }
+
+  @Test
+  void putWithoutExpireJitterIfExpireSecondsIsNotPositive() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(0)
+            .withExpireJitterSeconds(10);
+    when(arcusClientPool.set(arcusKey, 0, VALUE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, 0, VALUE);
+  }
+
+  @Test
+  void putNullValueWithNullValueExpireSeconds() {
+    // given
+    arcusCache.getCacheConfiguration().withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .withNullValueExpireSeconds(10)
+            .withNullValueFrontExpireSeconds(1);
+    when(arcusClientPool.set(arcusKey, 10, NullValue.INSTANCE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, null);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, 10, NullValue.INSTANCE);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, NullValue.INSTANCE, 1);
+  }
+
+  @Test
+  void putValueWithNullValueExpireSeconds() {
+    // given
+    arcusCache.getCacheConfiguration().withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .withNullValueExpireSeconds(10)
+            .withNullValueFrontExpireSeconds(1);
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+  }
+
+  @Test
+  void putNullValueWithCompactNullValue() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableCompactNullValue();
+    when(arcusClientPool.getTranscoder())
+        .thenReturn(OPERATION_TRANSCODER);
+    when(arcusClientPool.set(eq(arcusKey), eq(EXPIRE_SECONDS), eq(NullValue.INSTANCE), any(NullValueTranscoder.class)))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, null);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(eq(arcusKey), eq(EXPIRE_SECONDS), eq(NullValue.INSTANCE), any(NullValueTranscoder.class));
+  }
+
+  @Test
+  void getNullValueWithCompactNullValue() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withOperationTranscoder(OPERATION_TRANSCODER)
+            .enableCompactNullValue();
+    when(arcusClientPool.asyncGet(eq(arcusKey), any(NullValueTranscoder.class)))
+        .thenReturn(createGetFuture(NullValue.INSTANCE));
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    verify(arcusClientPool, never())
+        .getTranscoder();
+    assertNotNull(value);
+    assertNull(value.get());
+  }
+
   @Test
   void doNotPutFrontCacheIfArcusFailed() {
     // given
@@ -470,17 +887,138 @@ class ArcusCacheTest {
   }
 
   @Test
-  void evict() {
+  void putAll() {
     // given
-    when(arcusClientPool.delete(arcusKey))
+    arcusCache.getCacheConfiguration().withExpireSeconds(EXPIRE_SECONDS);
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.set(arcusKey2, EXPIRE_SECONDS, NullValue.INSTANCE))
         .thenReturn(createOperationFuture(true));
+    Map<Object, Object> values = new LinkedHashMap<>();
+    values.put(ARCUS_STRING_KEY, VALUE);
+    values.put(ARCUS_STRING_KEY2, null);
 
     // when
-    arcusCache.evict(ARCUS_STRING_KEY);
+    Set<Object> failedKeys = arcusCache.putAll(values);
 
     // then
     verify(arcusClientPool, times(1))
-        .delete(arcusKey);
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, times(1))
+        .set(arcusKey2, EXPIRE_SECONDS, NullValue.INSTANCE);
+    assertTrue(failedKeys.isEmpty());
+  }
+
+  @Test
+  void putAllWithCustomOperationTranscoder() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withOperationTranscoder(OPERATION_TRANSCODER);
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE, OPERATION_TRANSCODER))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    Set<Object> failedKeys = arcusCache.putAll(Collections.singletonMap(ARCUS_STRING_KEY, VALUE));
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE, OPERATION_TRANSCODER);
+    assertTrue(failedKeys.isEmpty());
+  }
+
+  @Test
+  void putAllReturnFailedKeys() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS);
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.set(arcusKey2, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(false));
+    Map<Object, Object> values = new LinkedHashMap<>();
+    values.put(ARCUS_STRING_KEY, VALUE);
+    values.put(ARCUS_STRING_KEY2, VALUE);
+
+    // when
+    Set<Object> failedKeys = arcusCache.putAll(values);
+
+    // then
+    assertEquals(Collections.singleton(ARCUS_STRING_KEY2), failedKeys);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    verify(arcusFrontCache, never())
+        .set(arcusKey2, VALUE, FRONT_EXPIRE_SECONDS);
+  }
+
+  @Test
+  void putAllFrontCacheIfArcusFailedButForceFrontCachingIsTrue() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableForcingFrontCache();
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFutureException());
+    when(arcusClientPool.set(arcusKey2, EXPIRE_SECONDS, VALUE))
+        .thenThrow(new TestException());
+    Map<Object, Object> values = new LinkedHashMap<>();
+    values.put(ARCUS_STRING_KEY, VALUE);
+    values.put(ARCUS_STRING_KEY2, VALUE);
+
+    // when
+    Set<Object> failedKeys = arcusCache.putAll(values);
+
+    // then
+    assertEquals(2, failedKeys.size());
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey2, VALUE, FRONT_EXPIRE_SECONDS);
+  }
+
+  @Test
+  void throwExceptionIfPutAllWithWantToGetException() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableGettingException();
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFutureException());
+
+    // when
+    assertThrows(TestException.class,
+        () -> arcusCache.putAll(Collections.singletonMap(ARCUS_STRING_KEY, VALUE)));
+  }
+
+  @Test
+  void throwExceptionIfPutAllNullWithoutAllowingNullValues() {
+    // given
+    ArcusCache cache = new ArcusCache("test", arcusClientPool,
+        new ArcusCacheConfiguration().disableCachingNullValues());
+
+    // when
+    assertThrows(IllegalArgumentException.class,
+        () -> cache.putAll(Collections.singletonMap(ARCUS_STRING_KEY, null)));
+    verify(arcusClientPool, never())
+        .set(arcusKey, 0, NullValue.INSTANCE);
+  }
+
+  @Test
+  void evict() {
+    // given
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.evict(ARCUS_STRING_KEY);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .delete(arcusKey);
   }
 
   @Test
@@ -511,6 +1049,29 @@ class ArcusCacheTest {
         .delete(arcusKey);
   }
 
+  @Test
+  void appendInvalidationLogIfEvicted() {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withArcusFrontCache(arcusFrontCache)
+        .withAsyncExecutor(Runnable::run)
+        .enableFrontCacheInvalidation(60000L);
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.asyncIncr(eq("SERVICEIDPREFIX_invalidation:sequence"), eq(1), anyLong(), eq(0)))
+        .thenReturn(createLongOperationFuture(-1L));
+
+    // when
+    arcusCache.evict(ARCUS_STRING_KEY);
+    arcusCache.destroy();
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .delete(arcusKey);
+    verify(arcusClientPool, times(1))
+        .asyncIncr(eq("SERVICEIDPREFIX_invalidation:sequence"), eq(1), anyLong(), eq(0));
+  }
+
   @Test
   void doNotEvictFrontCacheIfArcusFailed() {
     // given
@@ -619,6 +1180,86 @@ class ArcusCacheTest {
         .delete(arcusKey);
   }
 
+  @Test
+  void evictAll() {
+    // given
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.delete(arcusKey2))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.evictAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2));
+
+    // then
+    verify(arcusClientPool, times(1))
+        .delete(arcusKey);
+    verify(arcusClientPool, times(1))
+        .delete(arcusKey2);
+  }
+
+  @Test
+  void evictAllFrontCacheOnlyIfArcusSucceed() {
+    // given
+    arcusCache.getCacheConfiguration().withArcusFrontCache(arcusFrontCache);
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.delete(arcusKey2))
+        .thenReturn(createOperationFuture(false));
+
+    // when
+    arcusCache.evictAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2));
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .delete(arcusKey);
+    verify(arcusFrontCache, never())
+        .delete(arcusKey2);
+  }
+
+  @Test
+  void evictAllFrontCacheIfArcusFailedButForceFrontCachingIsTrue() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .enableForcingFrontCache();
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFutureException());
+    when(arcusClientPool.delete(arcusKey2))
+        .thenReturn(createOperationFuture(false));
+
+    // when
+    arcusCache.evictAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2));
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .delete(arcusKey);
+    verify(arcusFrontCache, times(1))
+        .delete(arcusKey2);
+  }
+
+  @Test
+  void throwExceptionIfEvictAllWithWantToGetException() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .enableGettingException();
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFutureException());
+    when(arcusClientPool.delete(arcusKey2))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    assertThrows(TestException.class,
+        () -> arcusCache.evictAll(Arrays.asList(ARCUS_STRING_KEY, ARCUS_STRING_KEY2)));
+
+    // then
+    verify(arcusFrontCache, never())
+        .delete(arcusKey);
+    verify(arcusFrontCache, times(1))
+        .delete(arcusKey2);
+  }
+
   @Test
   void clear() {
     // given
@@ -664,6 +1305,150 @@ class ArcusCacheTest {
         .clear();
   }
 
+  @Test
+  void createArcusKeyWithGeneration() {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withAsyncExecutor(Runnable::run)
+        .enableGenerationClear(60000L);
+    when(arcusClientPool.asyncIncr(eq(GENERATION_KEY), eq(0), anyLong(), eq(0)))
+        .thenReturn(createLongOperationFuture(3L));
+
+    // when
+    String key = arcusCache.createArcusKey(ARCUS_STRING_KEY);
+
+    // then
+    assertEquals("SERVICEIDPREFIX_g3:KEY", key);
+  }
+
+  @Test
+  void recreateGenerationCounterWithCurrentTime() {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withAsyncExecutor(Runnable::run)
+        .enableGenerationClear(60000L);
+    long start = System.currentTimeMillis();
+    when(arcusClientPool.asyncIncr(eq(GENERATION_KEY), eq(0), anyLong(), eq(0)))
+        .thenAnswer(invocation -> createLongOperationFuture(invocation.getArgument(2)));
+
+    // when
+    String key = arcusCache.createArcusKey(ARCUS_STRING_KEY);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .asyncIncr(eq(GENERATION_KEY), eq(0), longThat(seed -> seed >= start), eq(0));
+    assertTrue(key.startsWith("SERVICEIDPREFIX_g"));
+    assertFalse(key.startsWith("SERVICEIDPREFIX_g0:"));
+  }
+
+  @Test
+  void skipArcusWhileGenerationIsUnknown() {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withAsyncExecutor(Runnable::run)
+        .enableGenerationClear(60000L);
+    when(arcusClientPool.asyncIncr(eq(GENERATION_KEY), eq(0), anyLong(), eq(0)))
+        .thenThrow(new TestException());
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    assertNull(value);
+    verify(arcusClientPool, never())
+        .asyncGet(anyString());
+    verify(arcusClientPool, never())
+        .set(anyString(), anyInt(), any());
+  }
+
+  @Test
+  void doNotForceFrontCachingWhileGenerationIsUnknown() {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withArcusFrontCache(arcusFrontCache)
+        .withAsyncExecutor(Runnable::run)
+        .enableForcingFrontCache()
+        .enableGenerationClear(60000L);
+    when(arcusClientPool.asyncIncr(eq(GENERATION_KEY), eq(0), anyLong(), eq(0)))
+        .thenThrow(new TestException());
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+    arcusCache.putAll(Collections.singletonMap(ARCUS_STRING_KEY2, VALUE));
+
+    // then
+    verify(arcusFrontCache, never())
+        .set(anyString(), any(), anyInt());
+  }
+
+  @Test
+  void clearWithGeneration() {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withArcusFrontCache(arcusFrontCache)
+        .withAsyncExecutor(Runnable::run)
+        .enableGenerationClear(60000L);
+    when(arcusClientPool.asyncIncr(eq(GENERATION_KEY), eq(0), anyLong(), eq(0)))
+        .thenReturn(createLongOperationFuture(3L));
+    when(arcusClientPool.asyncIncr(eq(GENERATION_KEY), eq(1), anyLong(), eq(0)))
+        .thenReturn(createLongOperationFuture(4L));
+    arcusCache.createArcusKey(ARCUS_STRING_KEY);
+
+    // when
+    arcusCache.clear();
+
+    // then
+    assertEquals("SERVICEIDPREFIX_g4:KEY", arcusCache.createArcusKey(ARCUS_STRING_KEY));
+    verify(arcusClientPool, never())
+        .flush(anyString());
+    verify(arcusClientPool, times(1))
+        .asyncIncr(eq(GENERATION_KEY), eq(0), anyLong(), eq(0));
+    verify(arcusFrontCache, times(1))
+        .clear();
+  }
+
+  @Test
+  void doNotClearFrontCacheIfIncreasingGenerationFailed() {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withArcusFrontCache(arcusFrontCache)
+        .enableGenerationClear(60000L);
+    when(arcusClientPool.asyncIncr(eq(GENERATION_KEY), eq(1), anyLong(), eq(0)))
+        .thenReturn(createLongOperationFuture(-1L));
+
+    // when
+    arcusCache.clear();
+
+    // then
+    verify(arcusFrontCache, never())
+        .clear();
+  }
+
+  @Test
+  void clearFrontCacheIfGenerationChanged() throws InterruptedException {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withArcusFrontCache(arcusFrontCache)
+        .withAsyncExecutor(Runnable::run)
+        .enableGenerationClear(1L);
+    OperationFuture<Long> future3 = createLongOperationFuture(3L);
+    OperationFuture<Long> future4 = createLongOperationFuture(4L);
+    when(arcusClientPool.asyncIncr(eq(GENERATION_KEY), eq(0), anyLong(), eq(0)))
+        .thenReturn(future3)
+        .thenReturn(future4);
+    assertEquals("SERVICEIDPREFIX_g3:KEY", arcusCache.createArcusKey(ARCUS_STRING_KEY));
+    Thread.sleep(10L);
+
+    // when
+    String key = arcusCache.createArcusKey(ARCUS_STRING_KEY);
+
+    // then
+    assertEquals("SERVICEIDPREFIX_g4:KEY", key);
+    verify(arcusFrontCache, times(1))
+        .clear();
+  }
+
   @Test
   void doNotClearFrontCacheIfArcusFailed() {
     // given
@@ -779,31 +1564,239 @@ class ArcusCacheTest {
   }
 
   @Test
-  void getWithClassType() {
+  void retrieve() throws Exception {
     // given
+    arcusCache.getCacheConfiguration().withAsyncExecutor(Runnable::run);
     when(arcusClientPool.asyncGet(arcusKey))
         .thenReturn(createGetFuture(VALUE));
 
     // when
-    Object value = arcusCache.get(ARCUS_STRING_KEY, String.class);
+    Cache.ValueWrapper value = arcusCache.retrieve(ARCUS_STRING_KEY).get();
 
     // then
     verify(arcusClientPool, times(1))
         .asyncGet(arcusKey);
-    assertEquals(VALUE, value);
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
   }
 
   @Test
-  void getWithDifferentClassType() {
+  @SuppressWarnings("unchecked")
+  void retrieveInOwnAsyncExecutorUntilDestroyed() throws Exception {
     // given
+    AtomicReference<String> threadName = new AtomicReference<>();
+    GetFuture<Object> future = mock(GetFuture.class);
+    when(future.get(anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> {
+          threadName.set(Thread.currentThread().getName());
+          return VALUE;
+        });
     when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(VALUE));
+        .thenReturn(future);
 
     // when
-    assertThrows(IllegalStateException.class, () -> arcusCache.get(ARCUS_STRING_KEY, Integer.class));
-  }
+    Cache.ValueWrapper value = arcusCache.retrieve(ARCUS_STRING_KEY).get(1L, TimeUnit.SECONDS);
+    arcusCache.destroy();
+    Cache.ValueWrapper valueAfterDestroy = arcusCache.retrieve(ARCUS_STRING_KEY).get(1L, TimeUnit.SECONDS);
 
-  @Test
+    // then
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+    assertTrue(threadName.get().startsWith("arcus-async-" + arcusCache.getName()));
+    assertNull(valueAfterDestroy);
+  }
+
+  @Test
+  void retrieveFromFrontCache() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withAsyncExecutor(command -> {
+              throw new IllegalStateException();
+            });
+    when(arcusFrontCache.get(arcusKey))
+        .thenReturn(VALUE);
+
+    // when
+    CompletableFuture<Cache.ValueWrapper> future = arcusCache.retrieve(ARCUS_STRING_KEY);
+
+    // then
+    verify(arcusClientPool, never())
+        .asyncGet(arcusKey);
+    assertTrue(future.isDone());
+    assertEquals(VALUE, future.get().get());
+  }
+
+  @Test
+  void retrieveReturnNullIfArcusHasException() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration().withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFutureException());
+
+    // when
+    Cache.ValueWrapper value = arcusCache.retrieve(ARCUS_STRING_KEY).get();
+
+    // then
+    assertNull(value);
+  }
+
+  @Test
+  void retrieveCompleteExceptionallyWithWantToGetException() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withAsyncExecutor(Runnable::run)
+            .enableGettingException();
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFutureException());
+
+    // when
+    CompletableFuture<Cache.ValueWrapper> future = arcusCache.retrieve(ARCUS_STRING_KEY);
+
+    // then
+    ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+    assertEquals(TestException.class, exception.getCause().getClass());
+  }
+
+  @Test
+  void retrieveWithValueLoaderIfArcusMissed() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    Object value = arcusCache.retrieve(ARCUS_STRING_KEY, () -> CompletableFuture.completedFuture(VALUE)).get();
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void retrieveWithoutValueLoaderIfArcusHit() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration().withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    Object value = arcusCache.retrieve(ARCUS_STRING_KEY, () -> {
+      throw new IllegalStateException();
+    }).get();
+
+    // then
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void putAsync() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.putAsync(ARCUS_STRING_KEY, VALUE).get();
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+  }
+
+  @Test
+  void putAsyncFrontCacheIfArcusHasExceptionButForceFrontCachingIsTrue() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .withAsyncExecutor(Runnable::run)
+            .enableForcingFrontCache();
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenThrow(new TestException());
+
+    // when
+    arcusCache.putAsync(ARCUS_STRING_KEY, VALUE).get();
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+  }
+
+  @Test
+  void evictAsync() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    Boolean evicted = arcusCache.evictAsync(ARCUS_STRING_KEY).get();
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .delete(arcusKey);
+    assertTrue(evicted);
+  }
+
+  @Test
+  void evictAsyncReturnFalseIfArcusFailed() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(false));
+
+    // when
+    Boolean evicted = arcusCache.evictAsync(ARCUS_STRING_KEY).get();
+
+    // then
+    verify(arcusFrontCache, never())
+        .delete(arcusKey);
+    assertFalse(evicted);
+  }
+
+  @Test
+  void getWithClassType() {
+    // given
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, String.class);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .asyncGet(arcusKey);
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getWithDifferentClassType() {
+    // given
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    assertThrows(IllegalStateException.class, () -> arcusCache.get(ARCUS_STRING_KEY, Integer.class));
+  }
+
+  @Test
   void throwExceptionIfGetWithClassTypeWithWantToGetException() {
     // given
     arcusCache.getCacheConfiguration().enableGettingException();
@@ -909,199 +1902,279 @@ class ArcusCacheTest {
   }
 
   @Test
-  void throwExceptionIfGetWithValueLoaderAndArcusHasException() throws Exception {
+  void getWithValueLoaderInSingleFlightLoading() throws Exception {
     // given
-    TestException exception = null;
-    arcusCache.getCacheConfiguration().enableGettingException();
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading();
     arcusCache.setKeyLockProvider(keyLockProvider);
     when(arcusClientPool.asyncGet(arcusKey))
-        .thenThrow(new TestException());
+        .thenReturn(createGetFuture(null));
     when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
         .thenReturn(createOperationFuture(true));
     when(valueLoader.call())
         .thenReturn(VALUE);
-    when(keyLockProvider.getLockForKey(arcusKey))
-        .thenReturn(readWriteLock);
-    when(readWriteLock.writeLock())
-        .thenReturn(lock);
 
     // when
-    try {
-      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
-    } catch (TestException e) {
-      exception = e;
-    }
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
 
     // then
-    verify(arcusClientPool, times(1)).asyncGet(arcusKey);
-    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
-    verify(valueLoader, never()).call();
-    verify(lock, never()).lock();
-    verify(lock, never()).unlock();
-    assertNotNull(exception);
+    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
+    verify(arcusClientPool, times(1)).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, times(1)).call();
+    verify(keyLockProvider, never()).getLockForKey(ARCUS_STRING_KEY);
+    assertEquals(VALUE, value);
   }
 
   @Test
-  void throwExceptionIfGetWithValueLoaderAndArcusHasFutureException() throws Exception {
+  void recordMissOnceForGetWithValueLoader() throws Exception {
     // given
-    TestException exception = null;
-    arcusCache.getCacheConfiguration().enableGettingException();
-    arcusCache.setKeyLockProvider(keyLockProvider);
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading();
+    GetFuture<Object> getFuture = createGetFuture(null);
+    OperationFuture<Boolean> setFuture = createOperationFuture(true);
     when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFutureException());
+        .thenReturn(getFuture);
     when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
-        .thenReturn(createOperationFuture(true));
+        .thenReturn(setFuture);
     when(valueLoader.call())
         .thenReturn(VALUE);
-    when(keyLockProvider.getLockForKey(arcusKey))
-        .thenReturn(readWriteLock);
-    when(readWriteLock.writeLock())
-        .thenReturn(lock);
 
     // when
-    try {
-      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
-    } catch (TestException e) {
-      exception = e;
-    }
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
 
     // then
-    verify(arcusClientPool, times(1)).asyncGet(arcusKey);
-    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
-    verify(valueLoader, never()).call();
-    verify(lock, never()).lock();
-    verify(lock, never()).unlock();
-    assertNotNull(exception);
+    assertEquals(VALUE, value);
+    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
+    assertEquals(1, arcusCache.getStatistics().getMisses());
   }
 
   @Test
-  void throwExceptionIfGetWithValueLoaderAndArcusHasExceptionInSecondTry() throws Exception {
+  void getWithValueLoaderOnceForConcurrentCallersInSingleFlightLoading() throws Exception {
     // given
-    TestException exception = null;
-    arcusCache.getCacheConfiguration().enableGettingException();
-    arcusCache.setKeyLockProvider(keyLockProvider);
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch loaded = new CountDownLatch(1);
     when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(null))
-        .thenThrow(new TestException());
+        .thenAnswer(invocation -> createGetFuture(null));
     when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
         .thenReturn(createOperationFuture(true));
     when(valueLoader.call())
-        .thenReturn(VALUE);
-    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
-        .thenReturn(readWriteLock);
-    when(readWriteLock.writeLock())
-        .thenReturn(lock);
+        .thenAnswer(invocation -> {
+          loading.countDown();
+          loaded.await();
+          return VALUE;
+        });
 
     // when
-    try {
-      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
-    } catch (TestException e) {
-      exception = e;
+    CompletableFuture<Object> first = CompletableFuture.supplyAsync(
+        () -> arcusCache.get(ARCUS_STRING_KEY, valueLoader));
+    loading.await();
+    AtomicReference<Object> second = new AtomicReference<>();
+    Thread waiter = new Thread(() -> second.set(arcusCache.get(ARCUS_STRING_KEY, valueLoader)));
+    waiter.start();
+    while (waiter.getState() != Thread.State.WAITING) {
+      Thread.yield();
     }
+    loaded.countDown();
+    waiter.join();
+
+    // then
+    assertEquals(VALUE, first.get());
+    assertEquals(VALUE, second.get());
+    verify(arcusClientPool, times(3)).asyncGet(arcusKey);
+    verify(arcusClientPool, times(1)).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, times(1)).call();
+  }
+
+  @Test
+  void getWithoutValueLoaderIfLoadedBeforeLeadingInSingleFlightLoading() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading();
+    GetFuture<Object> missFuture = createGetFuture(null);
+    GetFuture<Object> hitFuture = createGetFuture(VALUE);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(missFuture)
+        .thenReturn(hitFuture);
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
 
     // then
     verify(arcusClientPool, times(2)).asyncGet(arcusKey);
-    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, never()).set(anyString(), anyInt(), any());
     verify(valueLoader, never()).call();
-    verify(lock, times(1)).lock();
-    verify(lock, times(1)).unlock();
-    assertNotNull(exception);
+    assertEquals(VALUE, value);
   }
 
   @Test
-  void throwExceptionIfGetWithValueLoaderAndArcusHasFutureExceptionInSecondTry() throws Exception {
+  void getWithValueLoaderAfterMaxWaitInSingleFlightLoading() throws Exception {
     // given
-    TestException exception = null;
-    arcusCache.getCacheConfiguration().enableGettingException();
-    arcusCache.setKeyLockProvider(keyLockProvider);
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading(50L);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch loaded = new CountDownLatch(1);
     when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(null))
-        .thenReturn(createGetFutureException());
+        .thenAnswer(invocation -> createGetFuture(null));
     when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
         .thenReturn(createOperationFuture(true));
     when(valueLoader.call())
+        .thenAnswer(invocation -> {
+          loading.countDown();
+          loaded.await();
+          return VALUE;
+        })
         .thenReturn(VALUE);
-    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
-        .thenReturn(readWriteLock);
-    when(readWriteLock.writeLock())
-        .thenReturn(lock);
 
     // when
-    try {
-      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
-    } catch (TestException e) {
-      exception = e;
-    }
+    CompletableFuture<Object> first = CompletableFuture.supplyAsync(
+        () -> arcusCache.get(ARCUS_STRING_KEY, valueLoader));
+    loading.await();
+    Object second = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+    loaded.countDown();
 
     // then
-    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
-    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
-    verify(valueLoader, never()).call();
-    verify(lock, times(1)).lock();
-    verify(lock, times(1)).unlock();
-    assertNotNull(exception);
+    assertEquals(VALUE, second);
+    assertEquals(VALUE, first.get());
+    verify(valueLoader, times(2)).call();
   }
 
   @Test
-  void throwExceptionIfGetWithValueLoaderAndArcusSetHasException() throws Exception {
+  void getWithValueLoaderAgainAfterFailureInSingleFlightLoading() throws Exception {
     // given
-    TestException exception = null;
     arcusCache.getCacheConfiguration()
-            .withExpireSeconds(EXPIRE_SECONDS)
-            .enableGettingException();
-    arcusCache.setKeyLockProvider(keyLockProvider);
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading();
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenAnswer(invocation -> createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenThrow(new TestException())
+        .thenReturn(VALUE);
+
+    // when
+    assertThrows(Cache.ValueRetrievalException.class, () -> arcusCache.get(ARCUS_STRING_KEY, valueLoader));
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(valueLoader, times(2)).call();
+    verify(arcusClientPool, times(1)).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getWithValueLoaderIfLoadingLeaseAcquired() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading()
+        .enableLoadingLease(3, 100);
     when(arcusClientPool.asyncGet(arcusKey))
         .thenReturn(createGetFuture(null));
+    when(arcusClientPool.add(eq(leaseKey), eq(3), any()))
+        .thenReturn(createOperationFuture(true));
     when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
-        .thenThrow(new TestException());
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.delete(leaseKey))
+        .thenReturn(createOperationFuture(true));
     when(valueLoader.call())
         .thenReturn(VALUE);
-    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
-        .thenReturn(readWriteLock);
-    when(readWriteLock.writeLock())
-        .thenReturn(lock);
 
     // when
-    try {
-      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
-    } catch (TestException e) {
-      exception = e;
-    }
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
 
     // then
     verify(arcusClientPool, times(2)).asyncGet(arcusKey);
     verify(arcusClientPool, times(1)).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, times(1)).delete(leaseKey);
     verify(valueLoader, times(1)).call();
-    verify(lock, times(1)).lock();
-    verify(lock, times(1)).unlock();
-    assertNotNull(exception);
+    assertEquals(VALUE, value);
+    assertNotEquals(arcusCache.createArcusKey(new ArcusStringKey(ARCUS_STRING_KEY.getStringKey() + "_lease")), leaseKey);
   }
 
   @Test
-  void throwExceptionIfGetWithValueLoaderAndArcusSetHasFutureException() throws Exception {
+  void getWithoutValueLoaderIfValueLoadedByLoadingLeaseHolder() throws Exception {
     // given
-    TestException exception = null;
     arcusCache.getCacheConfiguration()
-            .withExpireSeconds(EXPIRE_SECONDS)
-            .enableGettingException();
-    arcusCache.setKeyLockProvider(keyLockProvider);
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading()
+        .enableLoadingLease(3, 1000);
     when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(null));
+        .thenReturn(createGetFuture(null))
+        .thenReturn(createGetFuture(null))
+        .thenReturn(createGetFuture(VALUE));
+    when(arcusClientPool.add(eq(leaseKey), eq(3), any()))
+        .thenReturn(createOperationFuture(false));
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(arcusClientPool, times(3)).asyncGet(arcusKey);
+    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, never()).delete(leaseKey);
+    verify(valueLoader, never()).call();
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getWithValueLoaderAfterWaitingForLoadingLeaseHolder() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableSingleFlightLoading()
+        .enableLoadingLease(3, 100);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenAnswer(invocation -> createGetFuture(null));
+    when(arcusClientPool.add(eq(leaseKey), eq(3), any()))
+        .thenReturn(createOperationFuture(false));
     when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
-        .thenReturn(createOperationFutureException());
+        .thenReturn(createOperationFuture(true));
     when(valueLoader.call())
         .thenReturn(VALUE);
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(arcusClientPool, atLeastOnce()).asyncGet(arcusKey);
+    verify(arcusClientPool, times(1)).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, never()).delete(leaseKey);
+    verify(valueLoader, times(1)).call();
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getWithValueLoaderIfLoadingLeaseHasException() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableLoadingLease(3, 100);
+    arcusCache.setKeyLockProvider(keyLockProvider);
     when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
         .thenReturn(readWriteLock);
     when(readWriteLock.writeLock())
         .thenReturn(lock);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.add(eq(leaseKey), eq(3), any()))
+        .thenReturn(createOperationFutureException());
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.delete(leaseKey))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenReturn(VALUE);
 
     // when
-    try {
-      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
-    } catch (TestException e) {
-      exception = e;
-    }
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
 
     // then
     verify(arcusClientPool, times(2)).asyncGet(arcusKey);
@@ -1109,49 +2182,198 @@ class ArcusCacheTest {
     verify(valueLoader, times(1)).call();
     verify(lock, times(1)).lock();
     verify(lock, times(1)).unlock();
-    assertNotNull(exception);
+    assertEquals(VALUE, value);
   }
 
-   @Test
-  void returnNullIfValueLoaderReturnNull() throws Exception {
+  @Test
+  void putWithStaleWhileRevalidate() {
     // given
-    arcusCache.getCacheConfiguration().withExpireSeconds(EXPIRE_SECONDS);
-    arcusCache.setKeyLockProvider(keyLockProvider);
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .withStaleWhileRevalidateSeconds(STALE_SECONDS);
+    when(arcusClientPool.set(eq(arcusKey), eq(EXPIRE_SECONDS + STALE_SECONDS), any()))
+        .thenReturn(createOperationFuture(true));
+    long now = System.currentTimeMillis();
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(eq(arcusKey), eq(EXPIRE_SECONDS + STALE_SECONDS), argThat(value ->
+            value instanceof ArcusCacheEntry &&
+            VALUE.equals(((ArcusCacheEntry) value).getValue()) &&
+            ((ArcusCacheEntry) value).getFreshUntil() >= now + TimeUnit.SECONDS.toMillis(EXPIRE_SECONDS)));
+  }
+
+  @Test
+  void getWithStaleWhileRevalidate() {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .withStaleWhileRevalidateSeconds(STALE_SECONDS);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(new ArcusCacheEntry(VALUE, 0L)));
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+  }
+
+  @Test
+  void getWithValueLoaderWithoutRefreshIfValueIsFresh() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .withStaleWhileRevalidateSeconds(STALE_SECONDS)
+        .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(new ArcusCacheEntry(VALUE, Long.MAX_VALUE)));
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(valueLoader, never()).call();
+    verify(arcusClientPool, never()).set(anyString(), anyInt(), any());
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getStaleValueWithValueLoaderAndRefresh() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .withStaleWhileRevalidateSeconds(STALE_SECONDS)
+        .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(new ArcusCacheEntry(VALUE, 0L)));
+    when(arcusClientPool.set(eq(arcusKey), eq(EXPIRE_SECONDS + STALE_SECONDS), any()))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenReturn("NEW_VALUE");
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(valueLoader, times(1)).call();
+    verify(arcusClientPool, times(1))
+        .set(eq(arcusKey), eq(EXPIRE_SECONDS + STALE_SECONDS), argThat(entry ->
+            entry instanceof ArcusCacheEntry && "NEW_VALUE".equals(((ArcusCacheEntry) entry).getValue())));
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getStaleValueWithValueLoaderIfRefreshFailed() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .withStaleWhileRevalidateSeconds(STALE_SECONDS)
+        .withAsyncExecutor(Runnable::run);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(new ArcusCacheEntry(VALUE, 0L)));
+    when(valueLoader.call())
+        .thenThrow(new TestException());
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(valueLoader, times(1)).call();
+    verify(arcusClientPool, never()).set(anyString(), anyInt(), any());
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getWithValueLoaderAndPutLoadTimeWithEarlyRecomputation() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableEarlyRecomputation(1.0);
     when(arcusClientPool.asyncGet(arcusKey))
         .thenReturn(createGetFuture(null));
-    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+    when(arcusClientPool.set(eq(arcusKey), eq(EXPIRE_SECONDS), any()))
         .thenReturn(createOperationFuture(true));
     when(valueLoader.call())
-        .thenReturn(null);
-    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
-        .thenReturn(readWriteLock);
-    when(readWriteLock.writeLock())
-        .thenReturn(lock);
+        .thenAnswer(invocation -> {
+          Thread.sleep(20);
+          return VALUE;
+        });
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(eq(arcusKey), eq(EXPIRE_SECONDS), argThat(entry ->
+            entry instanceof ArcusCacheEntry &&
+            VALUE.equals(((ArcusCacheEntry) entry).getValue()) &&
+            ((ArcusCacheEntry) entry).getLoadMillis() >= 20));
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getWithValueLoaderWithoutEarlyRecomputationIfExpiryIsFar() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableEarlyRecomputation(1.0)
+        .withAsyncExecutor(Runnable::run);
+    long freshUntil = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(new ArcusCacheEntry(VALUE, freshUntil, 10L)));
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(valueLoader, never()).call();
+    assertEquals(VALUE, value);
+  }
+
+  @Test
+  void getWithValueLoaderWithEarlyRecomputationIfExpiryIsNear() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .enableEarlyRecomputation(Double.MAX_VALUE)
+        .withAsyncExecutor(Runnable::run);
+    long freshUntil = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(1);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(new ArcusCacheEntry(VALUE, freshUntil, 10L)));
+    when(arcusClientPool.set(eq(arcusKey), eq(EXPIRE_SECONDS), any()))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenReturn("NEW_VALUE");
 
     // when
     Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
 
     // then
-    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
-    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
     verify(valueLoader, times(1)).call();
-    verify(lock, times(1)).lock();
-    verify(lock, times(1)).unlock();
-    assertNull(value);
+    verify(arcusClientPool, times(1))
+        .set(eq(arcusKey), eq(EXPIRE_SECONDS), argThat(entry ->
+            entry instanceof ArcusCacheEntry && "NEW_VALUE".equals(((ArcusCacheEntry) entry).getValue())));
+    assertEquals(VALUE, value);
   }
 
   @Test
-  void throwValueRetrievalExceptionWhenValueLoaderHasException() throws Exception {
+  void throwExceptionIfGetWithValueLoaderAndArcusHasException() throws Exception {
     // given
-    Cache.ValueRetrievalException exception = null;
+    TestException exception = null;
+    arcusCache.getCacheConfiguration().enableGettingException();
     arcusCache.setKeyLockProvider(keyLockProvider);
     when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(null));
+        .thenThrow(new TestException());
     when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
         .thenReturn(createOperationFuture(true));
     when(valueLoader.call())
-        .thenThrow(new TestException());
-    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
+        .thenReturn(VALUE);
+    when(keyLockProvider.getLockForKey(arcusKey))
         .thenReturn(readWriteLock);
     when(readWriteLock.writeLock())
         .thenReturn(lock);
@@ -1159,219 +2381,1102 @@ class ArcusCacheTest {
     // when
     try {
       arcusCache.get(ARCUS_STRING_KEY, valueLoader);
-    } catch (Cache.ValueRetrievalException e) {
+    } catch (TestException e) {
       exception = e;
     }
 
     // then
-    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
-    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
-    verify(valueLoader, times(1)).call();
-    verify(lock, times(1)).lock();
-    verify(lock, times(1)).unlock();
-    assertNotNull(exception);
+    verify(arcusClientPool, times(1)).asyncGet(arcusKey);
+    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, never()).call();
+    verify(lock, never()).lock();
+    verify(lock, never()).unlock();
+    assertNotNull(exception);
+  }
+
+  @Test
+  void throwExceptionIfGetWithValueLoaderAndArcusHasFutureException() throws Exception {
+    // given
+    TestException exception = null;
+    arcusCache.getCacheConfiguration().enableGettingException();
+    arcusCache.setKeyLockProvider(keyLockProvider);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFutureException());
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenReturn(VALUE);
+    when(keyLockProvider.getLockForKey(arcusKey))
+        .thenReturn(readWriteLock);
+    when(readWriteLock.writeLock())
+        .thenReturn(lock);
+
+    // when
+    try {
+      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+    } catch (TestException e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(1)).asyncGet(arcusKey);
+    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, never()).call();
+    verify(lock, never()).lock();
+    verify(lock, never()).unlock();
+    assertNotNull(exception);
+  }
+
+  @Test
+  void throwExceptionIfGetWithValueLoaderAndArcusHasExceptionInSecondTry() throws Exception {
+    // given
+    TestException exception = null;
+    arcusCache.getCacheConfiguration().enableGettingException();
+    arcusCache.setKeyLockProvider(keyLockProvider);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null))
+        .thenThrow(new TestException());
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenReturn(VALUE);
+    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
+        .thenReturn(readWriteLock);
+    when(readWriteLock.writeLock())
+        .thenReturn(lock);
+
+    // when
+    try {
+      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+    } catch (TestException e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
+    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, never()).call();
+    verify(lock, times(1)).lock();
+    verify(lock, times(1)).unlock();
+    assertNotNull(exception);
+  }
+
+  @Test
+  void throwExceptionIfGetWithValueLoaderAndArcusHasFutureExceptionInSecondTry() throws Exception {
+    // given
+    TestException exception = null;
+    arcusCache.getCacheConfiguration().enableGettingException();
+    arcusCache.setKeyLockProvider(keyLockProvider);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null))
+        .thenReturn(createGetFutureException());
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenReturn(VALUE);
+    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
+        .thenReturn(readWriteLock);
+    when(readWriteLock.writeLock())
+        .thenReturn(lock);
+
+    // when
+    try {
+      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+    } catch (TestException e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
+    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, never()).call();
+    verify(lock, times(1)).lock();
+    verify(lock, times(1)).unlock();
+    assertNotNull(exception);
+  }
+
+  @Test
+  void throwExceptionIfGetWithValueLoaderAndArcusSetHasException() throws Exception {
+    // given
+    TestException exception = null;
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableGettingException();
+    arcusCache.setKeyLockProvider(keyLockProvider);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenThrow(new TestException());
+    when(valueLoader.call())
+        .thenReturn(VALUE);
+    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
+        .thenReturn(readWriteLock);
+    when(readWriteLock.writeLock())
+        .thenReturn(lock);
+
+    // when
+    try {
+      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+    } catch (TestException e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
+    verify(arcusClientPool, times(1)).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, times(1)).call();
+    verify(lock, times(1)).lock();
+    verify(lock, times(1)).unlock();
+    assertNotNull(exception);
+  }
+
+  @Test
+  void throwExceptionIfGetWithValueLoaderAndArcusSetHasFutureException() throws Exception {
+    // given
+    TestException exception = null;
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableGettingException();
+    arcusCache.setKeyLockProvider(keyLockProvider);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFutureException());
+    when(valueLoader.call())
+        .thenReturn(VALUE);
+    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
+        .thenReturn(readWriteLock);
+    when(readWriteLock.writeLock())
+        .thenReturn(lock);
+
+    // when
+    try {
+      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+    } catch (TestException e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
+    verify(arcusClientPool, times(1)).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, times(1)).call();
+    verify(lock, times(1)).lock();
+    verify(lock, times(1)).unlock();
+    assertNotNull(exception);
+  }
+
+   @Test
+  void returnNullIfValueLoaderReturnNull() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration().withExpireSeconds(EXPIRE_SECONDS);
+    arcusCache.setKeyLockProvider(keyLockProvider);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenReturn(null);
+    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
+        .thenReturn(readWriteLock);
+    when(readWriteLock.writeLock())
+        .thenReturn(lock);
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
+    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, times(1)).call();
+    verify(lock, times(1)).lock();
+    verify(lock, times(1)).unlock();
+    assertNull(value);
+  }
+
+  @Test
+  void throwValueRetrievalExceptionWhenValueLoaderHasException() throws Exception {
+    // given
+    Cache.ValueRetrievalException exception = null;
+    arcusCache.setKeyLockProvider(keyLockProvider);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(valueLoader.call())
+        .thenThrow(new TestException());
+    when(keyLockProvider.getLockForKey(ARCUS_STRING_KEY))
+        .thenReturn(readWriteLock);
+    when(readWriteLock.writeLock())
+        .thenReturn(lock);
+
+    // when
+    try {
+      arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+    } catch (Cache.ValueRetrievalException e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(2)).asyncGet(arcusKey);
+    verify(arcusClientPool, never()).set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(valueLoader, times(1)).call();
+    verify(lock, times(1)).lock();
+    verify(lock, times(1)).unlock();
+    assertNotNull(exception);
+  }
+
+  @Test
+  void putIfAbsent() {
+    // given
+    arcusCache.getCacheConfiguration().withExpireSeconds(EXPIRE_SECONDS);
+    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    Object value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .add(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, never())
+        .get(arcusKey);
+    assertNull(value);
+  }
+
+  @Test
+  void putIfAbsentWithCustomOperationTranscoder() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withOperationTranscoder(OPERATION_TRANSCODER);
+    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE, OPERATION_TRANSCODER))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.asyncGet(arcusKey, OPERATION_TRANSCODER))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    Object value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .add(arcusKey, EXPIRE_SECONDS, VALUE, OPERATION_TRANSCODER);
+    verify(arcusClientPool, never())
+        .get(arcusKey, OPERATION_TRANSCODER);
+    assertNull(value);
+  }
+
+  @Test
+  void putIfAbsentWithFrontCache() {
+     // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS);
+    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    Cache.ValueWrapper value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .add(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, never())
+        .asyncGet(arcusKey);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    assertNull(value);
+  }
+
+  @Test
+  void returnOriginDataIfArcusFailedInPutIfAbsent() {
+     // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS);
+    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(false));
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE + VALUE));
+
+    // when
+    Cache.ValueWrapper value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .add(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, times(1))
+        .asyncGet(arcusKey);
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE + VALUE, FRONT_EXPIRE_SECONDS);
+    assertNotNull(value);
+    assertEquals(VALUE + VALUE, value.get());
+  }
+
+  @Test
+  void returnOriginDataIfPutIfAbsentWithFrontCacheAndArcusFailedAndForceFrontCachingIsTrue() {
+    arcusCache.getCacheConfiguration().enableForcingFrontCache();
+    returnOriginDataIfArcusFailedInPutIfAbsent();
+  }
+
+  @Test
+  void throwExceptionIfPutIfAbsentHasException() {
+     // given
+    TestException exception = null;
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableGettingException();
+    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenThrow(new TestException());
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    try {
+      arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+    } catch (TestException e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(1))
+        .add(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, never())
+        .asyncGet(arcusKey);
+    verify(arcusFrontCache, never())
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    assertNotNull(exception);
+  }
+
+  @Test
+  void throwExceptionIfPutIfAbsentHasExceptionWithForceFrontCaching() {
+    arcusCache.getCacheConfiguration().enableForcingFrontCache();
+    throwExceptionIfPutIfAbsentHasException();
+  }
+
+  @Test
+  void throwExceptionIfPutIfAbsentHasFutureException() {
+     // given
+    TestException exception = null;
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableGettingException();
+    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFutureException());
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    try {
+      arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+    } catch (TestException e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(1))
+        .add(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, never())
+        .asyncGet(arcusKey);
+    verify(arcusFrontCache, never())
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    assertNotNull(exception);
+  }
+
+  @Test
+  void throwExceptionIfPutIfAbsentHasFutureExceptionWithForceFrontCaching() {
+    arcusCache.getCacheConfiguration().enableForcingFrontCache();
+    throwExceptionIfPutIfAbsentHasFutureException();
+  }
+
+  @Test
+  void putNullIfAbsent() {
+    // given
+    Exception exception = null;
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableGettingException();
+    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, NullValue.INSTANCE))
+            .thenReturn(createOperationFuture(true));
+
+    // when
+    try {
+      arcusCache.putIfAbsent(ARCUS_STRING_KEY, null);
+    } catch (Exception e) {
+      exception = e;
+    }
+
+    // then
+    verify(arcusClientPool, times(1))
+            .add(arcusKey, EXPIRE_SECONDS, NullValue.INSTANCE);
+    verify(arcusFrontCache, times(1))
+            .set(arcusKey, NullValue.INSTANCE, FRONT_EXPIRE_SECONDS);
+    verify(arcusClientPool, never())
+            .asyncGet(arcusKey);
+    assertNull(exception);
+  }
+
+  @Test
+  void recordStatistics() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS);
+    List<ArcusCacheStatistics.Operation> operations = new ArrayList<>();
+    arcusCache.getStatistics().addLatencyListener((operation, nanos) -> operations.add(operation));
+    when(arcusFrontCache.get(arcusKey))
+        .thenReturn(VALUE);
+    when(arcusClientPool.asyncGet(arcusKey2))
+        .thenReturn(createGetFuture(null))
+        .thenReturn(createGetFutureException());
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.get(ARCUS_STRING_KEY);
+    arcusCache.get(ARCUS_STRING_KEY2);
+    arcusCache.get(ARCUS_STRING_KEY2);
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+    arcusCache.evict(ARCUS_STRING_KEY);
+
+    // then
+    ArcusCacheStatistics statistics = arcusCache.getStatistics();
+    assertEquals(2, statistics.getGets());
+    assertEquals(1, statistics.getHits());
+    assertEquals(1, statistics.getFrontHits());
+    assertEquals(1, statistics.getMisses());
+    assertEquals(1, statistics.getPuts());
+    assertEquals(1, statistics.getEvictions());
+    assertEquals(1, statistics.getFailures());
+    assertEquals(0, statistics.getTimeouts());
+    assertEquals(Arrays.asList(ArcusCacheStatistics.Operation.GET, ArcusCacheStatistics.Operation.GET,
+        ArcusCacheStatistics.Operation.GET, ArcusCacheStatistics.Operation.PUT,
+        ArcusCacheStatistics.Operation.EVICT), operations);
+  }
+
+  @Test
+  void skipArcusIfCircuitBreakerIsOpen() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableCircuitBreaker(100, 1, 60_000L);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFutureException());
+    when(valueLoader.call())
+        .thenReturn(VALUE);
+
+    // when
+    Object first = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+    Object second = arcusCache.get(ARCUS_STRING_KEY2, valueLoader);
+    arcusCache.evict(ARCUS_STRING_KEY);
+
+    // then
+    assertEquals(VALUE, first);
+    assertEquals(VALUE, second);
+    verify(arcusClientPool, times(1))
+        .asyncGet(arcusKey);
+    verify(arcusClientPool, never())
+        .asyncGet(arcusKey2);
+    verify(arcusClientPool, never())
+        .set(anyString(), anyInt(), any());
+    verify(arcusClientPool, never())
+        .delete(anyString());
+    verify(valueLoader, times(2))
+        .call();
+    verify(arcusFrontCache, never())
+        .set(anyString(), any(), anyInt());
+  }
+
+  @Test
+  void doNotOpenCircuitBreakerIfAsyncExecutorRejects() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableFrontExpireByRemainingTime()
+            .withAsyncExecutor(task -> {
+              throw new RejectedExecutionException("saturated");
+            })
+            .enableCircuitBreaker(100, 1, 60_000L);
+    GetFuture<Object> getFuture = createGetFuture(VALUE);
+    CollectionFuture<CollectionAttributes> attributeFuture = createAttributeFuture(EXPIRE_SECONDS);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(getFuture);
+    when(arcusClientPool.asyncGetAttr(arcusKey))
+        .thenReturn(attributeFuture);
+
+    // when
+    Cache.ValueWrapper retrieved = arcusCache.retrieve(ARCUS_STRING_KEY).get(1L, TimeUnit.SECONDS);
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    assertNull(retrieved);
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+    verify(arcusClientPool, times(2))
+        .asyncGet(arcusKey);
+  }
+
+  @Test
+  void loadWithoutLoadingLeaseIfCircuitBreakerIsOpen() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableLoadingLease(3, 1000)
+            .enableCircuitBreaker(100, 1, 60_000L);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFutureException());
+    when(valueLoader.call())
+        .thenReturn(VALUE);
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    assertEquals(VALUE, value);
+    verify(arcusClientPool, never())
+        .add(anyString(), anyInt(), any());
+    verify(arcusClientPool, never())
+        .delete(anyString());
+    verify(valueLoader, times(1))
+        .call();
+  }
+
+  @Test
+  void recordSingleOutcomeOfPutAllInCircuitBreaker() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableCircuitBreaker(100, 2, 60_000L);
+    OperationFuture<Boolean> failed = createOperationFutureException();
+    OperationFuture<Boolean> failed2 = createOperationFutureException();
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(failed);
+    when(arcusClientPool.set(arcusKey2, EXPIRE_SECONDS, VALUE))
+        .thenReturn(failed2);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+    Map<Object, Object> values = new LinkedHashMap<>();
+    values.put(ARCUS_STRING_KEY, VALUE);
+    values.put(ARCUS_STRING_KEY2, VALUE);
+
+    // when
+    Set<Object> failedKeys = arcusCache.putAll(values);
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    assertEquals(2, failedKeys.size());
+    verify(arcusClientPool, times(1))
+        .asyncGet(arcusKey);
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getWithAdaptiveTimeout() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .enableAdaptiveTimeout(99, 2, 10L, 100L);
+    GetFuture<Object> future = mock(GetFuture.class);
+    when(future.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(VALUE);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(future);
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+
+    // then
+    verify(future, times(1))
+        .get(100L, TimeUnit.MILLISECONDS);
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+  }
+
+  @Test
+  void putWithWriteBehind() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableWriteBehind(10, 10, 60_000L);
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, "OLD_VALUE");
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    verify(arcusClientPool, never())
+        .set(anyString(), anyInt(), any());
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    assertEquals(1, arcusCache.getStatistics().getWriteBehindQueueSize());
+
+    // when
+    arcusCache.destroy();
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(anyString(), anyInt(), any());
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+    assertEquals(0, arcusCache.getStatistics().getWriteBehindQueueSize());
+    assertEquals(1L, arcusCache.getStatistics().getPuts());
+  }
+
+  @Test
+  void putDirectlyIfWriteBehindQueueIsFull() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableWriteBehind(1, 10, 60_000L);
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+    when(arcusClientPool.set(arcusKey2, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(false));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+    arcusCache.put(ARCUS_STRING_KEY2, VALUE);
+
+    // then
+    verify(arcusClientPool, never())
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, times(1))
+        .set(arcusKey2, EXPIRE_SECONDS, VALUE);
+    verify(arcusFrontCache, never())
+        .set(arcusKey2, VALUE, FRONT_EXPIRE_SECONDS);
+    assertEquals(1L, arcusCache.getStatistics().getWriteBehindOverflows());
+
+    // when
+    arcusCache.destroy();
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+  }
+
+  @Test
+  void evictCancelsWriteBehind() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableWriteBehind(10, 10, 60_000L);
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+    arcusCache.evict(ARCUS_STRING_KEY);
+    arcusCache.destroy();
+
+    // then
+    verify(arcusClientPool, never())
+        .set(anyString(), anyInt(), any());
+    verify(arcusClientPool, times(1))
+        .delete(arcusKey);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void evictWaitsForFlushingWriteBehind() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableWriteBehind(10, 10, 60_000L);
+    CountDownLatch flushing = new CountDownLatch(1);
+    CountDownLatch released = new CountDownLatch(1);
+    OperationFuture<Boolean> setFuture = mock(OperationFuture.class);
+    when(setFuture.get(anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> {
+          flushing.countDown();
+          assertTrue(released.await(3, TimeUnit.SECONDS));
+          return true;
+        });
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(setFuture);
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+    CompletableFuture<Void> flush = CompletableFuture.runAsync(arcusCache::destroy);
+    assertTrue(flushing.await(3, TimeUnit.SECONDS));
+
+    // when
+    CompletableFuture<Void> evict = CompletableFuture.runAsync(() -> arcusCache.evict(ARCUS_STRING_KEY));
+    Thread.sleep(100L);
+
+    // then
+    assertFalse(evict.isDone());
+    verify(arcusClientPool, never())
+        .delete(arcusKey);
+
+    // when
+    released.countDown();
+    flush.get(3, TimeUnit.SECONDS);
+    evict.get(3, TimeUnit.SECONDS);
+
+    // then
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+    verify(arcusClientPool, times(1))
+        .delete(arcusKey);
+  }
+
+  @Test
+  void getValueQueuedByWriteBehindWithoutFrontCache() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableWriteBehind(10, 10, 60_000L);
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // when
+    Cache.ValueWrapper value = arcusCache.get(ARCUS_STRING_KEY);
+    Map<Object, Cache.ValueWrapper> values = arcusCache.getAll(Collections.singletonList(ARCUS_STRING_KEY));
+    Cache.ValueWrapper retrieved = arcusCache.retrieve(ARCUS_STRING_KEY).get(1L, TimeUnit.SECONDS);
+
+    // then
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+    assertEquals(VALUE, values.get(ARCUS_STRING_KEY).get());
+    assertNotNull(retrieved);
+    assertEquals(VALUE, retrieved.get());
+    verify(arcusClientPool, never())
+        .asyncGet(anyString());
+    verify(arcusClientPool, never())
+        .asyncGetBulk(anyCollection());
+    assertEquals(3L, arcusCache.getStatistics().getFrontHits());
+  }
+
+  @Test
+  void putIfAbsentReturnsValueQueuedByWriteBehind() {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .enableWriteBehind(10, 10, 60_000L);
+    arcusCache.put(ARCUS_STRING_KEY, VALUE);
+
+    // when
+    Cache.ValueWrapper value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, "NEW_VALUE");
+
+    // then
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
+    verify(arcusClientPool, never())
+        .add(anyString(), anyInt(), any());
+  }
+
+  @Test
+  void putLoadedValueWithStaleSetLease() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableStaleSetLease(LEASE_SECONDS);
+    when(arcusClientPool.getTranscoder())
+        .thenReturn(OPERATION_TRANSCODER);
+    when(arcusClientPool.asyncGet(eq(arcusKey), any(SetLeaseTranscoder.class)))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.add(eq(arcusKey), eq(LEASE_SECONDS), eq(SetLeaseTranscoder.LEASE),
+        any(SetLeaseTranscoder.class)))
+        .thenReturn(createOperationFuture(true));
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(new CASValue<>(CAS_ID, null));
+    OperationFuture<CASResponse> casFuture = createCasFuture(CASResponse.OK);
+    when(arcusClientPool.asyncGets(eq(arcusKey), any(SetLeaseTranscoder.class)))
+        .thenReturn(getsFuture);
+    when(arcusClientPool.asyncCAS(eq(arcusKey), eq(CAS_ID), eq(EXPIRE_SECONDS), eq((Object) VALUE),
+        any(SetLeaseTranscoder.class)))
+        .thenReturn(casFuture);
+    when(valueLoader.call())
+        .thenReturn(VALUE);
+
+    // when
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
+
+    // then
+    assertEquals(VALUE, value);
+    verify(arcusClientPool, times(1))
+        .asyncCAS(eq(arcusKey), eq(CAS_ID), eq(EXPIRE_SECONDS), eq((Object) VALUE), any(SetLeaseTranscoder.class));
+    verify(arcusClientPool, never())
+        .set(anyString(), anyInt(), any(), any());
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+  }
+
+  @Test
+  void putIfAbsentOverStaleSetLease() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableStaleSetLease(LEASE_SECONDS);
+    when(arcusClientPool.getTranscoder())
+        .thenReturn(OPERATION_TRANSCODER);
+    OperationFuture<Boolean> addFuture = createOperationFuture(false);
+    when(arcusClientPool.add(eq(arcusKey), eq(EXPIRE_SECONDS), eq((Object) VALUE), any(SetLeaseTranscoder.class)))
+        .thenReturn(addFuture);
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(new CASValue<>(CAS_ID, null));
+    OperationFuture<CASResponse> casFuture = createCasFuture(CASResponse.OK);
+    when(arcusClientPool.asyncGets(eq(arcusKey), any(SetLeaseTranscoder.class)))
+        .thenReturn(getsFuture);
+    when(arcusClientPool.asyncCAS(eq(arcusKey), eq(CAS_ID), eq(EXPIRE_SECONDS), eq((Object) VALUE),
+        any(SetLeaseTranscoder.class)))
+        .thenReturn(casFuture);
+
+    // when
+    Cache.ValueWrapper value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+
+    // then
+    assertNull(value);
+    verify(arcusClientPool, times(1))
+        .asyncCAS(eq(arcusKey), eq(CAS_ID), eq(EXPIRE_SECONDS), eq((Object) VALUE), any(SetLeaseTranscoder.class));
+    verify(arcusFrontCache, times(1))
+        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
+    assertEquals(1L, arcusCache.getStatistics().getPuts());
   }
 
   @Test
-  void putIfAbsent() {
+  void putIfAbsentReturnsValueStoredOverStaleSetLease() throws Exception {
     // given
-    arcusCache.getCacheConfiguration().withExpireSeconds(EXPIRE_SECONDS);
-    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
-        .thenReturn(createOperationFuture(true));
-    when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(VALUE));
+    arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
+            .enableStaleSetLease(LEASE_SECONDS);
+    when(arcusClientPool.getTranscoder())
+        .thenReturn(OPERATION_TRANSCODER);
+    OperationFuture<Boolean> addFuture = createOperationFuture(false);
+    when(arcusClientPool.add(eq(arcusKey), eq(EXPIRE_SECONDS), eq((Object) "NEW_VALUE"),
+        any(SetLeaseTranscoder.class)))
+        .thenReturn(addFuture);
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(new CASValue<>(CAS_ID, VALUE));
+    when(arcusClientPool.asyncGets(eq(arcusKey), any(SetLeaseTranscoder.class)))
+        .thenReturn(getsFuture);
 
     // when
-    Object value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+    Cache.ValueWrapper value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, "NEW_VALUE");
 
     // then
-    verify(arcusClientPool, times(1))
-        .add(arcusKey, EXPIRE_SECONDS, VALUE);
+    assertNotNull(value);
+    assertEquals(VALUE, value.get());
     verify(arcusClientPool, never())
-        .get(arcusKey);
-    assertNull(value);
+        .asyncCAS(anyString(), anyLong(), anyInt(), any(), any(SetLeaseTranscoder.class));
+    verify(arcusFrontCache, never())
+        .set(anyString(), any(), anyInt());
   }
 
   @Test
-  void putIfAbsentWithCustomOperationTranscoder() {
+  void doNotPutLoadedValueIfStaleSetLeaseIsInvalidated() throws Exception {
     // given
     arcusCache.getCacheConfiguration()
+            .withArcusFrontCache(arcusFrontCache)
             .withExpireSeconds(EXPIRE_SECONDS)
-            .withOperationTranscoder(OPERATION_TRANSCODER);
-    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE, OPERATION_TRANSCODER))
+            .enableStaleSetLease(LEASE_SECONDS);
+    when(arcusClientPool.asyncGet(eq(arcusKey), any(SetLeaseTranscoder.class)))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.add(eq(arcusKey), eq(LEASE_SECONDS), eq(SetLeaseTranscoder.LEASE),
+        any(SetLeaseTranscoder.class)))
         .thenReturn(createOperationFuture(true));
-    when(arcusClientPool.asyncGet(arcusKey, OPERATION_TRANSCODER))
-        .thenReturn(createGetFuture(VALUE));
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(new CASValue<>(CAS_ID, null));
+    OperationFuture<CASResponse> casFuture = createCasFuture(CASResponse.NOT_FOUND);
+    when(arcusClientPool.asyncGets(eq(arcusKey), any(SetLeaseTranscoder.class)))
+        .thenReturn(getsFuture);
+    when(arcusClientPool.asyncCAS(eq(arcusKey), eq(CAS_ID), eq(EXPIRE_SECONDS), eq((Object) VALUE),
+        any(SetLeaseTranscoder.class)))
+        .thenReturn(casFuture);
+    when(valueLoader.call())
+        .thenReturn(VALUE);
 
     // when
-    Object value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
 
     // then
-    verify(arcusClientPool, times(1))
-        .add(arcusKey, EXPIRE_SECONDS, VALUE, OPERATION_TRANSCODER);
-    verify(arcusClientPool, never())
-        .get(arcusKey, OPERATION_TRANSCODER);
-    assertNull(value);
+    assertEquals(VALUE, value);
+    verify(arcusFrontCache, never())
+        .set(anyString(), any(), anyInt());
+    assertEquals(0L, arcusCache.getStatistics().getPuts());
+    assertEquals(0L, arcusCache.getStatistics().getFailures());
   }
 
   @Test
-  void putIfAbsentWithFrontCache() {
-     // given
+  void doNotPutLoadedValueWithoutStaleSetLease() throws Exception {
+    // given
     arcusCache.getCacheConfiguration()
-            .withArcusFrontCache(arcusFrontCache)
             .withExpireSeconds(EXPIRE_SECONDS)
-            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS);
-    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
-        .thenReturn(createOperationFuture(true));
-    when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(VALUE));
+            .enableStaleSetLease(LEASE_SECONDS);
+    when(arcusClientPool.asyncGet(eq(arcusKey), any(SetLeaseTranscoder.class)))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.add(eq(arcusKey), eq(LEASE_SECONDS), eq(SetLeaseTranscoder.LEASE),
+        any(SetLeaseTranscoder.class)))
+        .thenReturn(createOperationFuture(false));
+    when(valueLoader.call())
+        .thenReturn(VALUE);
 
     // when
-    Cache.ValueWrapper value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+    Object value = arcusCache.get(ARCUS_STRING_KEY, valueLoader);
 
     // then
-    verify(arcusClientPool, times(1))
-        .add(arcusKey, EXPIRE_SECONDS, VALUE);
+    assertEquals(VALUE, value);
     verify(arcusClientPool, never())
-        .asyncGet(arcusKey);
-    verify(arcusFrontCache, times(1))
-        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
-    assertNull(value);
+        .asyncGets(anyString(), any());
+    verify(arcusClientPool, never())
+        .asyncCAS(anyString(), anyLong(), anyInt(), any(), any());
   }
 
   @Test
-  void returnOriginDataIfArcusFailedInPutIfAbsent() {
-     // given
+  void computeWithCas() throws Exception {
+    // given
     arcusCache.getCacheConfiguration()
             .withArcusFrontCache(arcusFrontCache)
             .withExpireSeconds(EXPIRE_SECONDS)
             .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS);
-    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
-        .thenReturn(createOperationFuture(false));
-    when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(VALUE + VALUE));
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(new CASValue<>(CAS_ID, 1));
+    OperationFuture<CASResponse> casFuture = createCasFuture(CASResponse.OK);
+    when(arcusClientPool.asyncGets(arcusKey))
+        .thenReturn(getsFuture);
+    when(arcusClientPool.asyncCAS(arcusKey, CAS_ID, EXPIRE_SECONDS, 2))
+        .thenReturn(casFuture);
 
     // when
-    Cache.ValueWrapper value = arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
+    Integer value = arcusCache.<Integer>compute(ARCUS_STRING_KEY, (key, oldValue) -> oldValue + 1);
 
     // then
+    assertEquals(2, value);
     verify(arcusClientPool, times(1))
-        .add(arcusKey, EXPIRE_SECONDS, VALUE);
-    verify(arcusClientPool, times(1))
-        .asyncGet(arcusKey);
+        .asyncCAS(arcusKey, CAS_ID, EXPIRE_SECONDS, 2);
     verify(arcusFrontCache, times(1))
-        .set(arcusKey, VALUE + VALUE, FRONT_EXPIRE_SECONDS);
-    assertNotNull(value);
-    assertEquals(VALUE + VALUE, value.get());
-  }
-
-  @Test
-  void returnOriginDataIfPutIfAbsentWithFrontCacheAndArcusFailedAndForceFrontCachingIsTrue() {
-    arcusCache.getCacheConfiguration().enableForcingFrontCache();
-    returnOriginDataIfArcusFailedInPutIfAbsent();
+        .set(arcusKey, 2, FRONT_EXPIRE_SECONDS);
+    verify(arcusFrontCache, never())
+        .get(arcusKey);
   }
 
   @Test
-  void throwExceptionIfPutIfAbsentHasException() {
-     // given
-    TestException exception = null;
+  void retryComputeIfChangedByAnotherRequest() throws Exception {
+    // given
     arcusCache.getCacheConfiguration()
-            .withArcusFrontCache(arcusFrontCache)
             .withExpireSeconds(EXPIRE_SECONDS)
-            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
-            .enableGettingException();
-    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
-        .thenThrow(new TestException());
-    when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(VALUE));
+            .withComputeRetries(1, 0L);
+    GetFuture<CASValue<Object>> firstGetsFuture = createGetsFuture(new CASValue<>(CAS_ID, 1));
+    GetFuture<CASValue<Object>> secondGetsFuture = createGetsFuture(new CASValue<>(CAS_ID + 1, 3));
+    OperationFuture<CASResponse> existsFuture = createCasFuture(CASResponse.EXISTS);
+    OperationFuture<CASResponse> okFuture = createCasFuture(CASResponse.OK);
+    when(arcusClientPool.asyncGets(arcusKey))
+        .thenReturn(firstGetsFuture)
+        .thenReturn(secondGetsFuture);
+    when(arcusClientPool.asyncCAS(arcusKey, CAS_ID, EXPIRE_SECONDS, 2))
+        .thenReturn(existsFuture);
+    when(arcusClientPool.asyncCAS(arcusKey, CAS_ID + 1, EXPIRE_SECONDS, 4))
+        .thenReturn(okFuture);
 
     // when
-    try {
-      arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
-    } catch (TestException e) {
-      exception = e;
-    }
+    Integer value = arcusCache.<Integer>compute(ARCUS_STRING_KEY, (key, oldValue) -> oldValue + 1);
 
     // then
-    verify(arcusClientPool, times(1))
-        .add(arcusKey, EXPIRE_SECONDS, VALUE);
-    verify(arcusClientPool, never())
-        .asyncGet(arcusKey);
-    verify(arcusFrontCache, never())
-        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
-    assertNotNull(exception);
+    assertEquals(4, value);
+    assertEquals(1L, arcusCache.getStatistics().getPuts());
+    assertEquals(0L, arcusCache.getStatistics().getFailures());
   }
 
   @Test
-  void throwExceptionIfPutIfAbsentHasExceptionWithForceFrontCaching() {
-    arcusCache.getCacheConfiguration().enableForcingFrontCache();
-    throwExceptionIfPutIfAbsentHasException();
+  void throwExceptionIfComputeRetriesAreExceeded() throws Exception {
+    // given
+    arcusCache.getCacheConfiguration()
+            .withExpireSeconds(EXPIRE_SECONDS)
+            .withComputeRetries(0, 0L);
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(new CASValue<>(CAS_ID, 1));
+    OperationFuture<CASResponse> casFuture = createCasFuture(CASResponse.EXISTS);
+    when(arcusClientPool.asyncGets(arcusKey))
+        .thenReturn(getsFuture);
+    when(arcusClientPool.asyncCAS(arcusKey, CAS_ID, EXPIRE_SECONDS, 2))
+        .thenReturn(casFuture);
+
+    // when
+    assertThrows(OptimisticLockingFailureException.class,
+        () -> arcusCache.<Integer>compute(ARCUS_STRING_KEY, (key, oldValue) -> oldValue + 1));
   }
 
   @Test
-  void throwExceptionIfPutIfAbsentHasFutureException() {
-     // given
-    TestException exception = null;
+  void mergeAddsValueIfAbsent() throws Exception {
+    // given
     arcusCache.getCacheConfiguration()
-            .withArcusFrontCache(arcusFrontCache)
-            .withExpireSeconds(EXPIRE_SECONDS)
-            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
-            .enableGettingException();
-    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, VALUE))
-        .thenReturn(createOperationFutureException());
-    when(arcusClientPool.asyncGet(arcusKey))
-        .thenReturn(createGetFuture(VALUE));
+            .withExpireSeconds(EXPIRE_SECONDS);
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(null);
+    when(arcusClientPool.asyncGets(arcusKey))
+        .thenReturn(getsFuture);
+    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, 1))
+        .thenReturn(createOperationFuture(true));
 
     // when
-    try {
-      arcusCache.putIfAbsent(ARCUS_STRING_KEY, VALUE);
-    } catch (TestException e) {
-      exception = e;
-    }
+    Integer value = arcusCache.merge(ARCUS_STRING_KEY, 1, Integer::sum);
 
     // then
-    verify(arcusClientPool, times(1))
-        .add(arcusKey, EXPIRE_SECONDS, VALUE);
+    assertEquals(1, value);
     verify(arcusClientPool, never())
-        .asyncGet(arcusKey);
-    verify(arcusFrontCache, never())
-        .set(arcusKey, VALUE, FRONT_EXPIRE_SECONDS);
-    assertNotNull(exception);
+        .asyncCAS(anyString(), anyLong(), anyInt(), any());
   }
 
   @Test
-  void throwExceptionIfPutIfAbsentHasFutureExceptionWithForceFrontCaching() {
-    arcusCache.getCacheConfiguration().enableForcingFrontCache();
-    throwExceptionIfPutIfAbsentHasFutureException();
+  void computeIfPresentDoesNothingIfAbsent() throws Exception {
+    // given
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(null);
+    when(arcusClientPool.asyncGets(arcusKey))
+        .thenReturn(getsFuture);
+
+    // when
+    Integer value = arcusCache.<Integer>computeIfPresent(ARCUS_STRING_KEY, (key, oldValue) -> oldValue + 1);
+
+    // then
+    assertNull(value);
+    verify(arcusClientPool, never())
+        .add(anyString(), anyInt(), any());
+    verify(arcusClientPool, never())
+        .asyncCAS(anyString(), anyLong(), anyInt(), any());
   }
 
   @Test
-  void putNullIfAbsent() {
+  void computeDeletesIfFunctionReturnsNull() throws Exception {
     // given
-    Exception exception = null;
     arcusCache.getCacheConfiguration()
-            .withArcusFrontCache(arcusFrontCache)
-            .withExpireSeconds(EXPIRE_SECONDS)
-            .withFrontExpireSeconds(FRONT_EXPIRE_SECONDS)
-            .enableGettingException();
-    when(arcusClientPool.add(arcusKey, EXPIRE_SECONDS, NullValue.INSTANCE))
-            .thenReturn(createOperationFuture(true));
+            .withArcusFrontCache(arcusFrontCache);
+    GetFuture<CASValue<Object>> getsFuture = createGetsFuture(new CASValue<>(CAS_ID, 1));
+    when(arcusClientPool.asyncGets(arcusKey))
+        .thenReturn(getsFuture);
+    when(arcusClientPool.delete(arcusKey))
+        .thenReturn(createOperationFuture(true));
 
     // when
-    try {
-      arcusCache.putIfAbsent(ARCUS_STRING_KEY, null);
-    } catch (Exception e) {
-      exception = e;
-    }
+    Integer value = arcusCache.<Integer>compute(ARCUS_STRING_KEY, (key, oldValue) -> null);
 
     // then
+    assertNull(value);
     verify(arcusClientPool, times(1))
-            .add(arcusKey, EXPIRE_SECONDS, NullValue.INSTANCE);
+        .delete(arcusKey);
     verify(arcusFrontCache, times(1))
-            .set(arcusKey, NullValue.INSTANCE, FRONT_EXPIRE_SECONDS);
-    verify(arcusClientPool, never())
-            .asyncGet(arcusKey);
-    assertNull(exception);
+        .delete(arcusKey);
   }
 
   private static GetFuture<Object> createGetFuture(final Object value) {
@@ -1408,6 +3513,50 @@ class ArcusCacheTest {
     };
   }
 
+  private static BulkFuture<Map<String, Object>> createBulkFuture(final Map<String, Object> values) {
+    return new BulkFuture<Map<String, Object>>() {
+      @Override
+      public boolean isTimeout() {
+        return false;
+      }
+
+      @Override
+      public Map<String, Object> getSome(long timeout, TimeUnit unit) {
+        return values;
+      }
+
+      @Override
+      public int getOpCount() {
+        return 1;
+      }
+
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return false;
+      }
+
+      @Override
+      public boolean isDone() {
+        return true;
+      }
+
+      @Override
+      public Map<String, Object> get() {
+        return values;
+      }
+
+      @Override
+      public Map<String, Object> get(long timeout, TimeUnit unit) {
+        return values;
+      }
+    };
+  }
+
   private static GetFuture<Object> createGetFutureException() {
     return new GetFuture<Object>(null, 0) {
       @Override
@@ -1479,6 +3628,73 @@ class ArcusCacheTest {
     };
   }
 
+  private static OperationFuture<Long> createLongOperationFuture(final Long value) {
+    return new OperationFuture<Long>(null, 0) {
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return false;
+      }
+
+      @Override
+      public boolean isDone() {
+        return false;
+      }
+
+      @Override
+      public Long get() {
+        return value;
+      }
+
+      @Override
+      public Long get(long timeout, TimeUnit unit) {
+        return value;
+      }
+
+      @Override
+      public OperationStatus getStatus() {
+        if (value >= 0) {
+          return new OperationStatus(true, "OK", StatusCode.SUCCESS);
+        }
+        return new OperationStatus(false, "UNDEFINED", StatusCode.UNDEFINED);
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CollectionFuture<CollectionAttributes> createAttributeFuture(@Nullable Integer expireTime)
+      throws Exception {
+    CollectionFuture<CollectionAttributes> future = mock(CollectionFuture.class);
+    CollectionAttributes attributes = null;
+    if (expireTime != null) {
+      attributes = new CollectionAttributes();
+      attributes.setExpireTime(expireTime);
+    }
+    when(future.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(attributes);
+    return future;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static GetFuture<CASValue<Object>> createGetsFuture(@Nullable CASValue<Object> value) throws Exception {
+    GetFuture<CASValue<Object>> future = mock(GetFuture.class);
+    when(future.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(value);
+    return future;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static OperationFuture<CASResponse> createCasFuture(CASResponse response) throws Exception {
+    OperationFuture<CASResponse> future = mock(OperationFuture.class);
+    when(future.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(response);
+    return future;
+  }
+
   private static OperationFuture<Boolean> createOperationFutureException() {
     return new OperationFuture<Boolean>(null, 0) {
       @Override
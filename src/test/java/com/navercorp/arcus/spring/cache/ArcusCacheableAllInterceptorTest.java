@@ -0,0 +1,464 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import net.spy.memcached.ArcusClientPool;
+import net.spy.memcached.internal.BulkFuture;
+import net.spy.memcached.internal.OperationFuture;
+import net.spy.memcached.ops.OperationStatus;
+import net.spy.memcached.ops.StatusCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArcusCacheableAllInterceptorTest {
+
+  private static final String ID1 = "1";
+  private static final String ID2 = "2";
+  private static final String ID3 = "3";
+  private static final String VALUE = "VALUE";
+  private static final int EXPIRE_SECONDS = 100;
+
+  private ArcusClientPool arcusClientPool;
+  private ArcusFrontCache arcusFrontCache;
+  private ArcusCache arcusCache;
+  private String arcusKey1;
+  private String arcusKey2;
+  private String arcusKey3;
+  private ProductService productService;
+  private List<Collection<String>> invocations;
+
+  @BeforeEach
+  void before() {
+    arcusClientPool = mock(ArcusClientPool.class);
+    arcusFrontCache = mock(ArcusFrontCache.class);
+
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .withServiceId("SERVICEID")
+        .withPrefix("PREFIX")
+        .withExpireSeconds(EXPIRE_SECONDS);
+    arcusCache = new ArcusCache("test", arcusClientPool, config);
+    arcusKey1 = arcusCache.createArcusKey(ID1);
+    arcusKey2 = arcusCache.createArcusKey(ID2);
+    arcusKey3 = arcusCache.createArcusKey(ID3);
+
+    SimpleCacheManager cacheManager = new SimpleCacheManager();
+    cacheManager.setCaches(Collections.singletonList(arcusCache));
+    cacheManager.afterPropertiesSet();
+
+    invocations = new ArrayList<>();
+    ProxyFactory proxyFactory = new ProxyFactory(new DefaultProductService(invocations));
+    proxyFactory.addAdvice(new ArcusCacheableAllInterceptor(cacheManager));
+    productService = (ProductService) proxyFactory.getProxy();
+  }
+
+  @Test
+  void getAllFromCacheWithoutInvocation() {
+    // given
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey1, VALUE + ID1);
+    values.put(arcusKey2, VALUE + ID2);
+    when(arcusClientPool.asyncGetBulk(Arrays.asList(arcusKey1, arcusKey2)))
+        .thenReturn(createBulkFuture(values));
+
+    // when
+    Map<String, String> result = productService.getAll(Arrays.asList(ID1, ID2));
+
+    // then
+    assertEquals(Arrays.asList(ID1, ID2), new ArrayList<>(result.keySet()));
+    assertEquals(VALUE + ID2, result.get(ID2));
+    assertTrue(invocations.isEmpty());
+    verify(arcusClientPool, never())
+        .set(anyString(), anyInt(), any());
+  }
+
+  @Test
+  void invokeWithMissingIdsAndPutLoadedValues() {
+    // given
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey2, VALUE + ID2);
+    when(arcusClientPool.asyncGetBulk(Arrays.asList(arcusKey1, arcusKey2, arcusKey3)))
+        .thenReturn(createBulkFuture(values));
+    OperationFuture<Boolean> future1 = createOperationFuture(true);
+    OperationFuture<Boolean> future3 = createOperationFuture(true);
+    when(arcusClientPool.set(arcusKey1, EXPIRE_SECONDS, VALUE + ID1))
+        .thenReturn(future1);
+    when(arcusClientPool.set(arcusKey3, EXPIRE_SECONDS, VALUE + ID3))
+        .thenReturn(future3);
+
+    // when
+    Map<String, String> result = productService.getAll(Arrays.asList(ID1, ID2, ID3, ID1));
+
+    // then
+    assertEquals(Collections.singletonList(Arrays.asList(ID1, ID3)), invocations);
+    assertEquals(Arrays.asList(ID1, ID2, ID3), new ArrayList<>(result.keySet()));
+    assertEquals(VALUE + ID1, result.get(ID1));
+    assertEquals(VALUE + ID2, result.get(ID2));
+    assertEquals(VALUE + ID3, result.get(ID3));
+    verify(arcusClientPool, times(1))
+        .set(arcusKey1, EXPIRE_SECONDS, VALUE + ID1);
+    verify(arcusClientPool, times(1))
+        .set(arcusKey3, EXPIRE_SECONDS, VALUE + ID3);
+  }
+
+  @Test
+  void getAllFromFrontCacheAndArcus() {
+    // given
+    arcusCache.getCacheConfiguration().withArcusFrontCache(arcusFrontCache);
+    when(arcusFrontCache.get(arcusKey1))
+        .thenReturn(VALUE + ID1);
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey2, VALUE + ID2);
+    when(arcusClientPool.asyncGetBulk(Collections.singletonList(arcusKey2)))
+        .thenReturn(createBulkFuture(values));
+
+    // when
+    Map<String, String> result = productService.getAll(Arrays.asList(ID1, ID2));
+
+    // then
+    assertEquals(2, result.size());
+    assertTrue(invocations.isEmpty());
+  }
+
+  @Test
+  void excludeCachedNullValuesWithoutInvocation() {
+    // given
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey1, VALUE + ID1);
+    values.put(arcusKey2, NullValue.INSTANCE);
+    when(arcusClientPool.asyncGetBulk(Arrays.asList(arcusKey1, arcusKey2)))
+        .thenReturn(createBulkFuture(values));
+
+    // when
+    Map<String, String> result = productService.getAll(Arrays.asList(ID1, ID2));
+
+    // then
+    assertEquals(Collections.singleton(ID1), result.keySet());
+    assertTrue(invocations.isEmpty());
+  }
+
+  @Test
+  void notPutIdsNotReturnedByMethod() {
+    // given
+    when(arcusClientPool.asyncGetBulk(Collections.singletonList(arcusKey1)))
+        .thenReturn(createBulkFuture(Collections.emptyMap()));
+
+    // when
+    Map<String, String> result = productService.getAllExisting(Collections.singleton(ID1));
+
+    // then
+    assertTrue(result.isEmpty());
+    assertEquals(Collections.singletonList(Collections.singleton(ID1)), invocations);
+    verify(arcusClientPool, never())
+        .set(anyString(), anyInt(), any());
+  }
+
+  @Test
+  void proceedWithoutAnnotation() {
+    // when
+    Map<String, String> result = productService.getAllWithoutCache(Collections.singletonList(ID1));
+
+    // then
+    assertEquals(VALUE + ID1, result.get(ID1));
+    assertEquals(1, invocations.size());
+    verify(arcusClientPool, never())
+        .asyncGetBulk(anyList());
+  }
+
+  @Test
+  void throwExceptionIfCacheIsNotFound() {
+    // when & then
+    assertThrows(IllegalStateException.class,
+        () -> productService.getAllFromMissingCache(Collections.singletonList(ID1)));
+    assertTrue(invocations.isEmpty());
+  }
+
+  @Test
+  void getAllFromCacheWrappedByTransactionAwareDecorator() {
+    // given
+    SimpleCacheManager cacheManager = new SimpleCacheManager();
+    cacheManager.setCaches(Collections.singletonList(new TransactionAwareCacheDecorator(arcusCache)));
+    cacheManager.afterPropertiesSet();
+    ProxyFactory proxyFactory = new ProxyFactory(new DefaultProductService(invocations));
+    proxyFactory.addAdvice(new ArcusCacheableAllInterceptor(cacheManager));
+    ProductService transactionalService = (ProductService) proxyFactory.getProxy();
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey1, VALUE + ID1);
+    when(arcusClientPool.asyncGetBulk(Collections.singletonList(arcusKey1)))
+        .thenReturn(createBulkFuture(values));
+
+    // when
+    Map<String, String> result = transactionalService.getAll(Collections.singletonList(ID1));
+
+    // then
+    assertEquals(VALUE + ID1, result.get(ID1));
+    assertTrue(invocations.isEmpty());
+  }
+
+  @Test
+  void useCacheKeysOfKeyGenerator() {
+    // given
+    SimpleCacheManager cacheManager = new SimpleCacheManager();
+    cacheManager.setCaches(Collections.singletonList(arcusCache));
+    cacheManager.afterPropertiesSet();
+    ProxyFactory proxyFactory = new ProxyFactory(new DefaultProductService(invocations));
+    proxyFactory.addAdvice(new ArcusCacheableAllInterceptor(cacheManager, new StringKeyGenerator()));
+    ProductService keyGeneratingService = (ProductService) proxyFactory.getProxy();
+    String generatedKey1 = arcusCache.createArcusKey(StringKeyGenerator.generateKey(ID1));
+    String generatedKey2 = arcusCache.createArcusKey(StringKeyGenerator.generateKey(ID2));
+    Map<String, Object> values = new HashMap<>();
+    values.put(generatedKey1, VALUE + ID1);
+    when(arcusClientPool.asyncGetBulk(Arrays.asList(generatedKey1, generatedKey2)))
+        .thenReturn(createBulkFuture(values));
+    when(arcusClientPool.set(generatedKey2, EXPIRE_SECONDS, VALUE + ID2))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    Map<String, String> result = keyGeneratingService.getAll(Arrays.asList(ID1, ID2));
+
+    // then
+    assertEquals(Collections.singletonList(Collections.singletonList(ID2)), invocations);
+    assertEquals(VALUE + ID1, result.get(ID1));
+    assertEquals(VALUE + ID2, result.get(ID2));
+    verify(arcusClientPool, times(1))
+        .set(generatedKey2, EXPIRE_SECONDS, VALUE + ID2);
+  }
+
+  @Test
+  void throwExceptionIfIdsContainNull() {
+    // when & then
+    assertThrows(IllegalArgumentException.class,
+        () -> productService.getAll(Arrays.asList(ID1, null)));
+    assertTrue(invocations.isEmpty());
+    verify(arcusClientPool, never())
+        .asyncGetBulk(anyList());
+  }
+
+  @Test
+  void returnResultOfDeclaredMapType() {
+    // given
+    Map<String, Object> values = new HashMap<>();
+    values.put(arcusKey1, VALUE + ID1);
+    values.put(arcusKey2, VALUE + ID2);
+    when(arcusClientPool.asyncGetBulk(Arrays.asList(arcusKey2, arcusKey1)))
+        .thenReturn(createBulkFuture(values));
+
+    // when
+    SortedMap<String, String> result = productService.getAllSorted(Arrays.asList(ID2, ID1));
+
+    // then
+    assertTrue(result instanceof TreeMap);
+    assertEquals(Arrays.asList(ID1, ID2), new ArrayList<>(result.keySet()));
+    assertTrue(invocations.isEmpty());
+  }
+
+  @Test
+  void throwExceptionIfMapTypeCannotBeCreated() {
+    // when & then
+    assertThrows(IllegalStateException.class,
+        () -> productService.getAllConcurrent(Collections.singletonList(ID1)));
+    assertTrue(invocations.isEmpty());
+    verify(arcusClientPool, never())
+        .asyncGetBulk(anyList());
+  }
+
+  interface ProductService {
+    Map<String, String> getAll(List<String> ids);
+
+    SortedMap<String, String> getAllSorted(List<String> ids);
+
+    ConcurrentMap<String, String> getAllConcurrent(List<String> ids);
+
+    Map<String, String> getAllExisting(Set<String> ids);
+
+    Map<String, String> getAllWithoutCache(List<String> ids);
+
+    Map<String, String> getAllFromMissingCache(List<String> ids);
+  }
+
+  static class DefaultProductService implements ProductService {
+    private final List<Collection<String>> invocations;
+
+    DefaultProductService(List<Collection<String>> invocations) {
+      this.invocations = invocations;
+    }
+
+    @Override
+    @ArcusCacheableAll("test")
+    public Map<String, String> getAll(List<String> ids) {
+      return load(ids);
+    }
+
+    @Override
+    @ArcusCacheableAll("test")
+    public SortedMap<String, String> getAllSorted(List<String> ids) {
+      return new TreeMap<>(load(ids));
+    }
+
+    @Override
+    @ArcusCacheableAll("test")
+    public ConcurrentMap<String, String> getAllConcurrent(List<String> ids) {
+      return new ConcurrentHashMap<>(load(ids));
+    }
+
+    @Override
+    @ArcusCacheableAll(cacheName = "test")
+    public Map<String, String> getAllExisting(Set<String> ids) {
+      invocations.add(ids);
+      return Collections.emptyMap();
+    }
+
+    @Override
+    public Map<String, String> getAllWithoutCache(List<String> ids) {
+      return load(ids);
+    }
+
+    @Override
+    @ArcusCacheableAll("missing")
+    public Map<String, String> getAllFromMissingCache(List<String> ids) {
+      return load(ids);
+    }
+
+    private Map<String, String> load(List<String> ids) {
+      invocations.add(ids);
+      Map<String, String> values = new LinkedHashMap<>();
+      for (String id : ids) {
+        values.put(id, VALUE + id);
+      }
+      return values;
+    }
+  }
+
+  private static BulkFuture<Map<String, Object>> createBulkFuture(final Map<String, Object> values) {
+    return new BulkFuture<Map<String, Object>>() {
+      @Override
+      public boolean isTimeout() {
+        return false;
+      }
+
+      @Override
+      public Map<String, Object> getSome(long timeout, TimeUnit unit) {
+        return values;
+      }
+
+      @Override
+      public int getOpCount() {
+        return 1;
+      }
+
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return false;
+      }
+
+      @Override
+      public boolean isDone() {
+        return true;
+      }
+
+      @Override
+      public Map<String, Object> get() {
+        return values;
+      }
+
+      @Override
+      public Map<String, Object> get(long timeout, TimeUnit unit) {
+        return values;
+      }
+    };
+  }
+
+  private static OperationFuture<Boolean> createOperationFuture(final Boolean value) {
+    return new OperationFuture<Boolean>(null, 0) {
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return false;
+      }
+
+      @Override
+      public boolean isDone() {
+        return false;
+      }
+
+      @Override
+      public Boolean get() {
+        return value;
+      }
+
+      @Override
+      public Boolean get(long timeout, TimeUnit unit) {
+        return value;
+      }
+
+      @Override
+      public OperationStatus getStatus() {
+        if (value) {
+          return new OperationStatus(true, "OK", StatusCode.SUCCESS);
+        }
+        return new OperationStatus(false, "UNDEFINED", StatusCode.UNDEFINED);
+      }
+    };
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArcusCircuitBreakerTest {
+
+  private static final int WINDOW_SIZE = 10;
+  private static final long OPEN_MILLISECONDS = 50L;
+
+  private ArcusCircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void before() {
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .enableCircuitBreaker(50, WINDOW_SIZE, OPEN_MILLISECONDS);
+    circuitBreaker = new ArcusCircuitBreaker("test", config);
+  }
+
+  @Test
+  void keepClosedIfFailureRateIsBelowThreshold() {
+    // when
+    record(WINDOW_SIZE / 2 - 1, WINDOW_SIZE / 2 + 1);
+
+    // then
+    assertEquals(ArcusCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertTrue(circuitBreaker.tryAcquirePermission());
+  }
+
+  @Test
+  void openIfFailureRateReachesThreshold() {
+    // when
+    record(WINDOW_SIZE / 2, WINDOW_SIZE / 2);
+
+    // then
+    assertEquals(ArcusCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+  }
+
+  @Test
+  void closeIfProbesSucceed() throws InterruptedException {
+    // given
+    record(WINDOW_SIZE, 0);
+    TimeUnit.MILLISECONDS.sleep(OPEN_MILLISECONDS * 2);
+
+    // when
+    for (int i = 0; i < ArcusCircuitBreaker.HALF_OPEN_PROBES; i++) {
+      assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+    assertFalse(circuitBreaker.tryAcquirePermission());
+    assertEquals(ArcusCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    record(0, ArcusCircuitBreaker.HALF_OPEN_PROBES);
+
+    // then
+    assertEquals(ArcusCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertTrue(circuitBreaker.tryAcquirePermission());
+  }
+
+  @Test
+  void openAgainIfProbesFail() throws InterruptedException {
+    // given
+    record(WINDOW_SIZE, 0);
+    TimeUnit.MILLISECONDS.sleep(OPEN_MILLISECONDS * 2);
+
+    // when
+    for (int i = 0; i < ArcusCircuitBreaker.HALF_OPEN_PROBES; i++) {
+      assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+    record(ArcusCircuitBreaker.HALF_OPEN_PROBES, 0);
+
+    // then
+    assertEquals(ArcusCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+  }
+
+  private void record(int failures, int successes) {
+    for (int i = 0; i < failures; i++) {
+      circuitBreaker.onFailure();
+    }
+    for (int i = 0; i < successes; i++) {
+      circuitBreaker.onSuccess();
+    }
+  }
+
+}
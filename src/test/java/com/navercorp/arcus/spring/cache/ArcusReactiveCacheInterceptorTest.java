@@ -0,0 +1,398 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.spy.memcached.ArcusClientPool;
+import net.spy.memcached.internal.GetFuture;
+import net.spy.memcached.internal.OperationFuture;
+import net.spy.memcached.ops.OperationStatus;
+import net.spy.memcached.ops.StatusCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArcusReactiveCacheInterceptorTest {
+
+  private static final String KEY = "KEY";
+  private static final String VALUE = "VALUE";
+  private static final int EXPIRE_SECONDS = 100;
+
+  private ArcusClientPool arcusClientPool;
+  private ArcusFrontCache arcusFrontCache;
+  private ArcusCache arcusCache;
+  private String arcusKey;
+  private ProductService productService;
+  private AtomicInteger invocations;
+
+  @BeforeEach
+  void before() {
+    arcusClientPool = mock(ArcusClientPool.class);
+    arcusFrontCache = mock(ArcusFrontCache.class);
+
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .withServiceId("SERVICEID")
+        .withPrefix("PREFIX")
+        .withExpireSeconds(EXPIRE_SECONDS)
+        .withAsyncExecutor(Runnable::run);
+    arcusCache = new ArcusCache("test", arcusClientPool, config);
+    arcusKey = arcusCache.createArcusKey(KEY);
+
+    invocations = new AtomicInteger();
+    productService = createProductService(arcusCache);
+  }
+
+  private ProductService createProductService(Cache cache) {
+    SimpleCacheManager cacheManager = new SimpleCacheManager();
+    cacheManager.setCaches(Collections.singletonList(cache));
+    cacheManager.afterPropertiesSet();
+
+    ArcusReactiveCacheInterceptor interceptor = new ArcusReactiveCacheInterceptor();
+    interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+    interceptor.setCacheManager(cacheManager);
+    interceptor.afterPropertiesSet();
+    interceptor.afterSingletonsInstantiated();
+
+    ProxyFactory proxyFactory = new ProxyFactory(new DefaultProductService(invocations));
+    proxyFactory.addAdvice(interceptor);
+    return (ProductService) proxyFactory.getProxy();
+  }
+
+  @Test
+  void getMonoFromCache() {
+    // given
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    String value = productService.getMono(KEY).block();
+
+    // then
+    assertEquals(VALUE, value);
+    assertEquals(0, invocations.get());
+    verify(arcusClientPool, never())
+        .set(anyString(), anyInt(), any());
+  }
+
+  @Test
+  void getMonoFromCacheWrappedByTransactionAwareDecorator() {
+    // given
+    ProductService transactionalService = createProductService(new TransactionAwareCacheDecorator(arcusCache));
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    String value = transactionalService.getMono(KEY).block();
+
+    // then
+    assertEquals(VALUE, value);
+    assertEquals(1, invocations.get());
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+  }
+
+  @Test
+  void getMonoFromFrontCache() {
+    // given
+    arcusCache.getCacheConfiguration().withArcusFrontCache(arcusFrontCache);
+    when(arcusFrontCache.get(arcusKey))
+        .thenReturn(VALUE);
+
+    // when
+    String value = productService.getMono(KEY).block();
+
+    // then
+    assertEquals(VALUE, value);
+    assertEquals(0, invocations.get());
+    verify(arcusClientPool, never())
+        .asyncGet(arcusKey);
+  }
+
+  @Test
+  void getMonoAndPutIfNotExists() {
+    // given
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, VALUE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    String value = productService.getMono(KEY).block();
+
+    // then
+    assertEquals(VALUE, value);
+    assertEquals(1, invocations.get());
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, VALUE);
+  }
+
+  @Test
+  void getEmptyMonoAndPutNullValue() {
+    // given
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, NullValue.INSTANCE))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    String value = productService.getEmptyMono(KEY).block();
+
+    // then
+    assertNull(value);
+    assertEquals(1, invocations.get());
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, NullValue.INSTANCE);
+  }
+
+  @Test
+  void getEmptyMonoFromCache() {
+    // given
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(NullValue.INSTANCE));
+
+    // when
+    String value = productService.getEmptyMono(KEY).block();
+
+    // then
+    assertNull(value);
+    assertEquals(0, invocations.get());
+  }
+
+  @Test
+  void getFluxFromCache() {
+    // given
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(Arrays.asList(VALUE, VALUE)));
+
+    // when
+    List<String> values = productService.getFlux(KEY).collectList().block();
+
+    // then
+    assertEquals(Arrays.asList(VALUE, VALUE), values);
+    assertEquals(0, invocations.get());
+  }
+
+  @Test
+  void getFluxAndPutCollectedValuesOnce() {
+    // given
+    List<String> expected = Arrays.asList(VALUE, VALUE);
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(null));
+    when(arcusClientPool.set(arcusKey, EXPIRE_SECONDS, expected))
+        .thenReturn(createOperationFuture(true));
+
+    // when
+    List<String> values = productService.getFlux(KEY).collectList().block();
+
+    // then
+    assertEquals(expected, values);
+    assertEquals(1, invocations.get());
+    verify(arcusClientPool, times(1))
+        .set(arcusKey, EXPIRE_SECONDS, expected);
+  }
+
+  @Test
+  void getMonoWithoutCachingIfConditionFails() {
+    // when
+    String value = productService.getMonoWithCondition("").block();
+
+    // then
+    assertEquals(VALUE, value);
+    assertEquals(1, invocations.get());
+    verify(arcusClientPool, never())
+        .asyncGet(anyString());
+  }
+
+  @Test
+  void getNonReactiveValueFromCache() {
+    // given
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenReturn(createGetFuture(VALUE));
+
+    // when
+    String value = productService.get(KEY);
+
+    // then
+    assertEquals(VALUE, value);
+    assertEquals(0, invocations.get());
+  }
+
+  interface ProductService {
+    Mono<String> getMono(String id);
+
+    Mono<String> getEmptyMono(String id);
+
+    Mono<String> getMonoWithCondition(String id);
+
+    Flux<String> getFlux(String id);
+
+    String get(String id);
+  }
+
+  static class DefaultProductService implements ProductService {
+    private final AtomicInteger invocations;
+
+    DefaultProductService(AtomicInteger invocations) {
+      this.invocations = invocations;
+    }
+
+    @Override
+    @Cacheable(cacheNames = "test", key = "#id")
+    public Mono<String> getMono(String id) {
+      return Mono.fromSupplier(() -> {
+        invocations.incrementAndGet();
+        return VALUE;
+      });
+    }
+
+    @Override
+    @Cacheable(cacheNames = "test", key = "#id")
+    public Mono<String> getEmptyMono(String id) {
+      return Mono.fromRunnable(invocations::incrementAndGet);
+    }
+
+    @Override
+    @Cacheable(cacheNames = "test", key = "#id", condition = "#id.length() > 0")
+    public Mono<String> getMonoWithCondition(String id) {
+      return Mono.fromSupplier(() -> {
+        invocations.incrementAndGet();
+        return VALUE;
+      });
+    }
+
+    @Override
+    @Cacheable(cacheNames = "test", key = "#id")
+    public Flux<String> getFlux(String id) {
+      return Flux.defer(() -> {
+        invocations.incrementAndGet();
+        return Flux.just(VALUE, VALUE);
+      });
+    }
+
+    @Override
+    @Cacheable(cacheNames = "test", key = "#id")
+    public String get(String id) {
+      invocations.incrementAndGet();
+      return VALUE;
+    }
+  }
+
+  private static GetFuture<Object> createGetFuture(final Object value) {
+    return new GetFuture<Object>(null, 0) {
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return false;
+      }
+
+      @Override
+      public boolean isDone() {
+        return false;
+      }
+
+      @Override
+      public Object get() {
+        return value;
+      }
+
+      @Override
+      public Object get(long timeout, TimeUnit unit) {
+        return value;
+      }
+
+      @Override
+      public OperationStatus getStatus() {
+        return new OperationStatus(true, "END", StatusCode.SUCCESS);
+      }
+    };
+  }
+
+  private static OperationFuture<Boolean> createOperationFuture(final Boolean value) {
+    return new OperationFuture<Boolean>(null, 0) {
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return false;
+      }
+
+      @Override
+      public boolean isDone() {
+        return false;
+      }
+
+      @Override
+      public Boolean get() {
+        return value;
+      }
+
+      @Override
+      public Boolean get(long timeout, TimeUnit unit) {
+        return value;
+      }
+
+      @Override
+      public OperationStatus getStatus() {
+        if (value) {
+          return new OperationStatus(true, "OK", StatusCode.SUCCESS);
+        }
+        return new OperationStatus(false, "UNDEFINED", StatusCode.UNDEFINED);
+      }
+    };
+  }
+
+}
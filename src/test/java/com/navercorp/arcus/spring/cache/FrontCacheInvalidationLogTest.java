@@ -0,0 +1,299 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache;
+
+import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import net.spy.memcached.ArcusClientPool;
+import net.spy.memcached.collection.CollectionAttributes;
+import net.spy.memcached.collection.Element;
+import net.spy.memcached.collection.ElementFlagFilter;
+import net.spy.memcached.internal.CollectionFuture;
+import net.spy.memcached.internal.OperationFuture;
+import net.spy.memcached.ops.CollectionOperationStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FrontCacheInvalidationLogTest {
+
+  private static final String LOG_KEY = "SERVICEIDPREFIX_invalidation:log";
+  private static final String SEQUENCE_KEY = "SERVICEIDPREFIX_invalidation:sequence";
+
+  private ArcusClientPool arcusClientPool;
+  private ArcusFrontCache arcusFrontCache;
+  private TestGate gate;
+  private FrontCacheInvalidationLog invalidationLog;
+
+  @BeforeEach
+  void before() {
+    arcusClientPool = mock(ArcusClientPool.class);
+    arcusFrontCache = mock(ArcusFrontCache.class);
+
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .withServiceId("SERVICEID")
+        .withPrefix("PREFIX")
+        .withArcusFrontCache(arcusFrontCache)
+        .enableFrontCacheInvalidation(1000L);
+    gate = new TestGate();
+    invalidationLog = new FrontCacheInvalidationLog(arcusClientPool, config, Runnable::run, gate, "SERVICEIDPREFIX");
+  }
+
+  @Test
+  void skipRequestsWithoutPermission() {
+    // given
+    gate.permitted = false;
+
+    // when
+    invalidationLog.append(Arrays.asList("KEY1", "KEY2"));
+    invalidationLog.flush();
+    invalidationLog.tail();
+
+    // then
+    verify(arcusClientPool, never())
+        .asyncIncr(any(String.class), any(Integer.class), anyLong(), any(Integer.class));
+    assertEquals(0, gate.successes);
+    assertEquals(0, gate.failures);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void appendLogsWithSequences() throws Exception {
+    // given
+    OperationFuture<Long> sequenceFuture = createSequenceFuture(5L);
+    when(arcusClientPool.asyncIncr(eq(SEQUENCE_KEY), eq(2), anyLong(), eq(0)))
+        .thenReturn(sequenceFuture);
+    CollectionFuture<Map<Integer, CollectionOperationStatus>> insertFuture = mock(CollectionFuture.class);
+    when(insertFuture.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(Collections.emptyMap());
+    when(arcusClientPool.asyncBopPipedInsertBulk(eq(LOG_KEY), any(Map.class), any(CollectionAttributes.class)))
+        .thenReturn(insertFuture);
+
+    // when
+    invalidationLog.append(Collections.singletonList("KEY1"));
+    invalidationLog.append(Arrays.asList("KEY2", "KEY1"));
+
+    // then
+    verify(arcusClientPool, never())
+        .asyncIncr(any(String.class), any(Integer.class), anyLong(), any(Integer.class));
+
+    // when
+    invalidationLog.flush();
+
+    // then
+    verify(arcusClientPool, times(1))
+        .asyncIncr(any(String.class), any(Integer.class), anyLong(), any(Integer.class));
+    ArgumentCaptor<Map<Long, Object>> captor = ArgumentCaptor.forClass(Map.class);
+    verify(arcusClientPool, times(1))
+        .asyncBopPipedInsertBulk(eq(LOG_KEY), captor.capture(), any(CollectionAttributes.class));
+    Map<Long, Object> elements = captor.getValue();
+    assertEquals(Arrays.asList(4L, 5L), Arrays.asList(elements.keySet().toArray()));
+    assertTrue(((String) elements.get(4L)).endsWith(" KEY1"));
+    assertTrue(((String) elements.get(5L)).endsWith(" KEY2"));
+  }
+
+  @Test
+  void deleteKeysAppendedByOthers() throws Exception {
+    // given
+    OperationFuture<Long> first = createSequenceFuture(10L);
+    OperationFuture<Long> second = createSequenceFuture(12L);
+    when(arcusClientPool.asyncIncr(eq(SEQUENCE_KEY), eq(0), anyLong(), eq(0)))
+        .thenReturn(first)
+        .thenReturn(second);
+    Map<Long, Element<Object>> elements = new LinkedHashMap<>();
+    elements.put(11L, new Element<>(11L, (Object) "OTHER KEY1", (byte[]) null));
+    elements.put(12L, new Element<>(12L, (Object) "OTHER KEY2", (byte[]) null));
+    CollectionFuture<Map<Long, Element<Object>>> getFuture = createGetFuture(elements);
+    when(arcusClientPool.asyncBopGet(LOG_KEY, 11L, 12L, ElementFlagFilter.DO_NOT_FILTER, 0,
+        FrontCacheInvalidationLog.MAX_COUNT, false, false))
+        .thenReturn(getFuture);
+
+    // when
+    invalidationLog.tail();
+    invalidationLog.tail();
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .delete("KEY1");
+    verify(arcusFrontCache, times(1))
+        .delete("KEY2");
+    verify(arcusFrontCache, never())
+        .clear();
+    assertEquals(2, gate.successes);
+    assertEquals(0, gate.failures);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void doNotDeleteKeysAppendedBySelf() throws Exception {
+    // given
+    OperationFuture<Long> appendSequence = createSequenceFuture(11L);
+    when(arcusClientPool.asyncIncr(eq(SEQUENCE_KEY), eq(1), anyLong(), eq(0)))
+        .thenReturn(appendSequence);
+    CollectionFuture<Map<Integer, CollectionOperationStatus>> insertFuture = mock(CollectionFuture.class);
+    when(insertFuture.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(Collections.emptyMap());
+    when(arcusClientPool.asyncBopPipedInsertBulk(eq(LOG_KEY), any(Map.class), any(CollectionAttributes.class)))
+        .thenReturn(insertFuture);
+    invalidationLog.append(Collections.singletonList("KEY1"));
+    invalidationLog.flush();
+    ArgumentCaptor<Map<Long, Object>> captor = ArgumentCaptor.forClass(Map.class);
+    verify(arcusClientPool).asyncBopPipedInsertBulk(eq(LOG_KEY), captor.capture(), any(CollectionAttributes.class));
+
+    OperationFuture<Long> first = createSequenceFuture(10L);
+    OperationFuture<Long> second = createSequenceFuture(11L);
+    when(arcusClientPool.asyncIncr(eq(SEQUENCE_KEY), eq(0), anyLong(), eq(0)))
+        .thenReturn(first)
+        .thenReturn(second);
+    Map<Long, Element<Object>> elements = new LinkedHashMap<>();
+    elements.put(11L, new Element<>(11L, captor.getValue().get(11L), (byte[]) null));
+    CollectionFuture<Map<Long, Element<Object>>> getFuture = createGetFuture(elements);
+    when(arcusClientPool.asyncBopGet(LOG_KEY, 11L, 11L, ElementFlagFilter.DO_NOT_FILTER, 0,
+        FrontCacheInvalidationLog.MAX_COUNT, false, false))
+        .thenReturn(getFuture);
+
+    // when
+    invalidationLog.tail();
+    invalidationLog.tail();
+
+    // then
+    verify(arcusFrontCache, never())
+        .delete("KEY1");
+  }
+
+  @Test
+  void clearFrontCacheIfLogsAreMissed() {
+    // given
+    OperationFuture<Long> first = createSequenceFuture(10L);
+    OperationFuture<Long> second = createSequenceFuture(11L + FrontCacheInvalidationLog.MAX_COUNT);
+    when(arcusClientPool.asyncIncr(eq(SEQUENCE_KEY), eq(0), anyLong(), eq(0)))
+        .thenReturn(first)
+        .thenReturn(second);
+
+    // when
+    invalidationLog.tail();
+    invalidationLog.tail();
+
+    // then
+    verify(arcusFrontCache, times(1))
+        .clear();
+    verify(arcusClientPool, never())
+        .asyncBopGet(any(String.class), anyLong(), anyLong(), any(ElementFlagFilter.class),
+            any(Integer.class), any(Integer.class), any(Boolean.class), any(Boolean.class));
+  }
+
+  @Test
+  void pollInAsyncExecutor() throws Exception {
+    // given
+    CountDownLatch polled = new CountDownLatch(1);
+    List<String> pollingThreads = new CopyOnWriteArrayList<>();
+    when(arcusClientPool.asyncIncr(eq(SEQUENCE_KEY), eq(0), anyLong(), eq(0)))
+        .thenAnswer(invocation -> {
+          pollingThreads.add(Thread.currentThread().getName());
+          polled.countDown();
+          return createSequenceFuture(10L);
+        });
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .withArcusFrontCache(arcusFrontCache)
+        .enableFrontCacheInvalidation(60000L);
+    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "async-executor"));
+    FrontCacheInvalidationLog scheduledLog =
+        new FrontCacheInvalidationLog(arcusClientPool, config, executor, gate, "SERVICEIDPREFIX");
+
+    try {
+      // when
+      scheduledLog.start();
+
+      // then
+      assertTrue(polled.await(3, TimeUnit.SECONDS));
+      assertEquals(Collections.singletonList("async-executor"), pollingThreads);
+    } finally {
+      scheduledLog.stop();
+      executor.shutdownNow();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CollectionFuture<Map<Long, Element<Object>>> createGetFuture(Map<Long, Element<Object>> elements)
+      throws Exception {
+    CollectionFuture<Map<Long, Element<Object>>> future = mock(CollectionFuture.class);
+    when(future.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(elements);
+    return future;
+  }
+
+  private static OperationFuture<Long> createSequenceFuture(final Long value) {
+    return new OperationFuture<Long>(null, 0) {
+      @Override
+      public Long get() {
+        return value;
+      }
+
+      @Override
+      public Long get(long timeout, TimeUnit unit) {
+        return value;
+      }
+    };
+  }
+
+  private static final class TestGate implements FrontCacheInvalidationLog.RequestGate {
+    private boolean permitted = true;
+    private int successes;
+    private int failures;
+
+    @Override
+    public boolean tryAcquirePermission() {
+      return permitted;
+    }
+
+    @Override
+    public void recordSuccess() {
+      successes++;
+    }
+
+    @Override
+    public void recordFailure(Exception e) {
+      failures++;
+    }
+  }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LookupBatcherTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+  private final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+  private final CountDownLatch holding = new CountDownLatch(1);
+  private final CountDownLatch released = new CountDownLatch(1);
+
+  @AfterEach
+  void after() {
+    released.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void loadConcurrentLookupsAtOnce() throws Exception {
+    // given
+    LookupBatcher batcher = createBatcher(TimeUnit.SECONDS.toMicros(1), 4, this::loadExceptMissing);
+    Future<Object> held = holdBatch(batcher);
+
+    // when
+    List<Future<Object>> results = lookup(batcher, "a", "b", "a", "missing");
+    released.countDown();
+
+    // then
+    assertEquals("value:a", results.get(0).get(3, TimeUnit.SECONDS));
+    assertEquals("value:b", results.get(1).get(3, TimeUnit.SECONDS));
+    assertEquals("value:a", results.get(2).get(3, TimeUnit.SECONDS));
+    assertNull(results.get(3).get(3, TimeUnit.SECONDS));
+    assertEquals("value:held", held.get(3, TimeUnit.SECONDS));
+    assertEquals(2, batches.size());
+    assertEquals(new HashSet<>(Arrays.asList("a", "b", "missing")), batches.get(1));
+  }
+
+  @Test
+  void dispatchWhenMaxKeysAreCollected() throws Exception {
+    // given
+    LookupBatcher batcher = createBatcher(TimeUnit.SECONDS.toMicros(30), 2, this::loadExceptMissing);
+    holdBatch(batcher);
+
+    // when
+    List<Future<Object>> results = lookup(batcher, "a", "b");
+
+    // then
+    assertEquals("value:a", results.get(0).get(3, TimeUnit.SECONDS));
+    assertEquals("value:b", results.get(1).get(3, TimeUnit.SECONDS));
+    assertEquals(2, batches.size());
+    assertEquals(new HashSet<>(Arrays.asList("a", "b")), batches.get(1));
+  }
+
+  @Test
+  void dispatchWithoutWaitingIfNoBatchIsLoading() throws Exception {
+    // given
+    LookupBatcher batcher = createBatcher(TimeUnit.SECONDS.toMicros(30), 10, this::loadExceptMissing);
+
+    // when
+    Future<Object> result = executor.submit(() -> batcher.get("a"));
+
+    // then
+    assertEquals("value:a", result.get(3, TimeUnit.SECONDS));
+    assertEquals(1, batches.size());
+  }
+
+  @Test
+  void collectKeysInShardsSeparately() throws Exception {
+    // given
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .enableLookupBatching(TimeUnit.SECONDS.toMicros(1), 2);
+    LookupBatcher batcher = new LookupBatcher(config, 2, keys -> {
+      batches.add(new HashSet<>(keys));
+      if (keys.contains("held")) {
+        holding.countDown();
+        assertTrue(released.await(3, TimeUnit.SECONDS));
+      }
+      return loadExceptMissing(keys);
+    });
+    assertEquals(1, Math.floorMod("c".hashCode(), 2));
+    assertEquals(0, Math.floorMod("b".hashCode(), 2));
+    assertEquals(0, Math.floorMod("d".hashCode(), 2));
+    Future<Object> held = holdBatch(batcher);
+
+    // when
+    List<Future<Object>> results = lookup(batcher, "c", "b", "d");
+    // "b" leads a batch of the other shard, so it must see the held batch still loading.
+    Thread.sleep(100L);
+    released.countDown();
+
+    // then
+    assertEquals("value:c", results.get(0).get(3, TimeUnit.SECONDS));
+    assertEquals("value:b", results.get(1).get(3, TimeUnit.SECONDS));
+    assertEquals("value:d", results.get(2).get(3, TimeUnit.SECONDS));
+    assertEquals("value:held", held.get(3, TimeUnit.SECONDS));
+    assertEquals(3, batches.size());
+    assertEquals(new HashSet<>(Arrays.asList("b", "d")), batches.get(1));
+    assertEquals(Collections.singleton("c"), batches.get(2));
+  }
+
+  @Test
+  void loadAloneAfterWindow() throws Exception {
+    // given
+    LookupBatcher batcher = createBatcher(1000L, 10, this::loadExceptMissing);
+
+    // when
+    Object value = batcher.get("a");
+
+    // then
+    assertEquals("value:a", value);
+    assertEquals(1, batches.size());
+  }
+
+  @Test
+  void propagateExceptionToEveryLookup() throws Exception {
+    // given
+    IllegalStateException exception = new IllegalStateException("failed");
+    LookupBatcher batcher = createBatcher(TimeUnit.SECONDS.toMicros(30), 2, keys -> {
+      throw exception;
+    });
+
+    // when
+    List<Future<Object>> results = lookup(batcher, "a", "b");
+
+    // then
+    for (Future<Object> result : results) {
+      ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(3, TimeUnit.SECONDS));
+      assertSame(exception, e.getCause());
+    }
+  }
+
+  /*
+   * A single shard is used, so that all the keys are collected in the same batch.
+   * The loading of the key "held" is blocked until released, so the next batches wait for the window.
+   */
+  private LookupBatcher createBatcher(long windowMicroSeconds, int maxKeys, LookupBatcher.BulkLoader loader) {
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .enableLookupBatching(windowMicroSeconds, maxKeys);
+    return new LookupBatcher(config, 1, keys -> {
+      batches.add(new HashSet<>(keys));
+      if (keys.contains("held")) {
+        holding.countDown();
+        assertTrue(released.await(3, TimeUnit.SECONDS));
+        return loadExceptMissing(keys);
+      }
+      return loader.load(keys);
+    });
+  }
+
+  private Future<Object> holdBatch(LookupBatcher batcher) throws InterruptedException {
+    Future<Object> result = executor.submit(() -> batcher.get("held"));
+    assertTrue(holding.await(3, TimeUnit.SECONDS));
+    return result;
+  }
+
+  private Map<String, Object> loadExceptMissing(Set<String> keys) {
+    Map<String, Object> values = new HashMap<>();
+    for (String key : keys) {
+      if (!"missing".equals(key)) {
+        values.put(key, "value:" + key);
+      }
+    }
+    return values;
+  }
+
+  /*
+   * The lookups are started together, and the first one leads the batch.
+   */
+  private List<Future<Object>> lookup(LookupBatcher batcher, String... keys) throws InterruptedException {
+    CountDownLatch ready = new CountDownLatch(1);
+    List<Future<Object>> results = new ArrayList<>();
+    results.add(executor.submit(() -> {
+      ready.countDown();
+      return batcher.get(keys[0]);
+    }));
+    assertTrue(ready.await(3, TimeUnit.SECONDS));
+    Thread.sleep(50L);
+    for (int i = 1; i < keys.length; i++) {
+      String key = keys[i];
+      results.add(executor.submit(() -> batcher.get(key)));
+    }
+    return results;
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.SerializingTranscoder;
+import net.spy.memcached.transcoders.Transcoder;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.support.NullValue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SetLeaseTranscoderTest {
+
+  private final Transcoder<Object> delegate = new NullValueTranscoder(new SerializingTranscoder());
+  private final SetLeaseTranscoder transcoder = new SetLeaseTranscoder(delegate);
+
+  @Test
+  void decodeLeaseAsNull() {
+    CachedData data = transcoder.encode(SetLeaseTranscoder.LEASE);
+
+    assertEquals(SetLeaseTranscoder.LEASE_FLAGS, data.getFlags());
+    assertEquals(0, data.getData().length);
+    assertFalse(transcoder.asyncDecode(data));
+    assertNull(transcoder.decode(data));
+  }
+
+  @Test
+  void encodeValueWithDelegate() {
+    CachedData value = transcoder.encode("VALUE");
+    CachedData nullValue = transcoder.encode(NullValue.INSTANCE);
+
+    assertEquals("VALUE", transcoder.decode(value));
+    assertEquals(NullValueTranscoder.NULL_VALUE_FLAGS, nullValue.getFlags());
+    assertSame(NullValue.INSTANCE, transcoder.decode(nullValue));
+  }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindQueueTest {
+
+  private final List<Map<String, Object>> batches = new ArrayList<>();
+  private ArcusCacheStatistics statistics;
+  private WriteBehindQueue queue;
+
+  @BeforeEach
+  void before() {
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .enableWriteBehind(10, 2, 60_000L);
+    statistics = new ArcusCacheStatistics();
+    queue = new WriteBehindQueue(config, statistics, Runnable::run, values -> batches.add(new LinkedHashMap<>(values)));
+  }
+
+  @Test
+  void flushWhenBatchSizeKeysAreQueued() {
+    // when
+    queue.offer("a", 1);
+    queue.offer("a", 2);
+    queue.offer("b", 3);
+
+    // then
+    assertEquals(1, batches.size());
+    assertEquals(2, batches.get(0).get("a"));
+    assertEquals(3, batches.get(0).get("b"));
+    assertEquals(0, statistics.getWriteBehindQueueSize());
+  }
+
+  @Test
+  void flushRemainingKeysOnStop() {
+    // given
+    queue.offer("a", 1);
+    queue.offer("b", 2);
+    queue.offer("c", 3);
+
+    // when
+    queue.stop();
+
+    // then
+    assertEquals(2, batches.size());
+    assertEquals(3, batches.get(1).get("c"));
+    assertFalse(queue.offer("d", 4));
+  }
+
+  @Test
+  void rejectNewKeyIfFull() {
+    // given
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .enableWriteBehind(2, 10, 60_000L);
+    WriteBehindQueue fullQueue = new WriteBehindQueue(config, statistics, Runnable::run, batches::add);
+    assertTrue(fullQueue.offer("a", 1));
+    assertTrue(fullQueue.offer("b", 2));
+
+    // when
+    boolean queued = fullQueue.offer("c", 3);
+
+    // then
+    assertFalse(queued);
+    assertTrue(fullQueue.offer("a", 4));
+    assertEquals(1L, statistics.getWriteBehindOverflows());
+    assertEquals(2, statistics.getWriteBehindQueueSize());
+  }
+
+  @Test
+  void waitForFlushingKeyOnRemove() throws Exception {
+    // given
+    CountDownLatch flushing = new CountDownLatch(1);
+    CountDownLatch released = new CountDownLatch(1);
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .enableWriteBehind(10, 10, 60_000L);
+    WriteBehindQueue blockingQueue = new WriteBehindQueue(config, statistics, Runnable::run, values -> {
+      flushing.countDown();
+      try {
+        assertTrue(released.await(3, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      batches.add(new LinkedHashMap<>(values));
+    });
+    blockingQueue.offer("a", 1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      executor.execute(blockingQueue::flush);
+      assertTrue(flushing.await(3, TimeUnit.SECONDS));
+
+      // when
+      Future<Object> removed = executor.submit(() -> blockingQueue.remove("a"));
+      Thread.sleep(100L);
+
+      // then
+      assertFalse(removed.isDone());
+      assertEquals(1, blockingQueue.get("a"));
+
+      // when
+      released.countDown();
+
+      // then
+      assertNull(removed.get(3, TimeUnit.SECONDS));
+      assertEquals(1, batches.size());
+      assertNull(blockingQueue.get("a"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void flushPeriodicallyInAsyncExecutor() throws Exception {
+    // given
+    CountDownLatch flushed = new CountDownLatch(1);
+    List<String> flushingThreads = new CopyOnWriteArrayList<>();
+    ArcusCacheConfiguration config = new ArcusCacheConfiguration()
+        .enableWriteBehind(10, 10, 10L);
+    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "async-executor"));
+    WriteBehindQueue scheduledQueue = new WriteBehindQueue(config, statistics, executor, values -> {
+      flushingThreads.add(Thread.currentThread().getName());
+      flushed.countDown();
+    });
+    scheduledQueue.offer("a", 1);
+
+    try {
+      // when
+      scheduledQueue.start();
+
+      // then
+      assertTrue(flushed.await(3, TimeUnit.SECONDS));
+      assertEquals(Collections.singletonList("async-executor"), flushingThreads);
+    } finally {
+      scheduledQueue.stop();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void removeQueuedKey() {
+    // given
+    assertTrue(queue.offer("a", 1));
+
+    // when
+    queue.remove("a");
+    queue.stop();
+
+    // then
+    assertTrue(batches.isEmpty());
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache.front;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CaffeineArcusFrontCacheTest {
+
+  @Test
+  void getAfterSet() {
+    // given
+    CaffeineArcusFrontCache frontCache = new CaffeineArcusFrontCache(3L);
+
+    // when
+    frontCache.set("1", 1, 60);
+    frontCache.set("2", 2, 0);
+
+    // then
+    assertEquals(1, frontCache.get("1"));
+    assertEquals(2, frontCache.get("2"));
+    assertNull(frontCache.get("3"));
+  }
+
+  @Test
+  void returnNullAfterExpireTime() throws InterruptedException {
+    // given
+    CaffeineArcusFrontCache frontCache = new CaffeineArcusFrontCache(3L);
+
+    // when
+    frontCache.set("1", 1, 1);
+    frontCache.set("2", 2, 60);
+    Thread.sleep(2000);
+
+    // then
+    assertNull(frontCache.get("1"));
+    assertEquals(2, frontCache.get("2"));
+  }
+
+  @Test
+  void renewExpireTimeIfSetAgain() throws InterruptedException {
+    // given
+    CaffeineArcusFrontCache frontCache = new CaffeineArcusFrontCache(3L);
+    frontCache.set("1", 1, 1);
+
+    // when
+    frontCache.set("1", 2, 60);
+    Thread.sleep(2000);
+
+    // then
+    assertEquals(2, frontCache.get("1"));
+  }
+
+  @Test
+  void removeIfExceedMaxWeight() {
+    // given
+    CaffeineArcusFrontCache frontCache = new CaffeineArcusFrontCache(
+        Caffeine.newBuilder().maximumWeight(10L).weigher((String key, Object value) -> (Integer) value)
+            .executor(Runnable::run));
+
+    // when
+    frontCache.set("1", 6, 60);
+    frontCache.set("2", 6, 60);
+
+    // then
+    int remains = (frontCache.get("1") != null ? 1 : 0) + (frontCache.get("2") != null ? 1 : 0);
+    assertEquals(1, remains);
+  }
+
+  @Test
+  void deleteIfSetNullValue() {
+    // given
+    CaffeineArcusFrontCache frontCache = new CaffeineArcusFrontCache(3L);
+    frontCache.set("1", 1, 60);
+
+    // when
+    frontCache.set("1", null, 60);
+
+    // then
+    assertNull(frontCache.get("1"));
+  }
+
+  @Test
+  void throwExceptionIfCaffeineHasExpiration() {
+    Caffeine<Object, Object> caffeine = Caffeine.newBuilder().expireAfterWrite(1, TimeUnit.MINUTES);
+    assertThrows(IllegalStateException.class, () -> new CaffeineArcusFrontCache(caffeine));
+  }
+
+  @Test
+  void delete() {
+    // given
+    CaffeineArcusFrontCache frontCache = new CaffeineArcusFrontCache(3L);
+    frontCache.set("1", 1, 60);
+    frontCache.set("2", 2, 60);
+
+    // when
+    frontCache.delete("1");
+
+    // then
+    assertNull(frontCache.get("1"));
+    assertEquals(2, frontCache.get("2"));
+  }
+
+  @Test
+  void clear() {
+    // given
+    CaffeineArcusFrontCache frontCache = new CaffeineArcusFrontCache(3L);
+    frontCache.set("1", 1, 60);
+    frontCache.set("2", 2, 60);
+
+    // when
+    frontCache.clear();
+
+    // then
+    assertNull(frontCache.get("1"));
+    assertNull(frontCache.get("2"));
+  }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache.front;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.spy.memcached.transcoders.SerializingTranscoder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapArcusFrontCacheTest {
+
+  @Test
+  void getAfterSet() {
+    // given
+    OffHeapArcusFrontCache frontCache = new OffHeapArcusFrontCache(1024L * 1024L);
+
+    // when
+    frontCache.set("1", 1, 60);
+    frontCache.set("2", "2", 0);
+    frontCache.set("1", 3, 60);
+
+    // then
+    assertEquals(3, frontCache.get("1"));
+    assertEquals("2", frontCache.get("2"));
+    assertNull(frontCache.get("3"));
+  }
+
+  @Test
+  void returnDifferentInstance() {
+    // given
+    OffHeapArcusFrontCache frontCache = new OffHeapArcusFrontCache(1024L * 1024L);
+    TestObject object = new TestObject(1);
+    frontCache.set("1", object, 60);
+
+    // when
+    object.value = 2;
+
+    // then
+    TestObject value = (TestObject) frontCache.get("1");
+    assertNotNull(value);
+    assertNotSame(object, value);
+    assertEquals(1, value.value);
+  }
+
+  @Test
+  void returnNullAfterExpireTime() throws InterruptedException {
+    // given
+    OffHeapArcusFrontCache frontCache = new OffHeapArcusFrontCache(1024L * 1024L);
+
+    // when
+    frontCache.set("1", 1, 1);
+    frontCache.set("2", 2, 60);
+    Thread.sleep(2000);
+
+    // then
+    assertNull(frontCache.get("1"));
+    assertEquals(2, frontCache.get("2"));
+  }
+
+  @Test
+  void removeOldestSlabIfExceedMaxBytes() {
+    // given
+    OffHeapArcusFrontCache frontCache =
+        new OffHeapArcusFrontCache(200L, 100, new SerializingTranscoder());
+    frontCache.set("1", new byte[60], 60);
+    frontCache.set("2", new byte[60], 60);
+
+    // when
+    frontCache.set("3", new byte[60], 60);
+
+    // then
+    assertNull(frontCache.get("1"));
+    assertNotNull(frontCache.get("2"));
+    assertNotNull(frontCache.get("3"));
+  }
+
+  @Test
+  void removeOldestSlabIfEmptyValuesExceedMaxBytes() {
+    // given
+    OffHeapArcusFrontCache frontCache =
+        new OffHeapArcusFrontCache(8L, 4, new SerializingTranscoder());
+    for (int i = 0; i < 8; i++) {
+      frontCache.set(String.valueOf(i), new byte[0], 60);
+    }
+
+    // when
+    frontCache.set("8", new byte[0], 60);
+
+    // then
+    assertNull(frontCache.get("0"));
+    assertNotNull(frontCache.get("4"));
+    assertNotNull(frontCache.get("8"));
+  }
+
+  @Test
+  void doNotSetIfLargerThanSlabSize() {
+    // given
+    OffHeapArcusFrontCache frontCache =
+        new OffHeapArcusFrontCache(200L, 100, new SerializingTranscoder());
+    frontCache.set("1", new byte[60], 60);
+
+    // when
+    frontCache.set("1", new byte[150], 60);
+
+    // then
+    assertNull(frontCache.get("1"));
+  }
+
+  @Test
+  void doNotSetIfNotSerializable() {
+    // given
+    OffHeapArcusFrontCache frontCache = new OffHeapArcusFrontCache(1024L * 1024L);
+
+    // when
+    frontCache.set("1", new Object(), 60);
+
+    // then
+    assertNull(frontCache.get("1"));
+  }
+
+  @Test
+  void throwExceptionIfMaxBytesIsLessThanSlabSize() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new OffHeapArcusFrontCache(100L, 200, new SerializingTranscoder()));
+  }
+
+  @Test
+  void delete() {
+    // given
+    OffHeapArcusFrontCache frontCache = new OffHeapArcusFrontCache(1024L * 1024L);
+    frontCache.set("1", 1, 60);
+    frontCache.set("2", 2, 60);
+
+    // when
+    frontCache.delete("1");
+
+    // then
+    assertNull(frontCache.get("1"));
+    assertEquals(2, frontCache.get("2"));
+  }
+
+  @Test
+  void clear() {
+    // given
+    OffHeapArcusFrontCache frontCache = new OffHeapArcusFrontCache(1024L * 1024L);
+    frontCache.set("1", 1, 60);
+    frontCache.set("2", 2, 60);
+
+    // when
+    frontCache.clear();
+
+    // then
+    assertNull(frontCache.get("1"));
+    assertNull(frontCache.get("2"));
+  }
+
+  @Test
+  void getConsistentValuesWhileSlabsAreReused() throws Exception {
+    // given
+    OffHeapArcusFrontCache frontCache =
+        new OffHeapArcusFrontCache(400L, 200, new SerializingTranscoder());
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicInteger mismatches = new AtomicInteger();
+    Thread writer = new Thread(() -> {
+      for (int i = 0; running.get(); i++) {
+        String key = String.valueOf(i % 10);
+        frontCache.set(key, key, 60);
+      }
+    });
+    writer.start();
+
+    // when
+    for (int i = 0; i < 100_000; i++) {
+      String key = String.valueOf(i % 10);
+      Object value = frontCache.get(key);
+      if (value != null && !key.equals(value)) {
+        mismatches.incrementAndGet();
+      }
+    }
+    running.set(false);
+    writer.join();
+
+    // then
+    assertEquals(0, mismatches.get());
+  }
+
+  static class TestObject implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private int value;
+
+    TestObject(int value) {
+      this.value = value;
+    }
+  }
+
+}
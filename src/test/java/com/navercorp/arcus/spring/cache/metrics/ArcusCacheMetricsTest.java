@@ -0,0 +1,97 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.arcus.spring.cache.metrics;
+
+import com.navercorp.arcus.spring.cache.ArcusCache;
+import com.navercorp.arcus.spring.cache.ArcusCacheConfiguration;
+import com.navercorp.arcus.spring.cache.ArcusCacheManager;
+import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+
+import java.util.Collections;
+
+import net.spy.memcached.ArcusClientPool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArcusCacheMetricsTest {
+
+  private ArcusClientPool arcusClientPool;
+  private ArcusFrontCache arcusFrontCache;
+  private ArcusCacheConfiguration configuration;
+  private MeterRegistry registry;
+
+  @BeforeEach
+  void before() {
+    arcusClientPool = mock(ArcusClientPool.class);
+    arcusFrontCache = mock(ArcusFrontCache.class);
+    configuration = new ArcusCacheConfiguration()
+        .withServiceId("SERVICEID")
+        .withPrefix("PREFIX")
+        .withArcusFrontCache(arcusFrontCache);
+    registry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void bindStatistics() {
+    // given
+    ArcusCache arcusCache = new ArcusCache("test", arcusClientPool, configuration);
+    ArcusCacheMetrics.monitor(registry, arcusCache, "app", "sample");
+    when(arcusFrontCache.get(arcusCache.createArcusKey("KEY")))
+        .thenReturn("VALUE");
+
+    // when
+    arcusCache.get("KEY");
+
+    // then
+    assertEquals(1.0, registry.get("cache.gets").tags("cache", "test", "app", "sample", "result", "hit")
+        .functionCounter().count());
+    assertEquals(1.0, registry.get("cache.front.hits").tag("cache", "test").functionCounter().count());
+    assertEquals(0.0, registry.get("cache.failures").tag("cache", "test").functionCounter().count());
+    assertEquals(1L, registry.get("cache.latency").tags("cache", "test", "operation", "get").timer().count());
+    assertEquals(0L, registry.get("cache.latency").tags("cache", "test", "operation", "put").timer().count());
+  }
+
+  @Test
+  void bindCachesOfCacheManager() {
+    // given
+    ArcusCacheManager cacheManager = new ArcusCacheManager(arcusClientPool, configuration,
+        Collections.singletonMap("initial", configuration));
+    cacheManager.afterPropertiesSet();
+
+    // when
+    ArcusCacheMetrics.monitor(registry, cacheManager, Tags.empty());
+    assertNotNull(cacheManager.getCache("missing"));
+
+    // then
+    assertNotNull(registry.find("cache.gets").tag("cache", "initial").functionCounter());
+    assertNotNull(registry.find("cache.gets").tag("cache", "missing").functionCounter());
+    assertEquals(2, registry.find("cache.front.hits").functionCounters().size());
+  }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * arcus-spring - Arcus as a caching provider for the Spring Cache Abstraction
+ * Copyright 2021 JaM2in Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.arcus.spring.cache.tracing;
+
+import com.navercorp.arcus.spring.cache.ArcusCache;
+import com.navercorp.arcus.spring.cache.ArcusCacheConfiguration;
+import com.navercorp.arcus.spring.cache.front.ArcusFrontCache;
+
+import java.util.List;
+
+import net.spy.memcached.ArcusClientPool;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OpenTelemetryArcusCacheTracerTest {
+
+  private InMemorySpanExporter exporter;
+  private Tracer tracer;
+  private ArcusClientPool arcusClientPool;
+  private ArcusFrontCache arcusFrontCache;
+  private ArcusCache arcusCache;
+
+  @BeforeEach
+  void before() {
+    exporter = InMemorySpanExporter.create();
+    tracer = SdkTracerProvider.builder()
+        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+        .build()
+        .get(OpenTelemetryArcusCacheTracer.INSTRUMENTATION_NAME);
+    arcusClientPool = mock(ArcusClientPool.class);
+    arcusFrontCache = mock(ArcusFrontCache.class);
+    ArcusCacheConfiguration configuration = new ArcusCacheConfiguration()
+        .withServiceId("SERVICEID")
+        .withPrefix("PREFIX")
+        .withArcusFrontCache(arcusFrontCache)
+        .withTracer(new OpenTelemetryArcusCacheTracer(tracer));
+    arcusCache = new ArcusCache("test", arcusClientPool, configuration);
+  }
+
+  @Test
+  void traceFrontCacheHit() {
+    // given
+    String arcusKey = arcusCache.createArcusKey("KEY");
+    when(arcusFrontCache.get(arcusKey))
+        .thenReturn("VALUE");
+
+    // when
+    arcusCache.get("KEY");
+
+    // then
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    assertEquals(1, spans.size());
+    SpanData span = spans.get(0);
+    assertEquals("arcus.cache.get", span.getName());
+    assertEquals("test", span.getAttributes().get(AttributeKey.stringKey(ArcusCacheSpan.CACHE_NAME)));
+    assertEquals("front", span.getAttributes().get(AttributeKey.stringKey(ArcusCacheSpan.HIT)));
+    assertEquals("success", span.getAttributes().get(AttributeKey.stringKey(ArcusCacheSpan.OUTCOME)));
+    assertEquals((long) arcusKey.length(),
+        span.getAttributes().get(AttributeKey.longKey(ArcusCacheSpan.KEY_LENGTH)));
+  }
+
+  @Test
+  void traceLoaderAsParentOfSpansInLoader() {
+    // given
+    String arcusKey = arcusCache.createArcusKey("KEY");
+    when(arcusClientPool.asyncGet(arcusKey))
+        .thenThrow(new IllegalStateException());
+
+    // when
+    arcusCache.get("KEY", () -> {
+      tracer.spanBuilder("loader").startSpan().end();
+      return "VALUE";
+    });
+
+    // then
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    SpanData get = findSpan(spans, "arcus.cache.get");
+    SpanData load = findSpan(spans, "arcus.cache.load");
+    SpanData loader = findSpan(spans, "loader");
+    assertEquals("failure", get.getAttributes().get(AttributeKey.stringKey(ArcusCacheSpan.OUTCOME)));
+    assertEquals(StatusCode.ERROR, get.getStatus().getStatusCode());
+    assertEquals(load.getSpanId(), loader.getParentSpanId());
+    assertEquals("success", load.getAttributes().get(AttributeKey.stringKey(ArcusCacheSpan.OUTCOME)));
+    assertEquals(Span.getInvalid(), Span.current());
+  }
+
+  @Test
+  void traceLoaderFailure() {
+    // given
+    arcusCache.getCacheConfiguration().enableGettingException();
+    when(arcusClientPool.asyncGet(arcusCache.createArcusKey("KEY")))
+        .thenThrow(new IllegalStateException());
+
+    // when
+    assertThrows(IllegalStateException.class, () -> arcusCache.get("KEY", () -> "VALUE"));
+
+    // then
+    SpanData get = findSpan(exporter.getFinishedSpanItems(), "arcus.cache.get");
+    assertEquals("failure", get.getAttributes().get(AttributeKey.stringKey(ArcusCacheSpan.OUTCOME)));
+    assertEquals(1, get.getEvents().size());
+  }
+
+  private static SpanData findSpan(List<SpanData> spans, String name) {
+    return spans.stream()
+        .filter(span -> span.getName().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("no span: " + name));
+  }
+
+}